@@ -1,7 +1,10 @@
 package be.wiserisk.hlabmonitor.monitor.application.port.in.execution;
 
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
 import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
 
 public interface ExecuteCheckUseCase {
     void executeCheck(TargetId target);
+    TargetResult executeCheck(Target target);
 }
@@ -1,11 +1,18 @@
 package be.wiserisk.hlabmonitor.monitor.application.port.in.query;
 
+import be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution;
 import be.wiserisk.hlabmonitor.monitor.domain.model.*;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface GetCheckResultsUseCase {
     List<TargetResult> getAllResults();
     PageResponse<TargetResult> getFilteredResults(CheckResultsFilter filter, PageRequest pageRequest);
-    List<TargetResult> getTargetIdResults(TargetId targetId);
+    PageResponse<TargetResult> getFilteredResults(CheckResultsFilter filter, CursorPageRequest pageRequest);
+    void exportFilteredResults(CheckResultsFilter filter, Consumer<TargetResult> consumer);
+    List<TargetResult> getTargetIdResults(TargetId targetId, Instant from, Instant to, int limit);
+    List<TargetResult> getDownsampledTargetIdResults(TargetId targetId, Instant from, Instant to, int points);
+    List<ResultRollup> getResultRollups(List<TargetId> targetIds, RollupResolution resolution, Instant from, Instant to);
 }
@@ -3,8 +3,11 @@ package be.wiserisk.hlabmonitor.monitor.application.port.in.query;
 import be.wiserisk.hlabmonitor.monitor.domain.enums.StatisticType;
 import be.wiserisk.hlabmonitor.monitor.domain.model.Statistics;
 
+import java.time.Duration;
 import java.util.List;
 
 public interface GetCheckStatisticsUseCase {
     Statistics getStatistics(List<StatisticType> statisticTypes);
+
+    Statistics getStatistics(List<StatisticType> statisticTypes, Duration window);
 }
@@ -0,0 +1,7 @@
+package be.wiserisk.hlabmonitor.monitor.application.port.in.query;
+
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetStatusSnapshot;
+
+public interface GetTargetStatusUseCase {
+    TargetStatusSnapshot getTargetStatuses();
+}
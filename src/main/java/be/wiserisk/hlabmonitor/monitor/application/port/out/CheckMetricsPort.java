@@ -0,0 +1,11 @@
+package be.wiserisk.hlabmonitor.monitor.application.port.out;
+
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
+
+import java.time.Duration;
+
+public interface CheckMetricsPort {
+    void recordCheck(Target target, TargetResult targetResult, Duration duration);
+    void recordSave(Duration duration);
+}
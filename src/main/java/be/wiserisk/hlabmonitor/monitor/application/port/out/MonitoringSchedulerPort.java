@@ -2,7 +2,10 @@ package be.wiserisk.hlabmonitor.monitor.application.port.out;
 
 import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
 
+import java.time.Duration;
+
 public interface MonitoringSchedulerPort {
     ScheduleHandle scheduleTarget(Target target, CheckTriggerCallback callback);
+    void reschedule(ScheduleHandle handle, Duration interval);
     void unschedule(ScheduleHandle handle);
 }
@@ -2,9 +2,13 @@ package be.wiserisk.hlabmonitor.monitor.application.port.out;
 
 import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
 import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType;
+import be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution;
 import be.wiserisk.hlabmonitor.monitor.domain.model.*;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface PersistencePort {
     void saveResult(TargetResult targetResult);
@@ -15,7 +19,13 @@ public interface PersistencePort {
 
     PageResponse<TargetResult> getAllResultsFilteredBy(CheckResultsFilter filter, PageRequest pageRequest);
 
-    List<TargetResult> getAllTargetResultsByTargetId(TargetId targetId);
+    PageResponse<TargetResult> getAllResultsFilteredBy(CheckResultsFilter filter, CursorPageRequest pageRequest);
+
+    void forEachResultFilteredBy(CheckResultsFilter filter, Consumer<TargetResult> consumer);
+
+    List<TargetResult> getTargetResults(TargetId targetId, Instant from, Instant to, int limit);
+
+    List<TargetResult> getLatestResultPerTarget();
 
     boolean isTargetIdExist(TargetId targetId);
 
@@ -36,4 +46,14 @@ public interface PersistencePort {
     Long countLast24hResults();
 
     Long countLast24hResults(MonitoringResult monitoringResult);
+
+    Map<MonitoringType, Long> countTargetsByType();
+
+    Map<MonitoringResult, Long> countLast24hResultsByResult();
+
+    List<ResultCount> countResultsByMinuteSince(Instant from);
+
+    List<ResultRollup> getResultRollups(List<TargetId> targetIds, RollupResolution resolution, Instant from, Instant to);
+
+    Map<MonitoringResult, Long> countRolledUpResults(RollupResolution resolution, Instant from);
 }
@@ -0,0 +1,35 @@
+package be.wiserisk.hlabmonitor.monitor.domain.enums;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+public enum RollupResolution {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupResolution(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public static RollupResolution forWindow(Duration window) {
+        if (window.compareTo(Duration.ofDays(1L)) <= 0) {
+            return MINUTE;
+        }
+        if (window.compareTo(Duration.ofDays(30L)) <= 0) {
+            return HOUR;
+        }
+        return DAY;
+    }
+
+    public Duration duration() {
+        return unit.getDuration();
+    }
+
+    public Instant bucketStart(Instant instant) {
+        return instant.truncatedTo(unit);
+    }
+}
@@ -0,0 +1,68 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.SUCCESS;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.CERTIFICATE;
+
+// Interval of one scheduled target. A failing target is checked at its lower bound until it recovers, a target
+// that stays healthy is checked half as often after each series of successes, up to its upper bound
+public class AdaptiveInterval {
+
+    static final int STABLE_CHECKS = 5;
+
+    private final Target target;
+    private Duration current;
+    private int stableChecks;
+
+    public AdaptiveInterval(Target target) {
+        this.target = target;
+        this.current = target.interval();
+    }
+
+    public synchronized Duration current() {
+        return current;
+    }
+
+    // Returns true when the target has to be rescheduled with the current interval
+    public synchronized boolean update(MonitoringResult result) {
+        if (target.interval() == null) {
+            return false;
+        }
+        Duration next = target.type() == CERTIFICATE ? certificateInterval(result) : boundedInterval(result);
+        if (next.equals(current)) {
+            return false;
+        }
+        current = next;
+        return true;
+    }
+
+    private Duration certificateInterval(MonitoringResult result) {
+        ExpiryThresholds thresholds = Objects.requireNonNullElse(target.expiryThresholds(), ExpiryThresholds.DEFAULT);
+        return thresholds.intervalFor(result, target.interval());
+    }
+
+    private Duration boundedInterval(MonitoringResult result) {
+        IntervalBounds bounds = target.intervalBounds();
+        if (bounds == null) {
+            return current;
+        }
+        if (result != SUCCESS) {
+            stableChecks = 0;
+            return bounds.min();
+        }
+        if (current.compareTo(target.interval()) < 0) {
+            stableChecks = 0;
+            return target.interval();
+        }
+        if (++stableChecks < STABLE_CHECKS || current.compareTo(bounds.max()) >= 0) {
+            return current;
+        }
+        stableChecks = 0;
+        Duration doubled = current.multipliedBy(2);
+        return doubled.compareTo(bounds.max()) > 0 ? bounds.max() : doubled;
+    }
+}
@@ -0,0 +1,11 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import java.time.Duration;
+
+// Phases are null when the check cannot observe them
+public record CheckTimings(Duration total, Duration dns, Duration connect, Duration tls) {
+
+    public static CheckTimings total(Duration total) {
+        return new CheckTimings(total, null, null, null);
+    }
+}
@@ -0,0 +1,4 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+public record CursorPageRequest(String cursor, int size, boolean withTotal) {
+}
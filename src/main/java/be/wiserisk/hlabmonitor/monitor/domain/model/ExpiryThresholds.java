@@ -0,0 +1,36 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
+
+import java.time.Duration;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.FAILURE;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.SUCCESS;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.WARNING;
+
+public record ExpiryThresholds(Duration warning, Duration critical) {
+
+    public static final Duration DEFAULT_WARNING = Duration.ofDays(21L);
+    public static final Duration DEFAULT_CRITICAL = Duration.ofDays(7L);
+    public static final ExpiryThresholds DEFAULT = new ExpiryThresholds(DEFAULT_WARNING, DEFAULT_CRITICAL);
+
+    static final Duration WARNING_INTERVAL = Duration.ofHours(6L);
+    static final Duration CRITICAL_INTERVAL = Duration.ofHours(1L);
+
+    public MonitoringResult resultFor(Duration remaining) {
+        if (remaining.compareTo(critical) <= 0) {
+            return FAILURE;
+        }
+        return remaining.compareTo(warning) <= 0 ? WARNING : SUCCESS;
+    }
+
+    // Healthy certificates keep their own interval, the closer to expiry the more often they are checked
+    public Duration intervalFor(MonitoringResult result, Duration interval) {
+        Duration limit = switch (result) {
+            case SUCCESS -> interval;
+            case WARNING -> WARNING_INTERVAL;
+            default -> CRITICAL_INTERVAL;
+        };
+        return interval.compareTo(limit) > 0 ? limit : interval;
+    }
+}
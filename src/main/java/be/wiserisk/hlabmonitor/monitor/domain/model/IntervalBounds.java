@@ -0,0 +1,6 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import java.time.Duration;
+
+public record IntervalBounds(Duration min, Duration max) {
+}
@@ -6,5 +6,12 @@ public record PageResponse<T>(List<T> content,
                               int page,
                               int size,
                               long totalElements,
-                              boolean hasNext) {
-}
\ No newline at end of file
+                              boolean hasNext,
+                              String nextCursor) {
+
+    public static final long UNKNOWN_TOTAL = -1L;
+
+    public PageResponse(List<T> content, int page, int size, long totalElements, boolean hasNext) {
+        this(content, page, size, totalElements, hasNext, null);
+    }
+}
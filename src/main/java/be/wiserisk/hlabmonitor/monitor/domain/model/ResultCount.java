@@ -0,0 +1,8 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
+
+import java.time.Instant;
+
+public record ResultCount(Instant minute, MonitoringResult result, long count) {
+}
@@ -0,0 +1,55 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+public class ResultDownsampler {
+
+    private final Instant from;
+    private final long bucketNanos;
+    private final TargetResult[] buckets;
+
+    public ResultDownsampler(Instant from, Instant to, int points) {
+        if (points <= 0) {
+            throw new IllegalArgumentException("points must be positive");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        this.from = from;
+        this.bucketNanos = Math.max(1L, Duration.between(from, to).toNanos() / points);
+        this.buckets = new TargetResult[points];
+    }
+
+    public void add(TargetResult targetResult) {
+        long offset = Duration.between(from, targetResult.checkedAt()).toNanos();
+        if (offset < 0) {
+            return;
+        }
+        int bucket = (int) Math.min(buckets.length - 1, offset / bucketNanos);
+        TargetResult current = buckets[bucket];
+        // Keep the worst result of the bucket so an outage never disappears from a chart
+        if (current == null || severity(targetResult.result()) >= severity(current.result())) {
+            buckets[bucket] = targetResult;
+        }
+    }
+
+    public List<TargetResult> results() {
+        return Arrays.stream(buckets).filter(Objects::nonNull).toList();
+    }
+
+    private static int severity(MonitoringResult result) {
+        return switch (result) {
+            case SUCCESS -> 0;
+            case UNKNOWN -> 1;
+            case WARNING -> 2;
+            case FAILURE -> 3;
+            case ERROR -> 4;
+        };
+    }
+}
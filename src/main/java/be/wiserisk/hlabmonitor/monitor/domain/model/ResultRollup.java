@@ -0,0 +1,18 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
+import be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record ResultRollup(TargetId id, RollupResolution resolution, Instant bucketStart, Map<MonitoringResult, Long> counts, RollupLatency latency) {
+
+    public ResultRollup(TargetId id, RollupResolution resolution, Instant bucketStart, Map<MonitoringResult, Long> counts) {
+        this(id, resolution, bucketStart, counts, null);
+    }
+
+    public long total() {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
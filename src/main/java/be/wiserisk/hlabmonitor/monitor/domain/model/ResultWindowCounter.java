@@ -0,0 +1,110 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class ResultWindowCounter {
+
+    public static final Duration LAST_HOUR = Duration.ofHours(1L);
+    public static final Duration LAST_DAY = Duration.ofDays(1L);
+    public static final Duration LAST_WEEK = Duration.ofDays(7L);
+
+    private static final int BUCKETS = (int) LAST_WEEK.toMinutes();
+    private static final MonitoringResult[] RESULTS = MonitoringResult.values();
+    private static final long RESETTING = -1L;
+
+    // One slot per minute of the last week, indexed by epoch minute modulo BUCKETS.
+    // minutes holds the epoch minute a slot currently counts, counts holds one cell per result.
+    private final AtomicLongArray minutes = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS * RESULTS.length);
+    private final Clock clock;
+
+    public ResultWindowCounter() {
+        this(Clock.systemUTC());
+    }
+
+    public ResultWindowCounter(Clock clock) {
+        this.clock = clock;
+    }
+
+    public void record(TargetResult targetResult) {
+        record(targetResult.result(), targetResult.checkedAt(), 1L);
+    }
+
+    public void seed(List<ResultCount> resultCounts) {
+        resultCounts.forEach(resultCount -> record(resultCount.result(), resultCount.minute(), resultCount.count()));
+    }
+
+    public boolean covers(Duration window) {
+        return window.toMinutes() <= BUCKETS;
+    }
+
+    public Map<MonitoringResult, Long> count(Duration window) {
+        long now = epochMinute(clock.instant());
+        long span = Math.clamp(window.toMinutes(), 1L, BUCKETS);
+        long[] totals = new long[RESULTS.length];
+        for (long minute = now - span + 1; minute <= now; minute++) {
+            int slot = slot(minute);
+            if (minutes.get(slot) != minute) {
+                continue;
+            }
+            for (int i = 0; i < RESULTS.length; i++) {
+                totals[i] += counts.get(slot * RESULTS.length + i);
+            }
+        }
+        Map<MonitoringResult, Long> result = new EnumMap<>(MonitoringResult.class);
+        for (MonitoringResult monitoringResult : RESULTS) {
+            result.put(monitoringResult, totals[monitoringResult.ordinal()]);
+        }
+        return result;
+    }
+
+    private void record(MonitoringResult result, Instant checkedAt, long count) {
+        long minute = epochMinute(checkedAt);
+        if (minute <= epochMinute(clock.instant()) - BUCKETS) {
+            return;
+        }
+        int slot = slot(minute);
+        if (claim(slot, minute)) {
+            counts.addAndGet(slot * RESULTS.length + result.ordinal(), count);
+        }
+    }
+
+    private boolean claim(int slot, long minute) {
+        while (true) {
+            long current = minutes.get(slot);
+            if (current == RESETTING) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (current == minute) {
+                return true;
+            }
+            if (current > minute) {
+                return false;
+            }
+            if (minutes.compareAndSet(slot, current, RESETTING)) {
+                for (int i = 0; i < RESULTS.length; i++) {
+                    counts.set(slot * RESULTS.length + i, 0L);
+                }
+                minutes.set(slot, minute);
+                return true;
+            }
+        }
+    }
+
+    private static int slot(long minute) {
+        return (int) Math.floorMod(minute, BUCKETS);
+    }
+
+    private static long epochMinute(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), 60L);
+    }
+}
@@ -0,0 +1,7 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import java.time.Duration;
+
+// Check durations of the results of a rollup bucket, count is the number of results that carried a duration
+public record RollupLatency(long count, Duration min, Duration avg, Duration max, Duration p95) {
+}
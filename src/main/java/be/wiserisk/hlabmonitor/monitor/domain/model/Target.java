@@ -4,4 +4,18 @@ import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType;
 
 import java.time.Duration;
 
-public record Target(TargetId id, MonitoringType type, String target, Duration interval) {}
\ No newline at end of file
+public record Target(TargetId id, MonitoringType type, String target, Duration interval, ExpiryThresholds expiryThresholds, IntervalBounds intervalBounds) {
+
+    public Target(TargetId id, MonitoringType type, String target, Duration interval) {
+        this(id, type, target, interval, null, null);
+    }
+
+    // Targets of the same type on the same endpoint run the same probe, whatever their id
+    public String endpoint() {
+        return type + " " + target;
+    }
+
+    public Target withInterval(Duration interval) {
+        return new Target(id, type, target, interval, expiryThresholds, intervalBounds);
+    }
+}
@@ -4,9 +4,21 @@ import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
 
 import java.time.Instant;
 
-public record TargetResult(TargetId id, MonitoringResult result, String message, Instant checkedAt) {
+public record TargetResult(TargetId id, MonitoringResult result, String message, Instant checkedAt, CheckTimings timings) {
 
     public TargetResult(TargetId id, MonitoringResult result, String message) {
         this(id, result, message, Instant.now());
     }
+
+    public TargetResult(TargetId id, MonitoringResult result, String message, Instant checkedAt) {
+        this(id, result, message, checkedAt, null);
+    }
+
+    public TargetResult withId(TargetId id) {
+        return new TargetResult(id, result, message, checkedAt, timings);
+    }
+
+    public TargetResult withTimings(CheckTimings timings) {
+        return new TargetResult(id, result, message, checkedAt, timings);
+    }
 }
@@ -0,0 +1,6 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import java.time.Instant;
+
+public record TargetStatus(TargetId id, TargetResult lastResult, int consecutiveFailures, Instant lastStateChange) {
+}
@@ -0,0 +1,54 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TargetStatusRegistry {
+
+    private final Map<TargetId, TargetStatus> statuses = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    // Distinguishes versions of two runs so a client cache never matches after a restart
+    private final long epoch = System.currentTimeMillis();
+
+    public void record(TargetResult targetResult) {
+        statuses.compute(targetResult.id(), (id, previous) -> next(previous, targetResult));
+        version.incrementAndGet();
+    }
+
+    public void warm(List<TargetResult> latestResults) {
+        latestResults.forEach(targetResult -> statuses.merge(targetResult.id(),
+                new TargetStatus(targetResult.id(), targetResult, isFailure(targetResult.result()) ? 1 : 0, null),
+                (current, warmed) -> current.lastResult().checkedAt().isBefore(warmed.lastResult().checkedAt()) ? warmed : current));
+        version.incrementAndGet();
+    }
+
+    public TargetStatusSnapshot snapshot() {
+        // Read the version first so a snapshot is never older than the version it is served with
+        String currentVersion = epoch + "-" + version.get();
+        List<TargetStatus> current = statuses.values().stream()
+                .sorted(Comparator.comparing(status -> status.id().id()))
+                .toList();
+        return new TargetStatusSnapshot(currentVersion, current);
+    }
+
+    private static TargetStatus next(TargetStatus previous, TargetResult targetResult) {
+        if (previous == null) {
+            return new TargetStatus(targetResult.id(), targetResult, isFailure(targetResult.result()) ? 1 : 0, targetResult.checkedAt());
+        }
+        if (targetResult.checkedAt().isBefore(previous.lastResult().checkedAt())) {
+            return previous;
+        }
+        int consecutiveFailures = isFailure(targetResult.result()) ? previous.consecutiveFailures() + 1 : 0;
+        boolean changed = targetResult.result() != previous.lastResult().result();
+        return new TargetStatus(targetResult.id(), targetResult, consecutiveFailures, changed ? targetResult.checkedAt() : previous.lastStateChange());
+    }
+
+    private static boolean isFailure(MonitoringResult result) {
+        return result == MonitoringResult.FAILURE || result == MonitoringResult.ERROR;
+    }
+}
@@ -0,0 +1,6 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import java.util.List;
+
+public record TargetStatusSnapshot(String version, List<TargetStatus> statuses) {
+}
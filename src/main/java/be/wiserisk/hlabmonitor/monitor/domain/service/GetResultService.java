@@ -2,14 +2,22 @@ package be.wiserisk.hlabmonitor.monitor.domain.service;
 
 import be.wiserisk.hlabmonitor.monitor.application.port.in.query.GetCheckResultsUseCase;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.PersistencePort;
+import be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution;
 import be.wiserisk.hlabmonitor.monitor.domain.model.*;
 import lombok.AllArgsConstructor;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 
 @AllArgsConstructor
 public class GetResultService implements GetCheckResultsUseCase {
 
+    public static final Duration DEFAULT_ROLLUP_RANGE = Duration.ofDays(7L);
+    public static final Duration DEFAULT_TARGET_RESULTS_RANGE = Duration.ofDays(1L);
+    public static final int MAX_TARGET_RESULTS = 10_000;
+
     PersistencePort persistencePort;
 
     @Override
@@ -23,11 +31,47 @@ public class GetResultService implements GetCheckResultsUseCase {
     }
 
     @Override
-    public List<TargetResult> getTargetIdResults(TargetId targetId) {
+    public PageResponse<TargetResult> getFilteredResults(CheckResultsFilter filter, CursorPageRequest pageRequest) {
+        return persistencePort.getAllResultsFilteredBy(filter, pageRequest);
+    }
+
+    @Override
+    public void exportFilteredResults(CheckResultsFilter filter, Consumer<TargetResult> consumer) {
+        persistencePort.forEachResultFilteredBy(filter, consumer);
+    }
+
+    @Override
+    public List<TargetResult> getTargetIdResults(TargetId targetId, Instant from, Instant to, int limit) {
+        checkTargetIdExist(targetId);
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        Instant end = to == null ? Instant.now() : to;
+        Instant start = from == null ? end.minus(DEFAULT_TARGET_RESULTS_RANGE) : from;
+        return persistencePort.getTargetResults(targetId, start, end, Math.min(limit, MAX_TARGET_RESULTS));
+    }
+
+    @Override
+    public List<TargetResult> getDownsampledTargetIdResults(TargetId targetId, Instant from, Instant to, int points) {
+        checkTargetIdExist(targetId);
+        Instant end = to == null ? Instant.now() : to;
+        Instant start = from == null ? end.minus(DEFAULT_TARGET_RESULTS_RANGE) : from;
+        ResultDownsampler downsampler = new ResultDownsampler(start, end, Math.min(points, MAX_TARGET_RESULTS));
+        persistencePort.forEachResultFilteredBy(new CheckResultsFilter(start, end, List.of(targetId), null, null), downsampler::add);
+        return downsampler.results();
+    }
+
+    private void checkTargetIdExist(TargetId targetId) {
         if(!persistencePort.isTargetIdExist(targetId)) {
             //Use dedicated exception
             throw new RuntimeException("Target id not found");
         }
-        return persistencePort.getAllTargetResultsByTargetId(targetId);
+    }
+
+    @Override
+    public List<ResultRollup> getResultRollups(List<TargetId> targetIds, RollupResolution resolution, Instant from, Instant to) {
+        Instant end = to == null ? Instant.now() : to;
+        Instant start = from == null ? end.minus(DEFAULT_ROLLUP_RANGE) : from;
+        return persistencePort.getResultRollups(targetIds, resolution, start, end);
     }
 }
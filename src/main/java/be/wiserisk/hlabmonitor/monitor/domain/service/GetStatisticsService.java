@@ -4,12 +4,14 @@ import be.wiserisk.hlabmonitor.monitor.application.port.in.query.GetCheckStatist
 import be.wiserisk.hlabmonitor.monitor.application.port.out.PersistencePort;
 import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
 import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType;
+import be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution;
 import be.wiserisk.hlabmonitor.monitor.domain.enums.StatisticType;
 import be.wiserisk.hlabmonitor.monitor.domain.model.*;
 import lombok.AllArgsConstructor;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -20,40 +22,61 @@ import static be.wiserisk.hlabmonitor.monitor.domain.enums.StatisticType.*;
 @AllArgsConstructor
 public class GetStatisticsService implements GetCheckStatisticsUseCase {
 
+    private static final List<StatisticType> RESULT_STATISTICS = List.of(RESULT, RESULT_SUCCESS, RESULT_FAILURE, RESULT_WARNING, RESULT_ERROR);
+    private static final List<StatisticType> TARGET_STATISTICS = List.of(TARGET, TARGET_PING, TARGET_CERTIFICATE, TARGET_HTTP, TARGET_SPEEDTEST);
+
     PersistencePort persistencePort;
+    ResultWindowCounter resultWindowCounter;
 
     @Override
     public Statistics getStatistics(List<StatisticType> statisticTypes) {
-        Map<StatisticType, Long> statistics;
+        return getStatistics(statisticTypes, null);
+    }
+
+    @Override
+    public Statistics getStatistics(List<StatisticType> statisticTypes, Duration window) {
+        List<StatisticType> requested;
         if(statisticTypes == null || statisticTypes.isEmpty() || statisticTypes.contains(GENERAL))
-            statistics = getAllStatistics();
-        else {
-            statistics = new HashMap<>();
-            statisticTypes.forEach(statisticType -> statistics.put(statisticType, getStatisticsFor(statisticType)));
-        }
+            requested = Arrays.stream(values()).filter(s -> !s.equals(GENERAL)).toList();
+        else
+            requested = statisticTypes.stream().distinct().toList();
+
+        Map<MonitoringResult, Long> resultCounts = requested.stream().anyMatch(RESULT_STATISTICS::contains) ? countResults(window) : Map.of();
+        Map<MonitoringType, Long> targetCounts = requested.stream().anyMatch(TARGET_STATISTICS::contains) ? persistencePort.countTargetsByType() : Map.of();
+        Map<StatisticType, Long> statistics = requested.stream().collect(Collectors.toMap(Function.identity(), statisticType -> getStatisticsFor(statisticType, resultCounts, targetCounts)));
         return new Statistics(GENERAL, statistics);
     }
 
-    private Map<StatisticType, Long> getAllStatistics() {
-        return Arrays.stream(values()).filter(s -> !s.equals(GENERAL)).collect(Collectors.toMap(Function.identity(), this::getStatisticsFor));
+    private Map<MonitoringResult, Long> countResults(Duration window) {
+        if (window == null) {
+            return resultWindowCounter.count(ResultWindowCounter.LAST_DAY);
+        }
+        if (resultWindowCounter.covers(window)) {
+            return resultWindowCounter.count(window);
+        }
+        return persistencePort.countRolledUpResults(RollupResolution.forWindow(window), Instant.now().minus(window));
     }
 
-    private Long getStatisticsFor(StatisticType statisticType) {
+    private Long getStatisticsFor(StatisticType statisticType, Map<MonitoringResult, Long> resultCounts, Map<MonitoringType, Long> targetCounts) {
         return switch (statisticType) {
-            case TARGET -> persistencePort.countTarget();
-            case RESULT -> persistencePort.countLast24hResults();
+            case TARGET -> sum(targetCounts);
+            case RESULT -> sum(resultCounts);
             case NOTIFICATION -> -1L;
-            case RESULT_SUCCESS -> persistencePort.countLast24hResults(MonitoringResult.SUCCESS);
-            case RESULT_FAILURE -> persistencePort.countLast24hResults(MonitoringResult.FAILURE);
-            case RESULT_WARNING -> persistencePort.countLast24hResults(MonitoringResult.WARNING);
-            case RESULT_ERROR -> persistencePort.countLast24hResults(MonitoringResult.ERROR);
-            case TARGET_PING -> persistencePort.countTarget(MonitoringType.PING);
-            case TARGET_CERTIFICATE -> persistencePort.countTarget(MonitoringType.CERTIFICATE);
-            case TARGET_HTTP -> persistencePort.countTarget(MonitoringType.HTTP);
-            case TARGET_SPEEDTEST -> persistencePort.countTarget(MonitoringType.SPEEDTEST);
+            case RESULT_SUCCESS -> resultCounts.getOrDefault(MonitoringResult.SUCCESS, 0L);
+            case RESULT_FAILURE -> resultCounts.getOrDefault(MonitoringResult.FAILURE, 0L);
+            case RESULT_WARNING -> resultCounts.getOrDefault(MonitoringResult.WARNING, 0L);
+            case RESULT_ERROR -> resultCounts.getOrDefault(MonitoringResult.ERROR, 0L);
+            case TARGET_PING -> targetCounts.getOrDefault(MonitoringType.PING, 0L);
+            case TARGET_CERTIFICATE -> targetCounts.getOrDefault(MonitoringType.CERTIFICATE, 0L);
+            case TARGET_HTTP -> targetCounts.getOrDefault(MonitoringType.HTTP, 0L);
+            case TARGET_SPEEDTEST -> targetCounts.getOrDefault(MonitoringType.SPEEDTEST, 0L);
             case NOTIFICATION_SEND -> -1L;
             case NOTIFICATION_TRIGGER -> -1L;
             default -> throw new UnsupportedOperationException("Unsupported statistic type: " + statisticType);
         };
     }
+
+    private static Long sum(Map<?, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
 }
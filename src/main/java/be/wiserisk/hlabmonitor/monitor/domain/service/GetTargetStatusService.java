@@ -0,0 +1,17 @@
+package be.wiserisk.hlabmonitor.monitor.domain.service;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.in.query.GetTargetStatusUseCase;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetStatusRegistry;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetStatusSnapshot;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public class GetTargetStatusService implements GetTargetStatusUseCase {
+
+    TargetStatusRegistry targetStatusRegistry;
+
+    @Override
+    public TargetStatusSnapshot getTargetStatuses() {
+        return targetStatusRegistry.snapshot();
+    }
+}
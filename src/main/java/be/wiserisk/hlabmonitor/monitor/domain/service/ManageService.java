@@ -5,13 +5,18 @@ import be.wiserisk.hlabmonitor.monitor.application.port.in.management.ManageMoni
 import be.wiserisk.hlabmonitor.monitor.application.port.out.MonitoringSchedulerPort;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.PersistencePort;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.ScheduleHandle;
+import be.wiserisk.hlabmonitor.monitor.domain.model.AdaptiveInterval;
 import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
 import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
 import lombok.AllArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 @AllArgsConstructor
 public class ManageService implements ManageMonitoringConfigUseCase {
@@ -21,6 +26,8 @@ public class ManageService implements ManageMonitoringConfigUseCase {
     private final ExecuteCheckUseCase executeCheckUseCase;
 
     private final Map<String, ScheduleHandle> activeSchedules = new ConcurrentHashMap<>();
+    // The persisted target only keeps its id, type and endpoint: interval, thresholds and bounds live here
+    private final Map<String, Target> configuredTargets = new ConcurrentHashMap<>();
 
     @Override
     public void syncFullConfiguration(List<Target> targetList) {
@@ -56,10 +63,12 @@ public class ManageService implements ManageMonitoringConfigUseCase {
 
     private void updateExistingTarget(Target target) {
         persistencePort.updateTarget(target);
+        configuredTargets.put(target.id().id(), target);
     }
 
     private void saveNewTarget(Target target) {
         persistencePort.createTarget(target);
+        configuredTargets.put(target.id().id(), target);
     }
 
     @Override
@@ -81,12 +90,24 @@ public class ManageService implements ManageMonitoringConfigUseCase {
 
     @Override
     public void resumeMonitoring(TargetId targetId) {
-        scheduleTargetMonitoring(persistencePort.getTarget(targetId));
+        Target target = configuredTargets.get(targetId.id());
+        scheduleTargetMonitoring(target != null ? target : persistencePort.getTarget(targetId));
     }
 
     @Override
     public void reloadAllMonitoring() {
-        refreshMonitoredTargets(persistencePort.getAllTargets(getAllActiveTargets()));
+        List<TargetId> activeTargets = getAllActiveTargets();
+        List<TargetId> unknownTargets = activeTargets.stream()
+                .filter(targetId -> !configuredTargets.containsKey(targetId.id()))
+                .toList();
+        List<Target> targets = new ArrayList<>(activeTargets.stream()
+                .map(targetId -> configuredTargets.get(targetId.id()))
+                .filter(Objects::nonNull)
+                .toList());
+        if (!unknownTargets.isEmpty()) {
+            targets.addAll(persistencePort.getAllTargets(unknownTargets));
+        }
+        refreshMonitoredTargets(targets);
     }
 
     private List<TargetId> getAllActiveTargets() {
@@ -98,10 +119,21 @@ public class ManageService implements ManageMonitoringConfigUseCase {
     }
 
     void scheduleTargetMonitoring(Target target) {
-        ScheduleHandle handle = schedulerPort.scheduleTarget(target, executeCheckUseCase::executeCheck);
+        AdaptiveInterval adaptiveInterval = new AdaptiveInterval(target);
+        AtomicReference<ScheduleHandle> scheduled = new AtomicReference<>();
+        ScheduleHandle handle = schedulerPort.scheduleTarget(target,
+                targetId -> onResult(adaptiveInterval, scheduled.get(), executeCheckUseCase.executeCheck(target)));
+        scheduled.set(handle);
         activeSchedules.put(target.id().id(), handle);
     }
 
+    // The schedule is re-armed in place, a handle cancelled in the meantime is left alone by the scheduler
+    private void onResult(AdaptiveInterval adaptiveInterval, ScheduleHandle scheduled, TargetResult result) {
+        if (result != null && scheduled != null && adaptiveInterval.update(result.result())) {
+            schedulerPort.reschedule(scheduled, adaptiveInterval.current());
+        }
+    }
+
     private void unscheduleTarget(TargetId targetId) {
         ScheduleHandle handle = activeSchedules.remove(targetId.id());
         schedulerPort.unschedule(handle);
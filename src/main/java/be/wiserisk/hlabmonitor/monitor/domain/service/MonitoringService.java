@@ -1,22 +1,45 @@
 package be.wiserisk.hlabmonitor.monitor.domain.service;
 
 import be.wiserisk.hlabmonitor.monitor.application.port.in.execution.ExecuteCheckUseCase;
+import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckMetricsPort;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTargetPort;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.PersistencePort;
+import be.wiserisk.hlabmonitor.monitor.domain.model.ResultWindowCounter;
 import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
 import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
 import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetStatusRegistry;
 import lombok.AllArgsConstructor;
 
+import java.time.Duration;
+
 @AllArgsConstructor
 public class MonitoringService implements ExecuteCheckUseCase {
 
     private final CheckTargetPort checkPort;
     private final PersistencePort persistencePort;
+    private final ResultWindowCounter resultWindowCounter;
+    private final TargetStatusRegistry targetStatusRegistry;
+    private final CheckMetricsPort checkMetricsPort;
 
     @Override
     public void executeCheck(TargetId targetId) {
-        persistencePort.saveResult(getTargetResult(retrieveTarget(targetId)));
+        executeCheck(retrieveTarget(targetId));
+    }
+
+    // Scheduled checks run with the configured target, which also carries what is not persisted
+    @Override
+    public TargetResult executeCheck(Target target) {
+        long start = System.nanoTime();
+        TargetResult targetResult = getTargetResult(target);
+        long checked = System.nanoTime();
+        persistencePort.saveResult(targetResult);
+        long saved = System.nanoTime();
+        resultWindowCounter.record(targetResult);
+        targetStatusRegistry.record(targetResult);
+        checkMetricsPort.recordSave(Duration.ofNanos(saved - checked));
+        checkMetricsPort.recordCheck(target, targetResult, Duration.ofNanos(saved - start));
+        return targetResult;
     }
 
     private TargetResult getTargetResult(Target target) {
@@ -3,33 +3,61 @@ package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.in.rest;
 import be.wiserisk.hlabmonitor.monitor.application.port.in.query.GetCheckResultsUseCase;
 import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
 import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType;
+import be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution;
 import be.wiserisk.hlabmonitor.monitor.domain.model.*;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/results")
 @AllArgsConstructor
 @Tag(name = "Check Results")
 public class CheckResultsController {
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     private final GetCheckResultsUseCase getCheckResultsUseCase;
+    private final JsonMapper jsonMapper;
 
-    @Operation(summary = "All target results")
+    @Deprecated
+    @Operation(summary = "All target results, use /export instead")
     @GetMapping
     public List<TargetResult> getAll() {
         return getCheckResultsUseCase.getAllResults();
     }
 
-    @Operation(summary = "Results of one target")
+    @Operation(summary = "Results of one target, by default the last 24 hours")
     @GetMapping("/{targetId}")
-    public List<TargetResult> getAllByTargetId(@PathVariable String targetId) {
-        return getCheckResultsUseCase.getTargetIdResults(new TargetId(targetId));
+    public List<TargetResult> getAllByTargetId(
+            @PathVariable String targetId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            Instant from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            Instant to,
+            @Parameter(description = "Maximum number of results, the most recent ones are kept")
+            @RequestParam(required = false, defaultValue = "1000") int limit,
+            @Parameter(description = "Downsample the range to at most this many results, keeping the worst result of each time bucket")
+            @RequestParam(required = false) Integer points) {
+        if (points != null) {
+            return getCheckResultsUseCase.getDownsampledTargetIdResults(new TargetId(targetId), from, to, points);
+        }
+        return getCheckResultsUseCase.getTargetIdResults(new TargetId(targetId), from, to, limit);
     }
 
     @Operation(summary = "All target results filtered")
@@ -45,10 +73,78 @@ public class CheckResultsController {
             @RequestParam(required = false) List<MonitoringResult> monitoringResultList,
             @RequestParam(required = false) List<MonitoringType> monitoringTypeList,
             @RequestParam(required = false, defaultValue = "20") int size,
-            @RequestParam(required = false, defaultValue = "0") int page) {
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @Parameter(description = "Switches to cursor pagination ordered by check time. Empty for the first page, then the nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Count the matching results in cursor pagination")
+            @RequestParam(required = false, defaultValue = "false") boolean withTotal) {
         CheckResultsFilter filter = new CheckResultsFilter(from, to, targetIdList.stream().map(TargetId::new).toList(), monitoringResultList, monitoringTypeList);
+        if (cursor != null) {
+            return getCheckResultsUseCase.getFilteredResults(filter, new CursorPageRequest(cursor, size, withTotal));
+        }
         PageRequest pageRequest = new PageRequest(page, size);
         return getCheckResultsUseCase.getFilteredResults(filter, pageRequest);
     }
 
+    @Operation(summary = "Stream all target results filtered as NDJSON or CSV")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            Instant from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            Instant to,
+            @RequestParam(required = false, defaultValue = "") List<String> targetIdList,
+            @RequestParam(required = false) List<MonitoringResult> monitoringResultList,
+            @RequestParam(required = false) List<MonitoringType> monitoringTypeList,
+            @RequestParam(required = false, defaultValue = "NDJSON") ResultExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CheckResultsFilter filter = new CheckResultsFilter(from, to, targetIdList.stream().map(TargetId::new).toList(), monitoringResultList, monitoringTypeList);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("results." + format.getExtension()).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(outputStream -> writeExport(filter, format, gzip ? new GZIPOutputStream(outputStream, EXPORT_BUFFER_SIZE) : outputStream));
+    }
+
+    private void writeExport(CheckResultsFilter filter, ResultExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+        ResultExportWriter exportWriter = new ResultExportWriter(writer, format, jsonMapper);
+        try {
+            getCheckResultsUseCase.exportFilteredResults(filter, result -> {
+                try {
+                    exportWriter.write(result);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        if (outputStream instanceof GZIPOutputStream gzipOutputStream) {
+            gzipOutputStream.finish();
+        }
+    }
+
+    @Operation(summary = "Aggregated result counts per target and time bucket")
+    @GetMapping("/rollups")
+    public List<ResultRollup> getRollups(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            Instant from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            Instant to,
+            @RequestParam(required = false, defaultValue = "") List<String> targetIdList,
+            @RequestParam(required = false, defaultValue = "HOUR") RollupResolution resolution) {
+        return getCheckResultsUseCase.getResultRollups(targetIdList.stream().map(TargetId::new).toList(), resolution, from, to);
+    }
+
 }
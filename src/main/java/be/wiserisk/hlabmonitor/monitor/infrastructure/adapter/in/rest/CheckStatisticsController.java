@@ -13,6 +13,7 @@ import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -25,7 +26,8 @@ public class CheckStatisticsController {
 
     @Operation(summary = "Some statistics about target")
     @GetMapping("/stats")
-    public Statistics getStatistics(@RequestParam(required = false) List<StatisticType> statisticTypes) {
-        return getCheckStatisticsUseCase.getStatistics(statisticTypes);
+    public Statistics getStatistics(@RequestParam(required = false) List<StatisticType> statisticTypes,
+                                    @RequestParam(required = false) Duration window) {
+        return getCheckStatisticsUseCase.getStatistics(statisticTypes, window);
     }
 }
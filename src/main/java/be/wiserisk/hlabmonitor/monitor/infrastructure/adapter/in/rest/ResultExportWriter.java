@@ -0,0 +1,53 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.in.rest;
+
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+
+class ResultExportWriter {
+
+    static final String CSV_HEADER = "targetId,result,checkedAt,message";
+
+    private final Writer writer;
+    private final ResultExportFormat format;
+    private final JsonMapper jsonMapper;
+
+    ResultExportWriter(Writer writer, ResultExportFormat format, JsonMapper jsonMapper) throws IOException {
+        this.writer = writer;
+        this.format = format;
+        this.jsonMapper = jsonMapper;
+        if (format == ResultExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    void write(TargetResult result) throws IOException {
+        switch (format) {
+            case NDJSON -> writer.write(jsonMapper.writeValueAsString(result));
+            case CSV -> writeCsv(result);
+        }
+        writer.write('\n');
+    }
+
+    private void writeCsv(TargetResult result) throws IOException {
+        writer.write(csvField(result.id().id()));
+        writer.write(',');
+        writer.write(result.result().name());
+        writer.write(',');
+        writer.write(String.valueOf(result.checkedAt()));
+        writer.write(',');
+        if (result.message() != null) {
+            writer.write(csvField(result.message()));
+        }
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
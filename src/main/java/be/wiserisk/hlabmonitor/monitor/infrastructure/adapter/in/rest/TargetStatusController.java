@@ -0,0 +1,36 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.in.rest;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.in.query.GetTargetStatusUseCase;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetStatus;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetStatusSnapshot;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/status")
+@AllArgsConstructor
+@Tag(name = "Check Results")
+public class TargetStatusController {
+
+    private final GetTargetStatusUseCase getTargetStatusUseCase;
+
+    @Operation(summary = "Latest status of every target")
+    @GetMapping
+    public ResponseEntity<List<TargetStatus>> getAll(WebRequest webRequest) {
+        TargetStatusSnapshot snapshot = getTargetStatusUseCase.getTargetStatuses();
+        String eTag = "\"" + snapshot.version() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(snapshot.statuses());
+    }
+}
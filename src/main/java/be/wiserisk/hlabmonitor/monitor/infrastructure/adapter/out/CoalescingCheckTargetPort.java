@@ -0,0 +1,108 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTargetPort;
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Targets on the same endpoint with the same check settings share one probe: a check joins the probe in flight, or
+// reuses a result that finished less than the window ago, and gets the result under its own id
+public class CoalescingCheckTargetPort implements CheckTargetPort {
+
+    private final CheckTargetPort delegate;
+    private final Duration window;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<String, SharedCheck> checks = new ConcurrentHashMap<>();
+
+    public CoalescingCheckTargetPort(CheckTargetPort delegate, Duration window, MeterRegistry meterRegistry) {
+        this(delegate, window, meterRegistry, Clock.systemUTC());
+    }
+
+    public CoalescingCheckTargetPort(CheckTargetPort delegate, Duration window, MeterRegistry meterRegistry, Clock clock) {
+        this.delegate = delegate;
+        this.window = window;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @Override
+    public TargetResult ping(Target target) {
+        return check(target, delegate::ping);
+    }
+
+    @Override
+    public TargetResult httpCheck(Target target) {
+        return check(target, delegate::httpCheck);
+    }
+
+    @Override
+    public TargetResult certCheck(Target target) {
+        return check(target, delegate::certCheck);
+    }
+
+    public int endpoints() {
+        return checks.size();
+    }
+
+    private TargetResult check(Target target, Function<Target, TargetResult> probe) {
+        if (window.isZero()) {
+            return probe.apply(target);
+        }
+        String key = key(target);
+        SharedCheck created = new SharedCheck();
+        SharedCheck shared = checks.compute(key,
+                (endpoint, existing) -> existing != null && existing.isReusable(clock.instant(), window) ? existing : created);
+        if (shared != created) {
+            coalesced(target);
+            return shared.result.join().withId(target.id());
+        }
+        try {
+            TargetResult result = probe.apply(target);
+            shared.complete(result, clock.instant());
+            return result;
+        } catch (Throwable e) {
+            checks.remove(key, shared);
+            shared.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // The interval drives the probe timeout and the thresholds drive the certificate verdict, so targets only share
+    // a result when both match
+    private static String key(Target target) {
+        return target.endpoint() + " " + target.interval() + " " + target.expiryThresholds();
+    }
+
+    private void coalesced(Target target) {
+        Counter.builder("hlabmonitor.check.coalesced")
+                .description("Checks answered by the probe of another target on the same endpoint")
+                .tag("type", target.type().name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static final class SharedCheck {
+        private final CompletableFuture<TargetResult> result = new CompletableFuture<>();
+        private volatile Instant finishedAt;
+
+        private void complete(TargetResult targetResult, Instant now) {
+            finishedAt = now;
+            result.complete(targetResult);
+        }
+
+        private boolean isReusable(Instant now, Duration window) {
+            Instant finished = finishedAt;
+            return finished == null || now.isBefore(finished.plus(window));
+        }
+    }
+}
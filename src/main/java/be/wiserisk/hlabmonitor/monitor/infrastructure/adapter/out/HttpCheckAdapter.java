@@ -2,21 +2,39 @@ package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out;
 
 import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTargetPort;
 import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
+import be.wiserisk.hlabmonitor.monitor.domain.model.CheckTimings;
+import be.wiserisk.hlabmonitor.monitor.domain.model.ExpiryThresholds;
 import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
 import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
-import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.Common;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.certificate.CertificateChain;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.certificate.CertificateProbe;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.dns.DnsResolver;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.reachability.ReachabilityResult;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.reachability.TcpReachabilityEngine;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CertificateProbeProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.HttpClientProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.HttpClientProperties.CheckMethod;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.ReachabilityProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.ReachabilityProperties.ReachabilityMethod;
 import lombok.AllArgsConstructor;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestClient;
 
-import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLHandshakeException;
 import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSession;
 import java.io.IOException;
 import java.net.*;
-import java.security.cert.Certificate;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.security.cert.CertificateException;
 import java.security.cert.CertificateExpiredException;
 import java.security.cert.CertificateNotYetValidException;
-import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
 
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.FAILURE;
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.SUCCESS;
@@ -24,64 +42,181 @@ import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.SUCC
 @AllArgsConstructor
 public class HttpCheckAdapter implements CheckTargetPort {
 
-    private final RestClient restClient;
+    private static final String FIRST_BYTE_RANGE = "bytes=0-0";
+
+    private final DnsResolver dnsResolver;
+    private final HttpClient httpClient;
+    private final HttpClientProperties httpClientProperties;
+    private final HttpClientMetrics httpClientMetrics;
+    private final TcpReachabilityEngine tcpReachabilityEngine;
+    private final ReachabilityProperties reachabilityProperties;
+    private final CertificateProbe certificateProbe;
+    private final CertificateProbeProperties certificateProbeProperties;
 
     @Override
     public TargetResult ping(Target target) {
+        long start = System.nanoTime();
         try {
-            InetAddress inetAddress = InetAddress.getByName(target.target());
-            return new TargetResult(target.id(), getPingResult(inetAddress),"");
+            InetAddress inetAddress = dnsResolver.resolve(target.target());
+            long resolved = System.nanoTime();
+            if (reachabilityProperties.method() == ReachabilityMethod.TCP) {
+                return tcpPing(target, inetAddress, start, resolved);
+            }
+            MonitoringResult result = getPingResult(inetAddress, reachabilityProperties.timeoutFor(target.interval()));
+            long end = System.nanoTime();
+            return new TargetResult(target.id(), result, "")
+                    .withTimings(new CheckTimings(Duration.ofNanos(end - start), Duration.ofNanos(resolved - start), Duration.ofNanos(end - resolved), null));
         } catch (UnknownHostException e) {
-            return new TargetResult(target.id(), FAILURE, "Unknown host");
+            return new TargetResult(target.id(), FAILURE, dnsFailure(e)).withTimings(elapsedSince(start));
         } catch (IOException e) {
-            return new TargetResult(target.id(), FAILURE, e.getMessage());
+            return new TargetResult(target.id(), FAILURE, e.getMessage()).withTimings(elapsedSince(start));
         }
     }
 
-    private static MonitoringResult getPingResult(InetAddress inetAddress) throws IOException {
-        return inetAddress.isReachable((int) Common.DEFAULT_TIMEOUT.toMillis()) ? SUCCESS : FAILURE;
+    // The calling thread only waits for the probe, the sockets are driven by the engine selector
+    private TargetResult tcpPing(Target target, InetAddress inetAddress, long start, long resolved) {
+        ReachabilityResult reachability = tcpReachabilityEngine
+                .probe(inetAddress, reachabilityProperties.ports(), reachabilityProperties.timeoutFor(target.interval()))
+                .join();
+        return new TargetResult(target.id(), reachability.reachable() ? SUCCESS : FAILURE, reachability.message())
+                .withTimings(new CheckTimings(Duration.ofNanos(System.nanoTime() - start), Duration.ofNanos(resolved - start), reachability.rtt(), null));
+    }
+
+    private static CheckTimings elapsedSince(long start) {
+        return CheckTimings.total(Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static String dnsFailure(UnknownHostException e) {
+        return "DNS failure: " + (e.getMessage() == null ? "Unknown host" : e.getMessage());
+    }
+
+    private static MonitoringResult getPingResult(InetAddress inetAddress, Duration timeout) throws IOException {
+        return inetAddress.isReachable((int) timeout.toMillis()) ? SUCCESS : FAILURE;
     }
 
     @Override
     public TargetResult httpCheck(Target target) {
+        long start = System.nanoTime();
         try {
-            return new TargetResult(target.id(), is2xxSuccessful(target) ? SUCCESS : FAILURE, "");
-        } catch (ResourceAccessException e) {
-            return new TargetResult(target.id(), FAILURE, e.getMessage());
+            URI uri = URI.create(target.target());
+            Duration dns = resolve(uri);
+            HttpResponse<Void> response = send(uri, target, httpClientProperties.method());
+            if (httpClientProperties.method() == CheckMethod.HEAD && isMethodRejected(response.statusCode())) {
+                response = send(uri, target, CheckMethod.GET);
+            }
+            shareCertificates(response);
+            int statusCode = response.statusCode();
+            return new TargetResult(target.id(), is2xxSuccessful(statusCode) ? SUCCESS : FAILURE, "")
+                    .withTimings(new CheckTimings(Duration.ofNanos(System.nanoTime() - start), dns, null, null));
+        } catch (IllegalArgumentException e) {
+            return new TargetResult(target.id(), FAILURE, "Malformed URL").withTimings(elapsedSince(start));
+        } catch (UnknownHostException e) {
+            return new TargetResult(target.id(), FAILURE, dnsFailure(e)).withTimings(elapsedSince(start));
+        } catch (HttpTimeoutException e) {
+            return new TargetResult(target.id(), FAILURE, "Timeout").withTimings(elapsedSince(start));
+        } catch (IOException e) {
+            return new TargetResult(target.id(), FAILURE, e.getMessage()).withTimings(elapsedSince(start));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new TargetResult(target.id(), FAILURE, "Interrupted").withTimings(elapsedSince(start));
         }
     }
 
-    private boolean is2xxSuccessful(Target target) {
-        return restClient.get().uri(target.target()).retrieve().toBodilessEntity().getStatusCode().is2xxSuccessful();
+    // The HTTP client resolves the host again, this lookup only tells a DNS failure apart from an unreachable server
+    private Duration resolve(URI uri) throws UnknownHostException {
+        if (uri.getHost() == null) {
+            throw new IllegalArgumentException("Missing host in " + uri);
+        }
+        long start = System.nanoTime();
+        dnsResolver.resolve(uri.getHost());
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    // HEAD, or a GET asking for the first byte only, so no body is downloaded and the connection goes back to the pool
+    private HttpResponse<Void> send(URI uri, Target target, CheckMethod method) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(httpClientProperties.responseTimeoutFor(target.interval()));
+        if (method == CheckMethod.HEAD) {
+            builder.HEAD();
+        } else {
+            builder.GET().header("Range", FIRST_BYTE_RANGE);
+        }
+        HttpRequest request = builder.build();
+        httpClientMetrics.requestStarted(uri);
+        HttpResponse<Void> response = null;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            return response;
+        } finally {
+            httpClientMetrics.requestFinished(method.name(), response == null ? null : response.version());
+        }
+    }
+
+    // The chain of the HTTPS connection goes to the certificate probe, the certificate check of the same host
+    // then finds it there instead of opening its own connection. After a redirect it belongs to the final host
+    private void shareCertificates(HttpResponse<Void> response) {
+        Optional<SSLSession> sslSession = response.sslSession();
+        if (sslSession.isEmpty()) {
+            return;
+        }
+        try {
+            certificateProbe.offer(response.uri(), sslSession.get().getPeerCertificates());
+        } catch (SSLPeerUnverifiedException e) {
+            // Nothing to share, the certificate check performs its own handshake
+        }
+    }
+
+    private static boolean isMethodRejected(int statusCode) {
+        return statusCode == 405 || statusCode == 501;
+    }
+
+    private static boolean is2xxSuccessful(int statusCode) {
+        return statusCode >= 200 && statusCode < 300;
     }
 
     @Override
     public TargetResult certCheck(Target target) {
+        long start = System.nanoTime();
         try {
-            URL url = URI.create(target.target()).toURL();
-            HttpsURLConnection conn = (HttpsURLConnection) url.openConnection();
-            conn.connect();
-            Certificate[] certs = conn.getServerCertificates();
-            for (Certificate cert : certs) {
-                if (cert instanceof X509Certificate x509Cert) {
-                    x509Cert.checkValidity();
-                    return new TargetResult(target.id(), SUCCESS, "Valid to " + x509Cert.getNotAfter());
-                }
-            }
-            conn.disconnect();
-        } catch (IllegalArgumentException|MalformedURLException e) {
-            return new TargetResult(target.id(), FAILURE, "Malformed URL");
+            CertificateChain chain = certificateProbe.probe(URI.create(target.target()), certificateProbeProperties.timeoutFor(target.interval()));
+            Instant now = Instant.now();
+            ExpiryThresholds thresholds = Objects.requireNonNullElse(target.expiryThresholds(), ExpiryThresholds.DEFAULT);
+            MonitoringResult result = thresholds.resultFor(Duration.between(now, chain.notAfter()));
+            return new TargetResult(target.id(), result, "Valid to " + Date.from(chain.notAfter()) + ", " + chain.daysToExpiry(now) + " days left")
+                    .withTimings(new CheckTimings(Duration.ofNanos(System.nanoTime() - start), chain.dns(), chain.connect(), chain.tls()));
+        } catch (IllegalArgumentException e) {
+            return certificateFailure(target, start, "Malformed URL");
+        } catch (UnknownHostException e) {
+            return certificateFailure(target, start, dnsFailure(e));
         } catch (SSLPeerUnverifiedException e) {
-            return new TargetResult(target.id(), FAILURE, "Peer unverified");
+            return certificateFailure(target, start, "Peer unverified");
         } catch (SocketTimeoutException e) {
-            return new TargetResult(target.id(), FAILURE, "Timeout");
+            return certificateFailure(target, start, "Timeout");
         } catch (CertificateNotYetValidException e) {
-            return new TargetResult(target.id(), FAILURE, "Certificate not yet valid");
+            return certificateFailure(target, start, "Certificate not yet valid");
         } catch (CertificateExpiredException e) {
-            return new TargetResult(target.id(), FAILURE, "Certificate expired");
-        } catch (IOException e) {
-            return new TargetResult(target.id(), FAILURE, e.getMessage());
+            return certificateFailure(target, start, "Certificate expired");
+        } catch (SSLHandshakeException e) {
+            return certificateFailure(target, start, handshakeFailure(e));
+        } catch (CertificateException | IOException e) {
+            return certificateFailure(target, start, e.getMessage());
+        }
+    }
+
+    private static TargetResult certificateFailure(Target target, long start, String message) {
+        return new TargetResult(target.id(), FAILURE, message).withTimings(elapsedSince(start));
+    }
+
+    // Chain validation errors are wrapped a few levels deep in the handshake failure
+    private static String handshakeFailure(SSLHandshakeException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof CertificateExpiredException) {
+                return "Certificate expired";
+            }
+            if (cause instanceof CertificateNotYetValidException) {
+                return "Certificate not yet valid";
+            }
         }
-        return new TargetResult(target.id(), FAILURE, "No certificate found");
+        return e.getMessage();
     }
 }
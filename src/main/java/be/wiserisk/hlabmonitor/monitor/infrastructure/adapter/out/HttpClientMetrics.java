@@ -0,0 +1,45 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// The JDK client keeps its connection pool private: requests in flight, origins and the negotiated
+// protocol are what can be observed from outside
+public class HttpClientMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Set<String> origins = ConcurrentHashMap.newKeySet();
+
+    public HttpClientMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("hlabmonitor.http.client.inflight", inFlight, AtomicInteger::get)
+                .description("HTTP check requests waiting for a response")
+                .register(meterRegistry);
+        Gauge.builder("hlabmonitor.http.client.origins", origins, Set::size)
+                .description("Distinct scheme, host and port combinations the HTTP client connected to")
+                .register(meterRegistry);
+    }
+
+    public void requestStarted(URI uri) {
+        inFlight.incrementAndGet();
+        origins.add(uri.getScheme() + "://" + uri.getAuthority());
+    }
+
+    public void requestFinished(String method, HttpClient.Version version) {
+        inFlight.decrementAndGet();
+        Counter.builder("hlabmonitor.http.client.requests")
+                .description("HTTP check requests by method and negotiated protocol")
+                .tag("method", method.toLowerCase())
+                .tag("version", version == null ? "none" : version.name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+    }
+}
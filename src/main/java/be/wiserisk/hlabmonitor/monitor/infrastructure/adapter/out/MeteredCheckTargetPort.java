@@ -0,0 +1,62 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTargetPort;
+import be.wiserisk.hlabmonitor.monitor.domain.model.CheckTimings;
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+
+import java.time.Duration;
+
+@AllArgsConstructor
+public class MeteredCheckTargetPort implements CheckTargetPort {
+
+    private final CheckTargetPort delegate;
+    private final MeterRegistry meterRegistry;
+    private final boolean targetTags;
+
+    @Override
+    public TargetResult ping(Target target) {
+        return record(target, delegate.ping(target));
+    }
+
+    @Override
+    public TargetResult httpCheck(Target target) {
+        return record(target, delegate.httpCheck(target));
+    }
+
+    @Override
+    public TargetResult certCheck(Target target) {
+        return record(target, delegate.certCheck(target));
+    }
+
+    private TargetResult record(Target target, TargetResult targetResult) {
+        CheckTimings timings = targetResult.timings();
+        if (timings == null) {
+            return targetResult;
+        }
+        record("hlabmonitor.check.duration", "Wall-clock duration of a check", target, null, timings.total());
+        record("hlabmonitor.check.phase", "Duration of one phase of a check", target, "dns", timings.dns());
+        record("hlabmonitor.check.phase", "Duration of one phase of a check", target, "connect", timings.connect());
+        record("hlabmonitor.check.phase", "Duration of one phase of a check", target, "tls", timings.tls());
+        return targetResult;
+    }
+
+    private void record(String name, String description, Target target, String phase, Duration duration) {
+        if (duration == null) {
+            return;
+        }
+        Timer.Builder builder = Timer.builder(name)
+                .description(description)
+                .tag("type", target.type().name().toLowerCase());
+        if (targetTags) {
+            builder.tag("target", target.id().id());
+        }
+        if (phase != null) {
+            builder.tag("phase", phase);
+        }
+        builder.register(meterRegistry).record(duration);
+    }
+}
@@ -0,0 +1,52 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckMetricsPort;
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+
+public class MicrometerCheckMetricsAdapter implements CheckMetricsPort {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean targetTags;
+    private final Timer save;
+
+    public MicrometerCheckMetricsAdapter(MeterRegistry meterRegistry, boolean targetTags) {
+        this.meterRegistry = meterRegistry;
+        this.targetTags = targetTags;
+        this.save = Timer.builder("hlabmonitor.persistence.save")
+                .description("Time spent handing one result to the persistence layer")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordCheck(Target target, TargetResult targetResult, Duration duration) {
+        Tags tags = Tags.of(
+                "type", target.type().name().toLowerCase(),
+                "result", targetResult.result().name().toLowerCase());
+        // One series per target only when asked for, thousands of targets would blow up the registry
+        if (targetTags) {
+            tags = tags.and("target", target.id().id());
+        }
+        Timer.builder("hlabmonitor.check.execution")
+                .description("Time spent running a check and saving its result")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(duration);
+        Counter.builder("hlabmonitor.check.count")
+                .description("Check execution count")
+                .tags(tags)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void recordSave(Duration duration) {
+        save.record(duration);
+    }
+}
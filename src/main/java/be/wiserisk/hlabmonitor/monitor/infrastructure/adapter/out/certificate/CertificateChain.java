@@ -0,0 +1,41 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.certificate;
+
+import java.security.cert.CertificateExpiredException;
+import java.security.cert.CertificateNotYetValidException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+public record CertificateChain(List<X509Certificate> certificates, Duration dns, Duration connect, Duration tls) {
+
+    public CertificateChain {
+        certificates = List.copyOf(certificates);
+    }
+
+    // The chain expires with its first expiring certificate, intermediates included
+    public Instant notAfter() {
+        return certificates.stream()
+                .map(X509Certificate::getNotAfter)
+                .min(Comparator.naturalOrder())
+                .map(Date::toInstant)
+                .orElseThrow();
+    }
+
+    public long daysToExpiry(Instant now) {
+        return Duration.between(now, notAfter()).toDays();
+    }
+
+    public void checkValidity(Instant now) throws CertificateExpiredException, CertificateNotYetValidException {
+        Date date = Date.from(now);
+        for (X509Certificate certificate : certificates) {
+            certificate.checkValidity(date);
+        }
+    }
+
+    public CertificateChain withoutTimings() {
+        return new CertificateChain(certificates, null, null, null);
+    }
+}
@@ -0,0 +1,136 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.certificate;
+
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.dns.DnsResolver;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CertificateProbeProperties;
+
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// TLS handshake without any HTTP request. Chains are kept for at most the cache max age and never close to expiry,
+// so checks of the same host in between cost no connection at all
+public class CertificateProbe {
+
+    private static final int DEFAULT_HTTPS_PORT = 443;
+
+    private final SSLSocketFactory sslSocketFactory;
+    private final DnsResolver dnsResolver;
+    private final CertificateProbeProperties properties;
+    private final Clock clock;
+    private final Map<String, CachedChain> cache = new ConcurrentHashMap<>();
+
+    public CertificateProbe(SSLSocketFactory sslSocketFactory, DnsResolver dnsResolver, CertificateProbeProperties properties) {
+        this(sslSocketFactory, dnsResolver, properties, Clock.systemUTC());
+    }
+
+    public CertificateProbe(SSLSocketFactory sslSocketFactory, DnsResolver dnsResolver, CertificateProbeProperties properties, Clock clock) {
+        this.sslSocketFactory = sslSocketFactory;
+        this.dnsResolver = dnsResolver;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public CertificateChain probe(URI uri, Duration timeout) throws IOException, CertificateException {
+        if (uri.getHost() == null) {
+            throw new IllegalArgumentException("Missing host in " + uri);
+        }
+        String host = uri.getHost();
+        int port = port(uri);
+        String key = host + ":" + port;
+        Instant now = clock.instant();
+
+        CachedChain cached = cache.get(key);
+        if (cached != null && now.isBefore(cached.refreshAt())) {
+            cached.chain().checkValidity(now);
+            return cached.chain().withoutTimings();
+        }
+        cache.remove(key);
+        CertificateChain chain = handshake(host, port, timeout);
+        chain.checkValidity(now);
+        cache.put(key, new CachedChain(chain, refreshAt(chain, now)));
+        return chain;
+    }
+
+    // Chains presented to other checks of the host, like its HTTP check, spare the certificate check a handshake.
+    // A chain already close to expiry is not kept, the next certificate check makes sure the server still serves it
+    public void offer(URI uri, Certificate[] peerCertificates) {
+        if (uri.getHost() == null || !"https".equalsIgnoreCase(uri.getScheme())) {
+            return;
+        }
+        List<X509Certificate> certificates = x509Certificates(peerCertificates);
+        if (certificates.isEmpty()) {
+            return;
+        }
+        CertificateChain chain = new CertificateChain(certificates, null, null, null);
+        Instant now = clock.instant();
+        Instant refreshAt = refreshAt(chain, now);
+        if (now.isBefore(refreshAt)) {
+            cache.put(uri.getHost() + ":" + port(uri), new CachedChain(chain, refreshAt));
+        }
+    }
+
+    public int cached() {
+        return cache.size();
+    }
+
+    private Instant refreshAt(CertificateChain chain, Instant now) {
+        Instant nearExpiry = chain.notAfter().minus(properties.refreshBefore());
+        Instant maxAge = now.plus(properties.cacheMaxAge());
+        return nearExpiry.isBefore(maxAge) ? nearExpiry : maxAge;
+    }
+
+    // The host name given to createSocket is sent as SNI, the endpoint identification checks it against the certificate
+    private CertificateChain handshake(String host, int port, Duration timeout) throws IOException, CertificateException {
+        int timeoutMillis = (int) timeout.toMillis();
+        long start = System.nanoTime();
+        InetAddress address = dnsResolver.resolve(host);
+        long resolved = System.nanoTime();
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(address, port), timeoutMillis);
+            long connected = System.nanoTime();
+            socket.setSoTimeout(timeoutMillis);
+            try (SSLSocket sslSocket = (SSLSocket) sslSocketFactory.createSocket(socket, host, port, true)) {
+                SSLParameters sslParameters = sslSocket.getSSLParameters();
+                sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
+                sslSocket.setSSLParameters(sslParameters);
+                sslSocket.startHandshake();
+                long handshaken = System.nanoTime();
+                List<X509Certificate> certificates = x509Certificates(sslSocket.getSession().getPeerCertificates());
+                if (certificates.isEmpty()) {
+                    throw new CertificateException("No certificate found");
+                }
+                return new CertificateChain(certificates, Duration.ofNanos(resolved - start),
+                        Duration.ofNanos(connected - resolved), Duration.ofNanos(handshaken - connected));
+            }
+        }
+    }
+
+    private static int port(URI uri) {
+        return uri.getPort() == -1 ? DEFAULT_HTTPS_PORT : uri.getPort();
+    }
+
+    private static List<X509Certificate> x509Certificates(Certificate[] certificates) {
+        return Arrays.stream(certificates)
+                .filter(X509Certificate.class::isInstance)
+                .map(X509Certificate.class::cast)
+                .toList();
+    }
+
+    private record CachedChain(CertificateChain chain, Instant refreshAt) {
+    }
+}
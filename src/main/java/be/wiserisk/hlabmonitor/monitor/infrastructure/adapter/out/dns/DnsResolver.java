@@ -0,0 +1,120 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.dns;
+
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.DnsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Host names shared by several targets are resolved once: answers and failures are cached, and checks asking
+// for a name already being looked up wait for that lookup instead of starting their own
+public class DnsResolver {
+
+    private final HostLookup hostLookup;
+    private final DnsProperties properties;
+    private final Clock clock;
+    private final Map<String, Resolution> cache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Resolution>> lookups = new ConcurrentHashMap<>();
+    private final Timer lookupSuccess;
+    private final Timer lookupFailure;
+    private final Counter cached;
+    private final Counter shared;
+
+    public DnsResolver(DnsProperties properties, MeterRegistry meterRegistry) {
+        this(InetAddress::getAllByName, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    public DnsResolver(HostLookup hostLookup, DnsProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.hostLookup = hostLookup;
+        this.properties = properties;
+        this.clock = clock;
+        this.lookupSuccess = lookupTimer(meterRegistry, "success");
+        this.lookupFailure = lookupTimer(meterRegistry, "failure");
+        this.cached = resolutionCounter(meterRegistry, "cache");
+        this.shared = resolutionCounter(meterRegistry, "shared");
+        Gauge.builder("hlabmonitor.dns.cache.size", cache, Map::size)
+                .description("Host names with a cached answer or failure")
+                .register(meterRegistry);
+    }
+
+    public InetAddress resolve(String host) throws UnknownHostException {
+        String key = host.toLowerCase(Locale.ROOT);
+        Resolution resolution = cache.get(key);
+        if (resolution != null && clock.instant().isBefore(resolution.expiresAt())) {
+            cached.increment();
+            return resolution.resolved();
+        }
+        CompletableFuture<Resolution> lookup = new CompletableFuture<>();
+        CompletableFuture<Resolution> running = lookups.putIfAbsent(key, lookup);
+        if (running != null) {
+            shared.increment();
+            return running.join().resolved();
+        }
+        try {
+            resolution = lookup(host);
+            cache.put(key, resolution);
+            lookup.complete(resolution);
+            return resolution.resolved();
+        } catch (RuntimeException e) {
+            lookup.completeExceptionally(e);
+            throw e;
+        } finally {
+            lookups.remove(key, lookup);
+        }
+    }
+
+    public int cached() {
+        return cache.size();
+    }
+
+    private Resolution lookup(String host) {
+        long start = System.nanoTime();
+        try {
+            InetAddress address = hostLookup.lookup(host)[0];
+            lookupSuccess.record(Duration.ofNanos(System.nanoTime() - start));
+            return new Resolution(address, null, clock.instant().plus(properties.cacheTtl()));
+        } catch (UnknownHostException e) {
+            lookupFailure.record(Duration.ofNanos(System.nanoTime() - start));
+            return new Resolution(null, e.getMessage() == null ? host : e.getMessage(), clock.instant().plus(properties.negativeCacheTtl()));
+        }
+    }
+
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("hlabmonitor.dns.lookup")
+                .description("Time spent resolving host names that were not cached")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Counter resolutionCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("hlabmonitor.dns.resolutions")
+                .description("Host names answered without a lookup of their own")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface HostLookup {
+        InetAddress[] lookup(String host) throws UnknownHostException;
+    }
+
+    private record Resolution(InetAddress address, String failure, Instant expiresAt) {
+
+        private InetAddress resolved() throws UnknownHostException {
+            if (failure != null) {
+                throw new UnknownHostException(failure);
+            }
+            return address;
+        }
+    }
+}
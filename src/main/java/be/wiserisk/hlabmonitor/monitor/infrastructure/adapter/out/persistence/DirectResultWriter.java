@@ -0,0 +1,16 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
+
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultEntityRepository;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public class DirectResultWriter implements ResultWriter {
+
+    private final ResultEntityRepository resultEntityRepository;
+
+    @Override
+    public void write(ResultEntity resultEntity) {
+        resultEntityRepository.save(resultEntity);
+    }
+}
@@ -3,12 +3,18 @@ package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.PersistencePort;
 import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
 import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType;
+import be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution;
 import be.wiserisk.hlabmonitor.monitor.domain.model.*;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity_;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.TargetEntity;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.TargetEntity_;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultRollupEntity;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultMinuteCountRow;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultRollupEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.RollupBucketCountsRow;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.RollupCountsRow;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.TargetEntityRepository;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.config.mapper.ResultMapper;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.config.mapper.TargetMapper;
@@ -16,6 +22,7 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
@@ -23,24 +30,34 @@ import org.springframework.data.jpa.domain.Specification;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @AllArgsConstructor
 public class JpaPersistenceAdapter implements PersistencePort {
 
+    private static final Sort KEYSET_SORT = Sort.by(ResultEntity_.CHECKED_AT, ResultEntity_.ID);
+    static final int EXPORT_BATCH_SIZE = 1000;
+
     ResultEntityRepository resultEntityRepository;
     TargetEntityRepository targetEntityRepository;
     TargetMapper targetMapper;
     ResultMapper resultMapper;
+    ResultWriter resultWriter;
+    TargetCache targetCache;
+    ResultRollupEntityRepository resultRollupEntityRepository;
 
     @Override
     public void saveResult(TargetResult targetResult) {
-        resultEntityRepository.save(resultMapper.toEntity(targetResult));
+        resultWriter.write(resultMapper.toEntity(targetResult));
     }
 
     @Override
     public Target getTarget(TargetId targetId) {
-        return targetMapper.toDomain(targetEntityRepository.findByTargetId(targetId.id()));
+        return targetCache.get(targetId, id -> targetMapper.toDomain(targetEntityRepository.findByTargetId(id.id())));
     }
 
     @Override
@@ -51,11 +68,49 @@ public class JpaPersistenceAdapter implements PersistencePort {
     @Override
     public PageResponse<TargetResult> getAllResultsFilteredBy(CheckResultsFilter filter, PageRequest pageRequest) {
         Specification<ResultEntity> specification = getResultsEntitySpecification(filter);
-        Page<ResultEntity> page = resultEntityRepository.findAll(specification, org.springframework.data.domain.PageRequest.of(pageRequest.page(), pageRequest.size(), Sort.unsorted()));
+        Page<ResultEntity> page = resultEntityRepository.findAll(specification, org.springframework.data.domain.PageRequest.of(pageRequest.page(), pageRequest.size(), KEYSET_SORT));
 
         return new PageResponse<>(toTargetResultList(page.getContent()), page.getNumber(), page.getSize(), page.getTotalElements(), page.hasNext());
     }
 
+    @Override
+    public PageResponse<TargetResult> getAllResultsFilteredBy(CheckResultsFilter filter, CursorPageRequest pageRequest) {
+        Specification<ResultEntity> specification = getResultsEntitySpecification(filter);
+        ResultCursor cursor = ResultCursor.decode(pageRequest.cursor());
+        Specification<ResultEntity> pageSpecification = cursor == null ? specification : specification.and(getAfterCursorSpecification(cursor));
+        List<ResultEntity> results = resultEntityRepository.findBy(pageSpecification, query -> query.sortBy(KEYSET_SORT).limit(pageRequest.size() + 1).all());
+
+        boolean hasNext = results.size() > pageRequest.size();
+        List<ResultEntity> content = hasNext ? results.subList(0, pageRequest.size()) : results;
+        String nextCursor = hasNext ? ResultCursor.of(content.getLast()).encode() : null;
+        long totalElements = pageRequest.withTotal() ? resultEntityRepository.count(specification) : PageResponse.UNKNOWN_TOTAL;
+
+        return new PageResponse<>(toTargetResultList(content), 0, pageRequest.size(), totalElements, hasNext, nextCursor);
+    }
+
+    @Override
+    public void forEachResultFilteredBy(CheckResultsFilter filter, Consumer<TargetResult> consumer) {
+        Specification<ResultEntity> specification = getResultsEntitySpecification(filter);
+        ResultCursor cursor = null;
+        List<ResultEntity> batch;
+        do {
+            Specification<ResultEntity> batchSpecification = cursor == null ? specification : specification.and(getAfterCursorSpecification(cursor));
+            batch = resultEntityRepository.findBy(batchSpecification, query -> query.sortBy(KEYSET_SORT).limit(EXPORT_BATCH_SIZE).all());
+            batch.forEach(result -> consumer.accept(resultMapper.toDomain(result)));
+            if (!batch.isEmpty()) {
+                cursor = ResultCursor.of(batch.getLast());
+            }
+        } while (batch.size() == EXPORT_BATCH_SIZE);
+    }
+
+    private Specification<ResultEntity> getAfterCursorSpecification(ResultCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get(ResultEntity_.checkedAt), cursor.checkedAt()),
+                cb.and(
+                        cb.equal(root.get(ResultEntity_.checkedAt), cursor.checkedAt()),
+                        cb.greaterThan(root.get(ResultEntity_.id), cursor.id())));
+    }
+
     private Specification<ResultEntity> getResultsEntitySpecification(CheckResultsFilter filter) {
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -88,8 +143,13 @@ public class JpaPersistenceAdapter implements PersistencePort {
     }
 
     @Override
-    public List<TargetResult> getAllTargetResultsByTargetId(TargetId targetId) {
-        return toTargetResultList(resultEntityRepository.findAllByTargetId(targetId.id()));
+    public List<TargetResult> getTargetResults(TargetId targetId, Instant from, Instant to, int limit) {
+        return toTargetResultList(resultEntityRepository.findLatestByTargetIdBetween(targetId.id(), from, to, Limit.of(limit)).reversed());
+    }
+
+    @Override
+    public List<TargetResult> getLatestResultPerTarget() {
+        return toTargetResultList(resultEntityRepository.findLatestPerTarget());
     }
 
     @Override
@@ -103,11 +163,13 @@ public class JpaPersistenceAdapter implements PersistencePort {
         targetEntity.setTarget(target.target());
         targetEntity.setType(target.type().name());
         targetEntityRepository.save(targetEntity);
+        targetCache.evict(target.id());
     }
 
     @Override
     public void createTarget(Target target) {
         targetEntityRepository.save(targetMapper.toEntity(target));
+        targetCache.evict(target.id());
     }
 
     @Override
@@ -145,6 +207,82 @@ public class JpaPersistenceAdapter implements PersistencePort {
         return resultEntityRepository.countByResultAndCheckedAtGreaterThanEqual(monitoringResult.name(), Instant.now().minus(Duration.ofHours(24)));
     }
 
+    @Override
+    public Map<MonitoringType, Long> countTargetsByType() {
+        return targetCache.getTypeCounts(() -> {
+            Map<MonitoringType, Long> counts = zeroCounts(MonitoringType.class);
+            targetEntityRepository.countGroupByType().forEach(row -> counts.put(MonitoringType.valueOf(row.value()), row.count()));
+            return Collections.unmodifiableMap(counts);
+        });
+    }
+
+    @Override
+    public Map<MonitoringResult, Long> countLast24hResultsByResult() {
+        Map<MonitoringResult, Long> counts = zeroCounts(MonitoringResult.class);
+        resultEntityRepository.countByResultSince(Instant.now().minus(Duration.ofHours(24)))
+                .forEach(row -> counts.put(MonitoringResult.valueOf(row.value()), row.count()));
+        return counts;
+    }
+
+    @Override
+    public List<ResultCount> countResultsByMinuteSince(Instant from) {
+        Instant start = RollupResolution.MINUTE.bucketStart(from);
+        Instant rawFrom = start;
+        List<ResultCount> resultCounts = new ArrayList<>();
+
+        Instant lastRolledUp = resultRollupEntityRepository.findMaxBucketStart(RollupResolution.MINUTE.name());
+        if (lastRolledUp != null && !lastRolledUp.isBefore(start)) {
+            for (RollupBucketCountsRow row : resultRollupEntityRepository.sumByBucketSince(RollupResolution.MINUTE.name(), start)) {
+                addResultCount(resultCounts, row.bucketStart(), MonitoringResult.SUCCESS, row.successCount());
+                addResultCount(resultCounts, row.bucketStart(), MonitoringResult.FAILURE, row.failureCount());
+                addResultCount(resultCounts, row.bucketStart(), MonitoringResult.WARNING, row.warningCount());
+                addResultCount(resultCounts, row.bucketStart(), MonitoringResult.ERROR, row.errorCount());
+                addResultCount(resultCounts, row.bucketStart(), MonitoringResult.UNKNOWN, row.unknownCount());
+            }
+            rawFrom = lastRolledUp.plus(RollupResolution.MINUTE.duration());
+        }
+
+        for (ResultMinuteCountRow row : resultEntityRepository.countByMinuteSince(rawFrom)) {
+            addResultCount(resultCounts, Instant.ofEpochSecond(row.epochMinute() * 60L), resultMapper.mapMonitoringType(row.result()), row.count());
+        }
+        return resultCounts;
+    }
+
+    private static void addResultCount(List<ResultCount> resultCounts, Instant minute, MonitoringResult result, Long count) {
+        if (count != null && count > 0) {
+            resultCounts.add(new ResultCount(minute, result, count));
+        }
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> zeroCounts(Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, 0L);
+        }
+        return counts;
+    }
+
+    @Override
+    public List<ResultRollup> getResultRollups(List<TargetId> targetIds, RollupResolution resolution, Instant from, Instant to) {
+        List<ResultRollupEntity> rollups = targetIds == null || targetIds.isEmpty()
+                ? resultRollupEntityRepository.findAllByResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(resolution.name(), from, to)
+                : resultRollupEntityRepository.findAllByTargetIdInAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(targetIds.stream().map(TargetId::id).toList(), resolution.name(), from, to);
+        return rollups.stream().map(rollup -> resultMapper.toDomain(rollup)).toList();
+    }
+
+    @Override
+    public Map<MonitoringResult, Long> countRolledUpResults(RollupResolution resolution, Instant from) {
+        Map<MonitoringResult, Long> counts = zeroCounts(MonitoringResult.class);
+        for (RollupCountsRow row : resultRollupEntityRepository.sumByTargetBetween(resolution.name(), resolution.bucketStart(from), Instant.now())) {
+            counts.merge(MonitoringResult.SUCCESS, row.successCount(), Long::sum);
+            counts.merge(MonitoringResult.FAILURE, row.failureCount(), Long::sum);
+            counts.merge(MonitoringResult.WARNING, row.warningCount(), Long::sum);
+            counts.merge(MonitoringResult.ERROR, row.errorCount(), Long::sum);
+            counts.merge(MonitoringResult.UNKNOWN, row.unknownCount(), Long::sum);
+        }
+        return counts;
+    }
+
     private List<TargetId> toTargetIdList(List<TargetEntity> targetEntityList) {
         return targetEntityList.stream().map(t -> new TargetId(t.getTargetId())).toList();
     }
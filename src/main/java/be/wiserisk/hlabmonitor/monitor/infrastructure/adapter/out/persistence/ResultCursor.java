@@ -0,0 +1,31 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
+
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+record ResultCursor(Instant checkedAt, Long id) {
+
+    static ResultCursor of(ResultEntity resultEntity) {
+        return new ResultCursor(resultEntity.getCheckedAt(), resultEntity.getId());
+    }
+
+    static ResultCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            return new ResultCursor(Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1])), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    String encode() {
+        String value = checkedAt.getEpochSecond() + ":" + checkedAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,172 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType;
+import be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.RollupWatermarkEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.TargetEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.RollupWatermarkEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.TargetEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.mapper.TargetMapper;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.PersistenceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+
+@Slf4j
+public class ResultPurgeJob implements SmartLifecycle {
+
+    private final ResultEntityRepository resultEntityRepository;
+    private final TargetEntityRepository targetEntityRepository;
+    private final RollupWatermarkEntityRepository rollupWatermarkEntityRepository;
+    private final TargetMapper targetMapper;
+    private final TaskScheduler taskScheduler;
+    private final PersistenceProperties.Retention retention;
+    private final boolean waitForRollup;
+    private final Timer runTimer;
+    private final Counter purgedCounter;
+
+    private volatile boolean stopped;
+    private ScheduledFuture<?> future;
+
+    public ResultPurgeJob(ResultEntityRepository resultEntityRepository,
+                          TargetEntityRepository targetEntityRepository,
+                          RollupWatermarkEntityRepository rollupWatermarkEntityRepository,
+                          TargetMapper targetMapper,
+                          TaskScheduler taskScheduler,
+                          PersistenceProperties.Retention retention,
+                          boolean waitForRollup,
+                          MeterRegistry meterRegistry) {
+        this.resultEntityRepository = resultEntityRepository;
+        this.targetEntityRepository = targetEntityRepository;
+        this.rollupWatermarkEntityRepository = rollupWatermarkEntityRepository;
+        this.targetMapper = targetMapper;
+        this.taskScheduler = taskScheduler;
+        this.retention = retention;
+        this.waitForRollup = waitForRollup;
+        this.runTimer = Timer.builder("hlabmonitor.retention.run")
+                .description("Time spent purging expired results")
+                .register(meterRegistry);
+        this.purgedCounter = Counter.builder("hlabmonitor.retention.purged")
+                .description("Expired results deleted")
+                .baseUnit("results")
+                .register(meterRegistry);
+    }
+
+    void run() {
+        try {
+            runTimer.record(() -> run(Instant.now()));
+        } catch (RuntimeException e) {
+            log.error("Unable to purge expired results", e);
+        }
+    }
+
+    void run(Instant now) {
+        Instant purgeLimit = now;
+        if (waitForRollup) {
+            Optional<Instant> rolledUpTo = rollupWatermarkEntityRepository.findById(RollupResolution.MINUTE.name()).map(RollupWatermarkEntity::getRolledUpTo);
+            if (rolledUpTo.isEmpty()) {
+                log.debug("Results are not rolled up yet, skipping purge");
+                return;
+            }
+            purgeLimit = rolledUpTo.get();
+        }
+
+        List<String> overriddenTargetIds = new ArrayList<>();
+        Map<Duration, List<String>> targetIdsByRetention = new HashMap<>();
+        for (TargetEntity target : targetEntityRepository.findAll()) {
+            MonitoringType type = targetMapper.mapMonitoringType(target.getType());
+            if (retention.isOverridden(target.getTargetId(), type)) {
+                overriddenTargetIds.add(target.getTargetId());
+                targetIdsByRetention.computeIfAbsent(retention.retentionFor(target.getTargetId(), type), k -> new ArrayList<>()).add(target.getTargetId());
+            }
+        }
+
+        long purged = 0;
+        for (Map.Entry<Duration, List<String>> entry : targetIdsByRetention.entrySet()) {
+            if (entry.getKey().isZero()) {
+                continue;
+            }
+            Instant before = min(now.minus(entry.getKey()), purgeLimit);
+            purged += purge(limit -> resultEntityRepository.findIdsByTargetIdInCheckedAtBefore(entry.getValue(), before, limit));
+        }
+        if (!retention.maxAge().isZero()) {
+            Instant before = min(now.minus(retention.maxAge()), purgeLimit);
+            purged += overriddenTargetIds.isEmpty()
+                    ? purge(limit -> resultEntityRepository.findIdsCheckedAtBefore(before, limit))
+                    : purge(limit -> resultEntityRepository.findIdsByTargetIdNotInCheckedAtBefore(overriddenTargetIds, before, limit));
+        }
+        if (purged > 0) {
+            log.info("Purged {} expired results", purged);
+        }
+    }
+
+    private long purge(Function<Limit, List<Long>> expiredIds) {
+        long purged = 0;
+        while (!stopped) {
+            List<Long> ids = expiredIds.apply(Limit.of(retention.chunkSize()));
+            if (ids.isEmpty()) {
+                break;
+            }
+            resultEntityRepository.deleteAllByIdInBatch(ids);
+            purged += ids.size();
+            purgedCounter.increment(ids.size());
+            if (ids.size() < retention.chunkSize() || !pause()) {
+                break;
+            }
+        }
+        return purged;
+    }
+
+    // Give the connection back between chunks so result writes are not starved, SQLite only has one
+    private boolean pause() {
+        if (retention.pause().isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(retention.pause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    @Override
+    public void start() {
+        stopped = false;
+        future = taskScheduler.scheduleWithFixedDelay(this::run, retention.interval());
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return future != null;
+    }
+}
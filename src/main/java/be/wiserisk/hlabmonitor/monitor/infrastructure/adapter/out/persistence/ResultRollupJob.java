@@ -0,0 +1,241 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultRollupEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultRollupId;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.RollupWatermarkEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultBucketRow;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultRollupEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.RollupCountsRow;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.RollupWatermarkEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.mapper.ResultMapper;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.RollupProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution.*;
+
+@Slf4j
+public class ResultRollupJob implements SmartLifecycle {
+
+    // Raw results are aggregated in Java, one hour of results per transaction keeps memory and lock time bounded
+    private static final Duration MINUTE_WINDOW = Duration.ofHours(1L);
+    private static final double LATENCY_PERCENTILE = 0.95;
+
+    private final ResultEntityRepository resultEntityRepository;
+    private final ResultRollupEntityRepository resultRollupEntityRepository;
+    private final RollupWatermarkEntityRepository rollupWatermarkEntityRepository;
+    private final ResultMapper resultMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final RollupProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer runTimer;
+
+    private ScheduledFuture<?> future;
+
+    public ResultRollupJob(ResultEntityRepository resultEntityRepository,
+                           ResultRollupEntityRepository resultRollupEntityRepository,
+                           RollupWatermarkEntityRepository rollupWatermarkEntityRepository,
+                           ResultMapper resultMapper,
+                           TransactionTemplate transactionTemplate,
+                           TaskScheduler taskScheduler,
+                           RollupProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.resultEntityRepository = resultEntityRepository;
+        this.resultRollupEntityRepository = resultRollupEntityRepository;
+        this.rollupWatermarkEntityRepository = rollupWatermarkEntityRepository;
+        this.resultMapper = resultMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.runTimer = Timer.builder("hlabmonitor.rollup.run")
+                .description("Time spent rolling up results and purging expired rollups")
+                .register(meterRegistry);
+    }
+
+    void run() {
+        try {
+            runTimer.record(() -> run(Instant.now()));
+        } catch (RuntimeException e) {
+            log.error("Unable to roll up results", e);
+        }
+    }
+
+    void run(Instant now) {
+        rollUpMinutes(MINUTE.bucketStart(now.minus(properties.lag())));
+        rollUp(MINUTE, HOUR);
+        rollUp(HOUR, DAY);
+        purge(now);
+    }
+
+    private void rollUpMinutes(Instant end) {
+        Instant from = startOf(MINUTE, resultEntityRepository::findMinCheckedAt);
+        while (from != null && from.isBefore(end)) {
+            Instant windowStart = from;
+            Instant windowEnd = min(from.plus(MINUTE_WINDOW), end);
+            Integer buckets = transactionTemplate.execute(status -> rollUpMinuteWindow(windowStart, windowEnd));
+            countBuckets(MINUTE, buckets);
+            from = windowEnd;
+        }
+    }
+
+    private int rollUpMinuteWindow(Instant from, Instant to) {
+        resultRollupEntityRepository.deleteBetween(MINUTE.name(), from, to);
+        Map<ResultRollupId, ResultRollupEntity> buckets = new HashMap<>();
+        Map<ResultRollupId, List<Long>> durations = new HashMap<>();
+        for (ResultBucketRow row : resultEntityRepository.findBucketRowsBetween(from, to)) {
+            ResultRollupId id = new ResultRollupId(row.targetId(), MINUTE.name(), MINUTE.bucketStart(row.checkedAt()));
+            ResultRollupEntity bucket = buckets.computeIfAbsent(id, k -> new ResultRollupEntity(k.getTargetId(), k.getResolution(), k.getBucketStart()));
+            increment(bucket, row.result());
+            if (row.durationMicros() != null) {
+                durations.computeIfAbsent(id, k -> new ArrayList<>()).add(row.durationMicros());
+            }
+        }
+        durations.forEach((id, bucketDurations) -> summarizeLatency(buckets.get(id), bucketDurations));
+        resultRollupEntityRepository.saveAll(buckets.values());
+        saveWatermark(MINUTE, to);
+        return buckets.size();
+    }
+
+    private void increment(ResultRollupEntity bucket, String result) {
+        switch (resultMapper.mapMonitoringType(result)) {
+            case SUCCESS -> bucket.setSuccessCount(bucket.getSuccessCount() + 1);
+            case FAILURE -> bucket.setFailureCount(bucket.getFailureCount() + 1);
+            case WARNING -> bucket.setWarningCount(bucket.getWarningCount() + 1);
+            case ERROR -> bucket.setErrorCount(bucket.getErrorCount() + 1);
+            case UNKNOWN -> bucket.setUnknownCount(bucket.getUnknownCount() + 1);
+        }
+    }
+
+    private static void summarizeLatency(ResultRollupEntity bucket, List<Long> durations) {
+        durations.sort(null);
+        int count = durations.size();
+        bucket.setDurationCount((long) count);
+        bucket.setDurationSumMicros(durations.stream().mapToLong(Long::longValue).sum());
+        bucket.setDurationMinMicros(durations.getFirst());
+        bucket.setDurationMaxMicros(durations.getLast());
+        bucket.setDurationP95Micros(durations.get((int) Math.ceil(LATENCY_PERCENTILE * count) - 1));
+    }
+
+    private void rollUp(RollupResolution source, RollupResolution resolution) {
+        Instant sourceWatermark = watermark(source);
+        if (sourceWatermark == null) {
+            return;
+        }
+        Instant end = resolution.bucketStart(sourceWatermark);
+        Instant from = startOf(resolution, () -> resultRollupEntityRepository.findMinBucketStart(source.name()));
+        while (from != null && from.isBefore(end)) {
+            Instant bucketStart = from;
+            Instant bucketEnd = from.plus(resolution.duration());
+            Integer buckets = transactionTemplate.execute(status -> rollUpBucket(source, resolution, bucketStart, bucketEnd));
+            countBuckets(resolution, buckets);
+            from = bucketEnd;
+        }
+    }
+
+    private int rollUpBucket(RollupResolution source, RollupResolution resolution, Instant from, Instant to) {
+        resultRollupEntityRepository.deleteBetween(resolution.name(), from, to);
+        List<ResultRollupEntity> buckets = resultRollupEntityRepository.sumByTargetBetween(source.name(), from, to)
+                .stream()
+                .map(row -> toBucket(row, resolution, from))
+                .toList();
+        resultRollupEntityRepository.saveAll(buckets);
+        saveWatermark(resolution, to);
+        return buckets.size();
+    }
+
+    private ResultRollupEntity toBucket(RollupCountsRow row, RollupResolution resolution, Instant bucketStart) {
+        ResultRollupEntity bucket = new ResultRollupEntity(row.targetId(), resolution.name(), bucketStart);
+        bucket.setSuccessCount(row.successCount());
+        bucket.setFailureCount(row.failureCount());
+        bucket.setWarningCount(row.warningCount());
+        bucket.setErrorCount(row.errorCount());
+        bucket.setUnknownCount(row.unknownCount());
+        bucket.setDurationCount(row.durationCount());
+        bucket.setDurationSumMicros(row.durationSumMicros());
+        bucket.setDurationMinMicros(row.durationMinMicros());
+        bucket.setDurationMaxMicros(row.durationMaxMicros());
+        // Percentiles cannot be merged, the coarser bucket keeps the worst percentile of its source buckets
+        bucket.setDurationP95Micros(row.durationP95Micros());
+        return bucket;
+    }
+
+    private void purge(Instant now) {
+        for (RollupResolution resolution : RollupResolution.values()) {
+            Duration retention = properties.retention().of(resolution);
+            if (retention.isZero()) {
+                continue;
+            }
+            Integer purged = transactionTemplate.execute(status -> resultRollupEntityRepository.deleteOlderThan(resolution.name(), now.minus(retention)));
+            if (purged != null && purged > 0) {
+                log.debug("Purged {} {} rollups", purged, resolution);
+            }
+        }
+    }
+
+    private Instant startOf(RollupResolution resolution, Supplier<Instant> firstSourceInstant) {
+        Instant watermark = watermark(resolution);
+        if (watermark != null) {
+            return watermark;
+        }
+        Instant first = firstSourceInstant.get();
+        return first == null ? null : resolution.bucketStart(first);
+    }
+
+    private Instant watermark(RollupResolution resolution) {
+        return rollupWatermarkEntityRepository.findById(resolution.name())
+                .map(RollupWatermarkEntity::getRolledUpTo)
+                .orElse(null);
+    }
+
+    private void saveWatermark(RollupResolution resolution, Instant rolledUpTo) {
+        rollupWatermarkEntityRepository.save(new RollupWatermarkEntity(resolution.name(), rolledUpTo));
+    }
+
+    private void countBuckets(RollupResolution resolution, Integer buckets) {
+        Counter.builder("hlabmonitor.rollup.buckets")
+                .description("Rollup buckets written")
+                .tag("resolution", resolution.name().toLowerCase())
+                .register(meterRegistry)
+                .increment(buckets == null ? 0 : buckets);
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    @Override
+    public void start() {
+        future = taskScheduler.scheduleWithFixedDelay(this::run, properties.interval());
+    }
+
+    @Override
+    public void stop() {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return future != null;
+    }
+}
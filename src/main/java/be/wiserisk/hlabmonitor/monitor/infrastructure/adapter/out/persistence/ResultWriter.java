@@ -0,0 +1,7 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
+
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity;
+
+public interface ResultWriter {
+    void write(ResultEntity resultEntity);
+}
@@ -0,0 +1,66 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType;
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class TargetCache {
+
+    private static final String CACHE_NAME = "targets";
+
+    private final Map<String, Target> targets = new ConcurrentHashMap<>();
+    private final AtomicReference<Map<MonitoringType, Long>> typeCounts = new AtomicReference<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public TargetCache(MeterRegistry meterRegistry) {
+        this.hits = Counter.builder("cache.gets")
+                .description("Target lookups served from the cache")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cache.gets")
+                .description("Target lookups that had to be loaded from the database")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", targets, Map::size)
+                .description("Number of targets in the cache")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    public Target get(TargetId targetId, Function<TargetId, Target> loader) {
+        Target target = targets.get(targetId.id());
+        if (target != null) {
+            hits.increment();
+            return target;
+        }
+        misses.increment();
+        return targets.computeIfAbsent(targetId.id(), id -> loader.apply(targetId));
+    }
+
+    public Map<MonitoringType, Long> getTypeCounts(Supplier<Map<MonitoringType, Long>> loader) {
+        Map<MonitoringType, Long> counts = typeCounts.get();
+        if (counts != null) {
+            return counts;
+        }
+        counts = loader.get();
+        typeCounts.compareAndSet(null, counts);
+        return counts;
+    }
+
+    public void evict(TargetId targetId) {
+        targets.remove(targetId.id());
+        typeCounts.set(null);
+    }
+}
@@ -0,0 +1,271 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
+
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.PersistenceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+public class WriteBehindResultWriter implements ResultWriter, SmartLifecycle {
+
+    // Stop after the check executors so results of in-flight checks still reach the queue
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 1024;
+    private static final long CLOSE_CHECK_NANOS = Duration.ofMillis(100L).toNanos();
+
+    private final ResultEntityRepository resultEntityRepository;
+    private final PersistenceProperties.WriteBehind properties;
+    private final BlockingQueue<ResultEntity> queue;
+
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    // Writers enqueue under the read lock, closing takes the write lock: nothing reaches the queue once it is closed
+    private final ReadWriteLock handOff = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private volatile int flushing;
+    private Thread flusher;
+
+    public WriteBehindResultWriter(ResultEntityRepository resultEntityRepository,
+                                   PersistenceProperties.WriteBehind properties,
+                                   MeterRegistry meterRegistry) {
+        this.resultEntityRepository = resultEntityRepository;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        Gauge.builder("hlabmonitor.persistence.write.queue.size", queue, BlockingQueue::size)
+                .description("Results waiting to be persisted")
+                .register(meterRegistry);
+        Gauge.builder("hlabmonitor.persistence.write.queue.capacity", queue, q -> properties.queueCapacity())
+                .description("Maximum number of results waiting to be persisted")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("hlabmonitor.persistence.write.flush")
+                .description("Time spent persisting one batch of results")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("hlabmonitor.persistence.write.batch.size")
+                .description("Number of results persisted per batch")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("hlabmonitor.persistence.write.dropped")
+                .description("Results dropped because the queue was full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("hlabmonitor.persistence.write.failed")
+                .description("Results that could not be persisted")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void write(ResultEntity resultEntity) {
+        handOff.readLock().lock();
+        try {
+            if (running) {
+                enqueue(resultEntity);
+                return;
+            }
+        } finally {
+            handOff.readLock().unlock();
+        }
+        flush(List.of(resultEntity));
+    }
+
+    private void enqueue(ResultEntity resultEntity) {
+        if (queue.offer(resultEntity)) {
+            return;
+        }
+        switch (properties.backpressure()) {
+            case BLOCK -> enqueueBlocking(resultEntity);
+            case CALLER_RUNS -> flushFromCaller(resultEntity);
+            case DROP -> drop(resultEntity);
+        }
+    }
+
+    private void enqueueBlocking(ResultEntity resultEntity) {
+        try {
+            queue.put(resultEntity);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flush(List.of(resultEntity));
+        }
+    }
+
+    private void flushFromCaller(ResultEntity resultEntity) {
+        List<ResultEntity> batch = new ArrayList<>(properties.batchSize());
+        batch.add(resultEntity);
+        queue.drainTo(batch, properties.batchSize() - 1);
+        flush(batch);
+    }
+
+    private void drop(ResultEntity resultEntity) {
+        droppedCounter.increment();
+        log.warn("Result queue is full, dropping result of {}", resultEntity.getTargetId());
+    }
+
+    private void runFlushLoop() {
+        while (running || !queue.isEmpty()) {
+            List<ResultEntity> batch = new ArrayList<>(properties.batchSize());
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                flushBatch(batch);
+                // Writers blocked on a full queue hold the read lock: keep draining until the queue can be closed
+                while (!handOff.writeLock().tryLock()) {
+                    flushBatch(drainQueue());
+                }
+                try {
+                    running = false;
+                } finally {
+                    handOff.writeLock().unlock();
+                }
+                flushBatch(drainQueue());
+                return;
+            }
+            flushBatch(batch);
+        }
+    }
+
+    private List<ResultEntity> drainQueue() {
+        List<ResultEntity> batch = new ArrayList<>(queue.size());
+        queue.drainTo(batch);
+        return batch;
+    }
+
+    private void flushBatch(List<ResultEntity> batch) {
+        flushing = batch.size();
+        flush(batch);
+        flushing = 0;
+    }
+
+    private void collectBatch(List<ResultEntity> batch) throws InterruptedException {
+        long flushIntervalNanos = properties.flushInterval().toNanos();
+        ResultEntity first = poll(flushIntervalNanos);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < properties.batchSize()) {
+            queue.drainTo(batch, properties.batchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.batchSize() || remaining <= 0 || !running) {
+                return;
+            }
+            ResultEntity next = poll(remaining);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    // Waits in short slices so a closed writer does not hold its batch for a whole flush interval
+    private ResultEntity poll(long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        long remaining = timeoutNanos;
+        while (running && remaining > 0) {
+            ResultEntity next = queue.poll(Math.min(remaining, CLOSE_CHECK_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                return next;
+            }
+            remaining = deadline - System.nanoTime();
+        }
+        return queue.poll();
+    }
+
+    void flush(List<ResultEntity> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizeSummary.record(batch.size());
+        flushTimer.record(() -> saveBatch(batch));
+    }
+
+    private void saveBatch(List<ResultEntity> batch) {
+        try {
+            resultEntityRepository.saveAll(batch);
+        } catch (RuntimeException e) {
+            log.warn("Unable to persist a batch of {} results, retrying one by one: {}", batch.size(), e.getMessage());
+            batch.forEach(this::saveOne);
+        }
+    }
+
+    private void saveOne(ResultEntity resultEntity) {
+        try {
+            resultEntity.setId(null);
+            resultEntityRepository.save(resultEntity);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.error("Unable to persist result of {}", resultEntity.getTargetId(), e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform()
+                .name("result-writer")
+                .daemon(true)
+                .start(this::runFlushLoop);
+    }
+
+    @Override
+    public void stop() {
+        close();
+        long deadline = System.nanoTime() + properties.shutdownTimeout().toNanos();
+        awaitFlusher(deadline);
+        // The queue is closed: whatever the flusher did not pick up in time is persisted from here
+        flush(drainQueue());
+        awaitFlusher(deadline);
+        if (flusher != null && flusher.isAlive()) {
+            int unsaved = flushing;
+            failedCounter.increment(unsaved);
+            log.warn("Result writer still persisting {} results after {}, they may be lost", unsaved, properties.shutdownTimeout());
+        }
+    }
+
+    private void close() {
+        handOff.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            handOff.writeLock().unlock();
+        }
+    }
+
+    private void awaitFlusher(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (flusher == null || remaining <= 0) {
+            return;
+        }
+        try {
+            flusher.join(Duration.ofNanos(remaining));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
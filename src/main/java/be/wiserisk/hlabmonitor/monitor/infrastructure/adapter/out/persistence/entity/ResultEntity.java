@@ -9,12 +9,18 @@ import java.time.Instant;
 
 @Entity
 @Table(name = "RESULT")
+@NamedQuery(name = "ResultEntity.countByMinuteSince",
+        query = "select new be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultMinuteCountRow(" +
+                "cast(floor(extract(epoch from r.checkedAt) / 60) as Long), r.result, count(r)) " +
+                "from ResultEntity r where r.checkedAt >= :from " +
+                "group by cast(floor(extract(epoch from r.checkedAt) / 60) as Long), r.result")
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class ResultEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "result_seq")
+    @SequenceGenerator(name = "result_seq", sequenceName = "RESULT_SEQ", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -26,4 +32,17 @@ public class ResultEntity {
     private String message;
     @Column(name = "checked_at", nullable = false)
     private Instant checkedAt;
+
+    @Column(name = "duration_micros", nullable = true)
+    private Long durationMicros;
+    @Column(name = "dns_micros", nullable = true)
+    private Long dnsMicros;
+    @Column(name = "connect_micros", nullable = true)
+    private Long connectMicros;
+    @Column(name = "tls_micros", nullable = true)
+    private Long tlsMicros;
+
+    public ResultEntity(Long id, String targetId, String result, String message, Instant checkedAt) {
+        this(id, targetId, result, message, checkedAt, null, null, null, null);
+    }
 }
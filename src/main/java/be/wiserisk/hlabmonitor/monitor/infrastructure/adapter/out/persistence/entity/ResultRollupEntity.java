@@ -0,0 +1,77 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "RESULT_ROLLUP")
+@IdClass(ResultRollupId.class)
+@Data
+@NoArgsConstructor
+public class ResultRollupEntity implements Persistable<ResultRollupId> {
+
+    @Id
+    @Column(name = "target_id", nullable = false)
+    private String targetId;
+    @Id
+    @Column(name = "resolution", nullable = false)
+    private String resolution;
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private Instant bucketStart;
+
+    @Column(name = "success_count", nullable = false)
+    private long successCount;
+    @Column(name = "failure_count", nullable = false)
+    private long failureCount;
+    @Column(name = "warning_count", nullable = false)
+    private long warningCount;
+    @Column(name = "error_count", nullable = false)
+    private long errorCount;
+    @Column(name = "unknown_count", nullable = false)
+    private long unknownCount;
+    // Latency columns are null when no result of the bucket carried a duration
+    @Column(name = "duration_count")
+    private Long durationCount;
+    @Column(name = "duration_sum_micros")
+    private Long durationSumMicros;
+    @Column(name = "duration_min_micros")
+    private Long durationMinMicros;
+    @Column(name = "duration_max_micros")
+    private Long durationMaxMicros;
+    @Column(name = "duration_p95_micros")
+    private Long durationP95Micros;
+
+    // Buckets are always rebuilt after their window was cleared, so saving them must not trigger a merge select
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean persisted;
+
+    public ResultRollupEntity(String targetId, String resolution, Instant bucketStart) {
+        this.targetId = targetId;
+        this.resolution = resolution;
+        this.bucketStart = bucketStart;
+    }
+
+    @Override
+    public ResultRollupId getId() {
+        return new ResultRollupId(targetId, resolution, bucketStart);
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
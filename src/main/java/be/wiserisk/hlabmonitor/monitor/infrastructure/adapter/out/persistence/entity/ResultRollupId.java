@@ -0,0 +1,17 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultRollupId implements Serializable {
+    private String targetId;
+    private String resolution;
+    private Instant bucketStart;
+}
@@ -0,0 +1,26 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "ROLLUP_WATERMARK")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupWatermarkEntity {
+
+    @Id
+    @Column(name = "resolution", nullable = false)
+    private String resolution;
+
+    @Column(name = "rolled_up_to", nullable = false)
+    private Instant rolledUpTo;
+}
@@ -0,0 +1,6 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository;
+
+import java.time.Instant;
+
+public record ResultBucketRow(String targetId, String result, Instant checkedAt, Long durationMicros) {
+}
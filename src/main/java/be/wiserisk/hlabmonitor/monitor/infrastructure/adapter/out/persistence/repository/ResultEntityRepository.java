@@ -1,18 +1,51 @@
 package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository;
 
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ResultEntityRepository extends JpaRepository<ResultEntity, Long>, JpaSpecificationExecutor<ResultEntity> {
-    List<ResultEntity> findAllByTargetId(String id);
+    @Query("select r from ResultEntity r where r.targetId = :targetId and r.checkedAt >= :from and r.checkedAt <= :to " +
+            "order by r.checkedAt desc, r.id desc")
+    List<ResultEntity> findLatestByTargetIdBetween(@Param("targetId") String targetId, @Param("from") Instant from, @Param("to") Instant to, Limit limit);
 
     Long countByCheckedAtGreaterThanEqual(Instant checkedAt);
 
     Long countByResultAndCheckedAtGreaterThanEqual(String result, Instant checkedAt);
+
+    @Query("select new be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ValueCountRow(r.result, count(r)) " +
+            "from ResultEntity r where r.checkedAt >= :from group by r.result")
+    List<ValueCountRow> countByResultSince(@Param("from") Instant from);
+
+    // Named query on ResultEntity, overridden for SQLite in orm-sqlite.xml
+    List<ResultMinuteCountRow> countByMinuteSince(@Param("from") Instant from);
+
+    @Query("select new be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultBucketRow(r.targetId, r.result, r.checkedAt, r.durationMicros) " +
+            "from ResultEntity r where r.checkedAt >= :from and r.checkedAt < :to")
+    List<ResultBucketRow> findBucketRowsBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("select r from ResultEntity r where r.checkedAt = " +
+            "(select max(l.checkedAt) from ResultEntity l where l.targetId = r.targetId)")
+    List<ResultEntity> findLatestPerTarget();
+
+    @Query("select min(r.checkedAt) from ResultEntity r")
+    Instant findMinCheckedAt();
+
+    @Query("select r.id from ResultEntity r where r.checkedAt < :before")
+    List<Long> findIdsCheckedAtBefore(@Param("before") Instant before, Limit limit);
+
+    @Query("select r.id from ResultEntity r where r.targetId in :targetIds and r.checkedAt < :before")
+    List<Long> findIdsByTargetIdInCheckedAtBefore(@Param("targetIds") Collection<String> targetIds, @Param("before") Instant before, Limit limit);
+
+    @Query("select r.id from ResultEntity r where r.targetId not in :targetIds and r.checkedAt < :before")
+    List<Long> findIdsByTargetIdNotInCheckedAtBefore(@Param("targetIds") Collection<String> targetIds, @Param("before") Instant before, Limit limit);
 }
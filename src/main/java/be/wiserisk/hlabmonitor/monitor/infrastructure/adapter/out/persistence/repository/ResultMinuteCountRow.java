@@ -0,0 +1,4 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository;
+
+public record ResultMinuteCountRow(Long epochMinute, String result, Long count) {
+}
@@ -0,0 +1,47 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository;
+
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultRollupEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface ResultRollupEntityRepository extends JpaRepository<ResultRollupEntity, ResultRollupId> {
+
+    List<ResultRollupEntity> findAllByResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(String resolution, Instant from, Instant to);
+
+    List<ResultRollupEntity> findAllByTargetIdInAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(List<String> targetIds, String resolution, Instant from, Instant to);
+
+    @Query("select new be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.RollupCountsRow(" +
+            "r.targetId, sum(r.successCount), sum(r.failureCount), sum(r.warningCount), sum(r.errorCount), sum(r.unknownCount), " +
+            "sum(r.durationCount), sum(r.durationSumMicros), min(r.durationMinMicros), max(r.durationMaxMicros), max(r.durationP95Micros)) " +
+            "from ResultRollupEntity r where r.resolution = :resolution and r.bucketStart >= :from and r.bucketStart < :to " +
+            "group by r.targetId")
+    List<RollupCountsRow> sumByTargetBetween(@Param("resolution") String resolution, @Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("select new be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.RollupBucketCountsRow(" +
+            "r.bucketStart, sum(r.successCount), sum(r.failureCount), sum(r.warningCount), sum(r.errorCount), sum(r.unknownCount)) " +
+            "from ResultRollupEntity r where r.resolution = :resolution and r.bucketStart >= :from " +
+            "group by r.bucketStart")
+    List<RollupBucketCountsRow> sumByBucketSince(@Param("resolution") String resolution, @Param("from") Instant from);
+
+    @Query("select min(r.bucketStart) from ResultRollupEntity r where r.resolution = :resolution")
+    Instant findMinBucketStart(@Param("resolution") String resolution);
+
+    @Query("select max(r.bucketStart) from ResultRollupEntity r where r.resolution = :resolution")
+    Instant findMaxBucketStart(@Param("resolution") String resolution);
+
+    @Modifying
+    @Query("delete from ResultRollupEntity r where r.resolution = :resolution and r.bucketStart >= :from and r.bucketStart < :to")
+    int deleteBetween(@Param("resolution") String resolution, @Param("from") Instant from, @Param("to") Instant to);
+
+    @Modifying
+    @Query("delete from ResultRollupEntity r where r.resolution = :resolution and r.bucketStart < :before")
+    int deleteOlderThan(@Param("resolution") String resolution, @Param("before") Instant before);
+}
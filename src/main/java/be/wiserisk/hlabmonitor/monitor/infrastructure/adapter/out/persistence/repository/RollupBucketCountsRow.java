@@ -0,0 +1,6 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository;
+
+import java.time.Instant;
+
+public record RollupBucketCountsRow(Instant bucketStart, Long successCount, Long failureCount, Long warningCount, Long errorCount, Long unknownCount) {
+}
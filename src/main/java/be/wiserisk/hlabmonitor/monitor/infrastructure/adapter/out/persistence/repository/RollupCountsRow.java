@@ -0,0 +1,5 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository;
+
+public record RollupCountsRow(String targetId, Long successCount, Long failureCount, Long warningCount, Long errorCount, Long unknownCount,
+                              Long durationCount, Long durationSumMicros, Long durationMinMicros, Long durationMaxMicros, Long durationP95Micros) {
+}
@@ -2,6 +2,7 @@ package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.r
 
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.TargetEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
@@ -18,4 +19,8 @@ public interface TargetEntityRepository extends JpaRepository<TargetEntity, Long
     List<TargetEntity> findAllByType(String type);
 
     Long countByType(String type);
+
+    @Query("select new be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ValueCountRow(t.type, count(t)) " +
+            "from TargetEntity t group by t.type")
+    List<ValueCountRow> countGroupByType();
 }
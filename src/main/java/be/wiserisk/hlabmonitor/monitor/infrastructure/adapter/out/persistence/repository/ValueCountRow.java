@@ -0,0 +1,4 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository;
+
+public record ValueCountRow(String value, Long count) {
+}
@@ -0,0 +1,14 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.reachability;
+
+import java.time.Duration;
+
+public record ReachabilityResult(boolean reachable, Duration rtt, String message) {
+
+    public static ReachabilityResult reachable(Duration rtt) {
+        return new ReachabilityResult(true, rtt, "");
+    }
+
+    public static ReachabilityResult unreachable(Duration rtt, String message) {
+        return new ReachabilityResult(false, rtt, message);
+    }
+}
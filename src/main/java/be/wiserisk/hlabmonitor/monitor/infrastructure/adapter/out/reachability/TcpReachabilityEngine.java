@@ -0,0 +1,258 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.reachability;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// TCP connect probes multiplexed on a single selector thread: outstanding probes only cost a socket each
+@Slf4j
+public class TcpReachabilityEngine implements AutoCloseable {
+
+    private final Selector selector;
+    private final Queue<Probe> registrations = new ConcurrentLinkedQueue<>();
+    private final PriorityQueue<Probe> deadlines = new PriorityQueue<>(Comparator.comparingLong(Probe::deadline));
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Thread worker;
+
+    private volatile boolean stopped;
+
+    public TcpReachabilityEngine(String name) {
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.worker = Thread.ofPlatform().name(name).daemon(true).unstarted(this::run);
+    }
+
+    // Ports are probed in parallel, the host is reachable as soon as one of them answers
+    public CompletableFuture<ReachabilityResult> probe(InetAddress address, List<Integer> ports, Duration timeout) {
+        List<CompletableFuture<ReachabilityResult>> probes = ports.stream()
+                .map(port -> probe(new InetSocketAddress(address, port), timeout))
+                .toList();
+        if (probes.size() == 1) {
+            return probes.getFirst();
+        }
+        CompletableFuture<ReachabilityResult> result = new CompletableFuture<>();
+        probes.forEach(probe -> probe.thenAccept(reachability -> {
+            if (reachability.reachable()) {
+                result.complete(reachability);
+            }
+        }));
+        CompletableFuture.allOf(probes.toArray(CompletableFuture[]::new))
+                .thenRun(() -> result.complete(probes.getFirst().join()));
+        return result;
+    }
+
+    public CompletableFuture<ReachabilityResult> probe(InetSocketAddress address, Duration timeout) {
+        if (stopped) {
+            throw new IllegalStateException("Reachability engine is stopped");
+        }
+        start();
+        outstanding.incrementAndGet();
+        Probe probe = new Probe(System.nanoTime(), timeout.toNanos());
+        if (address.isUnresolved()) {
+            complete(probe, "Unknown host");
+            return probe.result;
+        }
+        try {
+            probe.channel = SocketChannel.open();
+            probe.channel.configureBlocking(false);
+            if (probe.channel.connect(address)) {
+                succeed(probe);
+                return probe.result;
+            }
+        } catch (IOException e) {
+            fail(probe, e);
+            return probe.result;
+        }
+        registrations.add(probe);
+        selector.wakeup();
+        return probe.result;
+    }
+
+    public int outstanding() {
+        return outstanding.get();
+    }
+
+    private void start() {
+        if (started.compareAndSet(false, true)) {
+            worker.start();
+        }
+    }
+
+    private void run() {
+        while (!stopped) {
+            register();
+            try {
+                selector.select(nextTimeoutMillis());
+            } catch (IOException e) {
+                log.error("Reachability selector failed: {}", e.getMessage(), e);
+            }
+            finishConnects();
+            expire();
+        }
+        abortAll();
+    }
+
+    private void register() {
+        Probe probe;
+        while ((probe = registrations.poll()) != null) {
+            try {
+                probe.channel.register(selector, SelectionKey.OP_CONNECT, probe);
+                deadlines.add(probe);
+            } catch (ClosedChannelException e) {
+                fail(probe, e);
+            }
+        }
+    }
+
+    private long nextTimeoutMillis() {
+        Probe next = deadlines.peek();
+        if (next == null) {
+            return 0L;
+        }
+        long remaining = next.deadline() - System.nanoTime();
+        return Math.max(1L, TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+    }
+
+    private void finishConnects() {
+        Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+        while (iterator.hasNext()) {
+            SelectionKey key = iterator.next();
+            iterator.remove();
+            Probe probe = (Probe) key.attachment();
+            try {
+                if (probe.channel.finishConnect()) {
+                    succeed(probe);
+                }
+            } catch (IOException e) {
+                fail(probe, e);
+            }
+        }
+    }
+
+    // Completed probes stay in the queue until their deadline and are skipped here
+    private void expire() {
+        long now = System.nanoTime();
+        while (!deadlines.isEmpty() && (deadlines.peek().done || deadlines.peek().deadline() <= now)) {
+            Probe probe = deadlines.poll();
+            if (!probe.done) {
+                complete(probe, "Timeout");
+            }
+        }
+    }
+
+    private void abortAll() {
+        Probe probe;
+        while ((probe = registrations.poll()) != null) {
+            complete(probe, "Reachability engine stopped");
+        }
+        while ((probe = deadlines.poll()) != null) {
+            complete(probe, "Reachability engine stopped");
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            log.warn("Failed to close reachability selector: {}", e.getMessage());
+        }
+    }
+
+    private void succeed(Probe probe) {
+        complete(probe, null);
+    }
+
+    // A refused connection is an answer from the host, so it counts as reachable
+    private void fail(Probe probe, IOException error) {
+        if (isRefused(error)) {
+            succeed(probe);
+        } else {
+            complete(probe, error.getMessage() == null ? error.getClass().getSimpleName() : error.getMessage());
+        }
+    }
+
+    private void complete(Probe probe, String failure) {
+        if (probe.done) {
+            return;
+        }
+        probe.done = true;
+        Duration rtt = Duration.ofNanos(System.nanoTime() - probe.startNanos);
+        close(probe.channel, failure == null);
+        outstanding.decrementAndGet();
+        probe.result.complete(failure == null ? ReachabilityResult.reachable(rtt) : ReachabilityResult.unreachable(rtt, failure));
+    }
+
+    private static boolean isRefused(IOException error) {
+        return error instanceof ConnectException && error.getMessage() != null && error.getMessage().contains("refused");
+    }
+
+    // Resetting established probe connections keeps thousands of probes per minute from piling up in TIME_WAIT
+    private static void close(SocketChannel channel, boolean connected) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            if (connected && channel.isConnected()) {
+                channel.setOption(StandardSocketOptions.SO_LINGER, 0);
+            }
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close probe socket: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        stopped = true;
+        selector.wakeup();
+        try {
+            if (worker.isAlive()) {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } else if (!started.get()) {
+                selector.close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("Failed to close reachability selector: {}", e.getMessage());
+        }
+    }
+
+    private static final class Probe {
+        private final long startNanos;
+        private final long timeoutNanos;
+        private final CompletableFuture<ReachabilityResult> result = new CompletableFuture<>();
+        private SocketChannel channel;
+        private boolean done;
+
+        private Probe(long startNanos, long timeoutNanos) {
+            this.startNanos = startNanos;
+            this.timeoutNanos = timeoutNanos;
+        }
+
+        private long deadline() {
+            return startNanos + timeoutNanos;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTriggerCallback;
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType;
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CheckExecutionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class CheckDispatcher {
+
+    private final TaskExecutor checkExecutor;
+    private final CheckStartRateRecorder checkStartRateRecorder;
+    private final ScheduleLagMonitor scheduleLagMonitor;
+    private final Map<MonitoringType, Limiter> limiters = new EnumMap<>(MonitoringType.class);
+
+    public CheckDispatcher(TaskExecutor checkExecutor,
+                           CheckExecutionProperties properties,
+                           MeterRegistry meterRegistry,
+                           CheckStartRateRecorder checkStartRateRecorder,
+                           ScheduleLagMonitor scheduleLagMonitor) {
+        this.checkExecutor = checkExecutor;
+        this.checkStartRateRecorder = checkStartRateRecorder;
+        this.scheduleLagMonitor = scheduleLagMonitor;
+        for (MonitoringType type : MonitoringType.values()) {
+            limiters.put(type, new Limiter(type, properties.concurrencyFor(type), meterRegistry));
+        }
+    }
+
+    public void dispatch(Target target, CheckTriggerCallback callback, Instant scheduledAt) {
+        Limiter limiter = limiters.get(target.type());
+        long dispatchedAt = System.nanoTime();
+        limiter.dispatched.increment();
+        limiter.queued.incrementAndGet();
+        try {
+            checkExecutor.execute(() -> run(target, callback, limiter, dispatchedAt, scheduledAt));
+        } catch (TaskRejectedException e) {
+            limiter.queued.decrementAndGet();
+            limiter.rejected.increment();
+            log.warn("Check of {} rejected by the executor: {}", target.id().id(), e.getMessage());
+        }
+    }
+
+    private void run(Target target, CheckTriggerCallback callback, Limiter limiter, long dispatchedAt, Instant scheduledAt) {
+        limiter.queued.decrementAndGet();
+        limiter.waiting.incrementAndGet();
+        try {
+            limiter.permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            limiter.waiting.decrementAndGet();
+        }
+        limiter.startDelay.record(System.nanoTime() - dispatchedAt, TimeUnit.NANOSECONDS);
+        scheduleLagMonitor.started(target, scheduledAt);
+        checkStartRateRecorder.checkStarted();
+        try {
+            callback.onTrigger(target.id());
+        } catch (Exception e) {
+            log.error("Check execution failed: {}", e.getMessage(), e);
+        } finally {
+            limiter.permits.release();
+        }
+    }
+
+    private static final class Limiter {
+        private final Semaphore permits;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final Counter dispatched;
+        private final Counter rejected;
+        private final Timer startDelay;
+
+        private Limiter(MonitoringType type, int limit, MeterRegistry meterRegistry) {
+            this.permits = new Semaphore(limit);
+            String typeTag = type.name().toLowerCase();
+            Gauge.builder("hlabmonitor.check.concurrency.limit", () -> limit)
+                    .description("Maximum number of checks of this type running at the same time")
+                    .tag("type", typeTag)
+                    .register(meterRegistry);
+            Gauge.builder("hlabmonitor.check.inflight", permits, p -> limit - p.availablePermits())
+                    .description("Checks of this type currently running")
+                    .tag("type", typeTag)
+                    .register(meterRegistry);
+            Gauge.builder("hlabmonitor.check.queued", queued, AtomicInteger::get)
+                    .description("Checks of this type handed to the check executor and not started yet")
+                    .tag("type", typeTag)
+                    .register(meterRegistry);
+            Gauge.builder("hlabmonitor.check.waiting", waiting, AtomicInteger::get)
+                    .description("Checks of this type waiting for a concurrency slot")
+                    .tag("type", typeTag)
+                    .register(meterRegistry);
+            this.dispatched = Counter.builder("hlabmonitor.check.dispatched")
+                    .description("Checks of this type fired by the scheduler")
+                    .tag("type", typeTag)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("hlabmonitor.check.rejected")
+                    .description("Checks rejected by the check executor")
+                    .tag("type", typeTag)
+                    .register(meterRegistry);
+            this.startDelay = Timer.builder("hlabmonitor.check.start.delay")
+                    .description("Time between the scheduler firing a check and the check starting")
+                    .tag("type", typeTag)
+                    .register(meterRegistry);
+        }
+    }
+}
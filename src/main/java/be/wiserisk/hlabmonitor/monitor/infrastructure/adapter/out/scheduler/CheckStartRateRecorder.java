@@ -0,0 +1,56 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CheckStartRateRecorder implements SmartLifecycle {
+
+    private static final Duration WINDOW = Duration.ofSeconds(1L);
+
+    private final TaskScheduler taskScheduler;
+    private final LongAdder started = new LongAdder();
+    private final DistributionSummary startedPerSecond;
+
+    private ScheduledFuture<?> future;
+
+    public CheckStartRateRecorder(TaskScheduler taskScheduler, MeterRegistry meterRegistry) {
+        this.taskScheduler = taskScheduler;
+        this.startedPerSecond = DistributionSummary.builder("hlabmonitor.check.started.per.second")
+                .description("Number of checks started during each second")
+                .baseUnit("checks")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void checkStarted() {
+        started.increment();
+    }
+
+    void record() {
+        startedPerSecond.record(started.sumThenReset());
+    }
+
+    @Override
+    public void start() {
+        future = taskScheduler.scheduleAtFixedRate(this::record, WINDOW);
+    }
+
+    @Override
+    public void stop() {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return future != null;
+    }
+}
@@ -0,0 +1,238 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+@Slf4j
+public class HashedTimingWheel implements AutoCloseable {
+
+    private final long tickNanos;
+    private final int mask;
+    private final LinkedList<Timeout>[] buckets;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Thread worker;
+
+    private final long startTime = System.nanoTime();
+
+    private volatile boolean stopped;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, Duration tickDuration, int wheelSize) {
+        if (tickDuration.isZero() || tickDuration.isNegative()) {
+            throw new IllegalArgumentException("Tick duration must be positive: " + tickDuration);
+        }
+        if (wheelSize < 1) {
+            throw new IllegalArgumentException("Wheel size must be positive: " + wheelSize);
+        }
+        int normalizedSize = Integer.highestOneBit(wheelSize - 1) << 1;
+        normalizedSize = Math.max(normalizedSize, 1);
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = normalizedSize - 1;
+        this.buckets = new LinkedList[normalizedSize];
+        for (int i = 0; i < normalizedSize; i++) {
+            buckets[i] = new LinkedList<>();
+        }
+        this.worker = Thread.ofPlatform().name(name).daemon(true).unstarted(this::run);
+    }
+
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration initialDelay, Duration period) {
+        return scheduleAtFixedRate(scheduledAt -> task.run(), initialDelay, period);
+    }
+
+    // The task receives the time it was due, ticks and a busy worker make it run a bit later
+    public ScheduledFuture<?> scheduleAtFixedRate(Consumer<Instant> task, Duration initialDelay, Duration period) {
+        if (period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+        if (stopped) {
+            throw new IllegalStateException("Timing wheel is stopped");
+        }
+        start();
+        long deadline = System.nanoTime() - startTime + Math.max(0L, initialDelay.toNanos());
+        Timeout timeout = new Timeout(task, deadline, period.toNanos());
+        scheduled.incrementAndGet();
+        pending.add(timeout);
+        return timeout;
+    }
+
+    public int size() {
+        return scheduled.get();
+    }
+
+    private void start() {
+        if (started.compareAndSet(false, true)) {
+            worker.start();
+        }
+    }
+
+    private void run() {
+        while (!stopped) {
+            if (!waitForNextTick()) {
+                break;
+            }
+            transferPending();
+            expire(buckets[(int) (tick & mask)], System.nanoTime() - startTime);
+            tick++;
+        }
+    }
+
+    private boolean waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = deadline - (System.nanoTime() - startTime);
+            if (sleepNanos <= 0) {
+                return true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (stopped) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (!timeout.isCancelled()) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void place(Timeout timeout) {
+        long calculated = timeout.deadline / tickNanos;
+        timeout.remainingRounds = (calculated - tick) / buckets.length;
+        long ticks = Math.max(calculated, tick);
+        buckets[(int) (ticks & mask)].add(timeout);
+    }
+
+    private void expire(LinkedList<Timeout> bucket, long now) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                fire(timeout);
+                if (!timeout.isCancelled()) {
+                    timeout.deadline = nextDeadline(timeout, now);
+                    pending.add(timeout);
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    // Runs that were missed while the wheel lagged behind are skipped instead of fired in a burst
+    private static long nextDeadline(Timeout timeout, long now) {
+        long next = timeout.deadline + timeout.periodNanos;
+        if (next <= now) {
+            next += ((now - next) / timeout.periodNanos + 1) * timeout.periodNanos;
+        }
+        return next;
+    }
+
+    private void fire(Timeout timeout) {
+        try {
+            long late = System.nanoTime() - startTime - timeout.deadline;
+            timeout.task.accept(Instant.now().minusNanos(Math.max(0L, late)));
+        } catch (Exception e) {
+            log.error("Scheduled task failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        stopped = true;
+        worker.interrupt();
+        try {
+            if (worker.isAlive()) {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private final class Timeout implements ScheduledFuture<Void> {
+        private final Consumer<Instant> task;
+        private final long periodNanos;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final CountDownLatch cancellation = new CountDownLatch(1);
+        private volatile long deadline;
+        private long remainingRounds;
+
+        private Timeout(Consumer<Instant> task, long deadline, long periodNanos) {
+            this.task = task;
+            this.deadline = deadline;
+            this.periodNanos = periodNanos;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - (System.nanoTime() - startTime), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!cancelled.compareAndSet(false, true)) {
+                return false;
+            }
+            cancellation.countDown();
+            scheduled.decrementAndGet();
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+
+        @Override
+        public boolean isDone() {
+            return isCancelled();
+        }
+
+        @Override
+        public Void get() throws InterruptedException {
+            cancellation.await();
+            throw new CancellationException();
+        }
+
+        @Override
+        public Void get(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+            if (cancellation.await(timeout, unit)) {
+                throw new CancellationException();
+            }
+            throw new TimeoutException();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTriggerCallback;
+import be.wiserisk.hlabmonitor.monitor.application.port.out.MonitoringSchedulerPort;
+import be.wiserisk.hlabmonitor.monitor.application.port.out.ScheduleHandle;
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MeteredMonitoringSchedulerPort implements MonitoringSchedulerPort, AutoCloseable {
+
+    private final MonitoringSchedulerPort delegate;
+    private final ScheduleLagMonitor scheduleLagMonitor;
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private final Counter scheduleCount;
+    private final Counter rescheduleCount;
+
+    public MeteredMonitoringSchedulerPort(MonitoringSchedulerPort delegate, MeterRegistry meterRegistry, ScheduleLagMonitor scheduleLagMonitor) {
+        this.delegate = delegate;
+        this.scheduleLagMonitor = scheduleLagMonitor;
+        Gauge.builder("hlabmonitor.scheduler.targets", scheduled, AtomicInteger::get)
+                .description("Targets currently scheduled")
+                .register(meterRegistry);
+        this.scheduleCount = Counter.builder("hlabmonitor.scheduler.scheduled")
+                .description("Targets scheduled since startup, including reschedules")
+                .register(meterRegistry);
+        this.rescheduleCount = Counter.builder("hlabmonitor.scheduler.rearmed")
+                .description("Interval changes of scheduled targets")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ScheduleHandle scheduleTarget(Target target, CheckTriggerCallback callback) {
+        ScheduleHandle handle = delegate.scheduleTarget(target, callback);
+        scheduleLagMonitor.scheduled(target);
+        scheduled.incrementAndGet();
+        scheduleCount.increment();
+        return handle;
+    }
+
+    @Override
+    public void reschedule(ScheduleHandle handle, Duration interval) {
+        if (handle != null && handle.isActive()) {
+            delegate.reschedule(handle, interval);
+            scheduleLagMonitor.rescheduled(handle.getTargetId(), interval);
+            rescheduleCount.increment();
+        }
+    }
+
+    @Override
+    public void unschedule(ScheduleHandle handle) {
+        if (handle != null && handle.isActive()) {
+            scheduled.decrementAndGet();
+            scheduleLagMonitor.unscheduled(handle.getTargetId());
+        }
+        delegate.unschedule(handle);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
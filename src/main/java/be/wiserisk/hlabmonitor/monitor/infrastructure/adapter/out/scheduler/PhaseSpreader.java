@@ -0,0 +1,38 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import lombok.AllArgsConstructor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+@AllArgsConstructor
+public class PhaseSpreader {
+    private final boolean enabled;
+    private final Duration jitter;
+
+    public Duration initialDelay(Target target) {
+        long intervalMillis = target.interval().toMillis();
+        if (intervalMillis <= 0) {
+            return Duration.ZERO;
+        }
+        // Derived from the endpoint: duplicate targets fire together and share a single probe
+        long offset = enabled ? Math.floorMod(mix(target.endpoint().hashCode()), intervalMillis) : 0L;
+        long jitterMillis = Math.min(jitter.toMillis(), intervalMillis);
+        if (jitterMillis > 0) {
+            offset += ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+        }
+        return Duration.ofMillis(offset % intervalMillis);
+    }
+
+    // String.hashCode differs only in the last bits for endpoints like "10.0.0.1", "10.0.0.2": spread them over the whole range
+    private static long mix(int hash) {
+        long h = hash;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
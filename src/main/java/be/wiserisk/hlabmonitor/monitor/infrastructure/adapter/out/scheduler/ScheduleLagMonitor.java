@@ -0,0 +1,135 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ScheduleLagMonitor {
+
+    private static final List<IntervalClass> INTERVAL_CLASSES = List.of(
+            new IntervalClass(Duration.ofSeconds(10L), "10s"),
+            new IntervalClass(Duration.ofMinutes(1L), "1m"),
+            new IntervalClass(Duration.ofMinutes(5L), "5m"),
+            new IntervalClass(Duration.ofHours(1L), "1h"));
+    private static final String LONGER = "longer";
+
+    private final MeterRegistry meterRegistry;
+    private final double overdueRatio;
+    private final Clock clock;
+    private final Map<String, TargetSchedule> schedules = new ConcurrentHashMap<>();
+    private final Map<String, Timer> lagTimers = new ConcurrentHashMap<>();
+
+    public ScheduleLagMonitor(MeterRegistry meterRegistry, double overdueRatio) {
+        this(meterRegistry, overdueRatio, Clock.systemUTC());
+    }
+
+    public ScheduleLagMonitor(MeterRegistry meterRegistry, double overdueRatio, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.overdueRatio = overdueRatio;
+        this.clock = clock;
+        Gauge.builder("hlabmonitor.scheduler.overdue", this, monitor -> monitor.overdueTargets().size())
+                .description("Scheduled targets checked less often than their interval times the overdue ratio")
+                .register(meterRegistry);
+    }
+
+    public void scheduled(Target target) {
+        schedules.put(target.id().id(), new TargetSchedule(target.interval(), clock.instant()));
+    }
+
+    public void rescheduled(String targetId, Duration interval) {
+        schedules.computeIfPresent(targetId, (id, schedule) -> schedule.withInterval(interval));
+    }
+
+    public void unscheduled(String targetId) {
+        schedules.remove(targetId);
+    }
+
+    public void started(Target target, Instant scheduledAt) {
+        Instant now = clock.instant();
+        Duration lag = Duration.between(scheduledAt, now);
+        lagTimer(target.interval()).record(lag.isNegative() ? Duration.ZERO : lag);
+        TargetSchedule schedule = schedules.get(target.id().id());
+        if (schedule != null) {
+            schedule.started(now);
+        }
+    }
+
+    public int size() {
+        return schedules.size();
+    }
+
+    public List<String> overdueTargets() {
+        Instant now = clock.instant();
+        return schedules.entrySet().stream()
+                .filter(entry -> entry.getValue().isOverdue(now, overdueRatio))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+
+    private Timer lagTimer(Duration interval) {
+        String intervalClass = intervalClass(interval);
+        return lagTimers.computeIfAbsent(intervalClass, key -> Timer.builder("hlabmonitor.scheduler.lag")
+                .description("Delay between the time a check was scheduled for and the time it started")
+                .tag("interval", key)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    static String intervalClass(Duration interval) {
+        return INTERVAL_CLASSES.stream()
+                .filter(intervalClass -> interval.compareTo(intervalClass.upTo()) <= 0)
+                .map(IntervalClass::tag)
+                .findFirst()
+                .orElse(LONGER);
+    }
+
+    private record IntervalClass(Duration upTo, String tag) {
+    }
+
+    private static final class TargetSchedule {
+        private final Duration interval;
+        private final Instant scheduledAt;
+        private volatile Instant lastStart;
+        private volatile Duration lastEffectiveInterval;
+
+        private TargetSchedule(Duration interval, Instant scheduledAt) {
+            this.interval = interval;
+            this.scheduledAt = scheduledAt;
+        }
+
+        // The gap measured before the change was planned with the previous interval
+        private TargetSchedule withInterval(Duration interval) {
+            TargetSchedule schedule = new TargetSchedule(interval, scheduledAt);
+            schedule.lastStart = lastStart;
+            return schedule;
+        }
+
+        private void started(Instant now) {
+            Instant previous = lastStart;
+            if (previous != null) {
+                lastEffectiveInterval = Duration.between(previous, now);
+            }
+            lastStart = now;
+        }
+
+        // A target that never started is given one extra interval, its first check is delayed by up to one interval
+        private boolean isOverdue(Instant now, double overdueRatio) {
+            long allowedNanos = (long) (interval.toNanos() * overdueRatio);
+            Duration effective = lastEffectiveInterval;
+            if (effective != null && effective.toNanos() > allowedNanos) {
+                return true;
+            }
+            Instant reference = lastStart != null ? lastStart : scheduledAt.plus(interval);
+            return Duration.between(reference, now).toNanos() > allowedNanos;
+        }
+    }
+}
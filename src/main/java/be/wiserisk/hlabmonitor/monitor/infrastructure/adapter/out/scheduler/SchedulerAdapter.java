@@ -6,33 +6,36 @@ import be.wiserisk.hlabmonitor.monitor.application.port.out.ScheduleHandle;
 import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
-import org.springframework.scheduling.support.PeriodicTrigger;
 
+import java.time.Duration;
 import java.util.concurrent.ScheduledFuture;
 
 @Slf4j
 @AllArgsConstructor
 public class SchedulerAdapter implements MonitoringSchedulerPort {
     private final ThreadPoolTaskScheduler scheduler;
-    private final TaskExecutor checkExecutor;
+    private final CheckDispatcher checkDispatcher;
+    private final PhaseSpreader phaseSpreader;
 
     @Override
     public ScheduleHandle scheduleTarget(Target target, CheckTriggerCallback callback) {
-        Runnable scheduledTask = () -> checkExecutor.execute(() -> {
-            try {
-                callback.onTrigger(target.id());
-            } catch (Exception e) {
-                log.error("Check execution failed: {}", e.getMessage(), e);
-            }
-        });
+        ScheduledFuture<?> future = schedule(target, callback, phaseSpreader.initialDelay(target));
+        return new SpringScheduleHandle(target.id().id(), future,
+                (interval, initialDelay) -> schedule(target.withInterval(interval), callback, initialDelay));
+    }
 
-        PeriodicTrigger trigger = new PeriodicTrigger(target.interval());
-        trigger.setFixedRate(false);
+    private ScheduledFuture<?> schedule(Target target, CheckTriggerCallback callback, Duration initialDelay) {
+        TargetTrigger trigger = new TargetTrigger(target.interval(), initialDelay);
+        Runnable scheduledTask = () -> checkDispatcher.dispatch(target, callback, trigger.getScheduledExecution());
+        return scheduler.schedule(scheduledTask, trigger);
+    }
 
-        ScheduledFuture<?> future = scheduler.schedule(scheduledTask, trigger);
-        return new SpringScheduleHandle(target.id().id(), future);
+    @Override
+    public void reschedule(ScheduleHandle handle, Duration interval) {
+        if (handle instanceof SpringScheduleHandle springScheduleHandle) {
+            springScheduleHandle.rearm(interval);
+        }
     }
 
     @Override
@@ -0,0 +1,28 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.boot.health.contributor.Status;
+
+import java.util.List;
+
+@AllArgsConstructor
+public class SchedulerHealthIndicator implements HealthIndicator {
+
+    public static final Status OVERDUE = new Status("OVERDUE", "Some targets are checked less often than configured");
+    static final int MAX_LISTED_TARGETS = 20;
+
+    private final ScheduleLagMonitor scheduleLagMonitor;
+
+    @Override
+    public Health health() {
+        List<String> overdueTargets = scheduleLagMonitor.overdueTargets();
+        Health.Builder builder = overdueTargets.isEmpty() ? Health.up() : Health.status(OVERDUE);
+        return builder
+                .withDetail("scheduled", scheduleLagMonitor.size())
+                .withDetail("overdue", overdueTargets.size())
+                .withDetail("overdueTargets", overdueTargets.stream().limit(MAX_LISTED_TARGETS).toList())
+                .build();
+    }
+}
@@ -3,21 +3,45 @@ package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.ScheduleHandle;
 import lombok.Getter;
 
+import java.time.Duration;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 
-@Getter
 public class SpringScheduleHandle implements ScheduleHandle {
 
+    @Getter
     private final String targetId;
-    private final ScheduledFuture<?> future;
+    @Getter
+    private volatile ScheduledFuture<?> future;
+    private final BiFunction<Duration, Duration, ScheduledFuture<?>> rescheduler;
 
     public SpringScheduleHandle(String targetId, ScheduledFuture<?> future) {
+        this(targetId, future, null);
+    }
+
+    // The rescheduler starts the same task with a new interval and initial delay
+    public SpringScheduleHandle(String targetId, ScheduledFuture<?> future, BiFunction<Duration, Duration, ScheduledFuture<?>> rescheduler) {
         this.targetId = targetId;
         this.future = future;
+        this.rescheduler = rescheduler;
+    }
+
+    // The next run never comes later than it was planned, so a shorter interval applies right away.
+    // No remaining delay means the task is running and its next run is not planned yet
+    public synchronized void rearm(Duration interval) {
+        if (rescheduler == null || !isActive()) {
+            return;
+        }
+        ScheduledFuture<?> previous = future;
+        Duration remaining = Duration.ofNanos(previous.getDelay(TimeUnit.NANOSECONDS));
+        previous.cancel(false);
+        boolean planned = remaining.isPositive() && remaining.compareTo(interval) < 0;
+        future = rescheduler.apply(interval, planned ? remaining : interval);
     }
 
     @Override
-    public void cancel() {
+    public synchronized void cancel() {
         if (isActive()) {
             future.cancel(false);
         }
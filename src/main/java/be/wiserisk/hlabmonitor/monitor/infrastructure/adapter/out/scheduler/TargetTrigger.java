@@ -0,0 +1,31 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.support.PeriodicTrigger;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// Remembers when the current execution was meant to start, so the task can measure how late it runs
+public class TargetTrigger extends PeriodicTrigger {
+
+    private volatile Instant scheduledExecution;
+
+    public TargetTrigger(Duration period, Duration initialDelay) {
+        super(period);
+        setFixedRate(false);
+        setInitialDelay(initialDelay);
+    }
+
+    @Override
+    public Instant nextExecution(TriggerContext triggerContext) {
+        Instant next = super.nextExecution(triggerContext);
+        scheduledExecution = next;
+        return next;
+    }
+
+    public Instant getScheduledExecution() {
+        Instant scheduled = scheduledExecution;
+        return scheduled == null ? Instant.now() : scheduled;
+    }
+}
@@ -0,0 +1,50 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTriggerCallback;
+import be.wiserisk.hlabmonitor.monitor.application.port.out.MonitoringSchedulerPort;
+import be.wiserisk.hlabmonitor.monitor.application.port.out.ScheduleHandle;
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import lombok.AllArgsConstructor;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+
+@AllArgsConstructor
+public class TimingWheelSchedulerAdapter implements MonitoringSchedulerPort, AutoCloseable {
+    private final HashedTimingWheel timingWheel;
+    private final CheckDispatcher checkDispatcher;
+    private final PhaseSpreader phaseSpreader;
+
+    @Override
+    public ScheduleHandle scheduleTarget(Target target, CheckTriggerCallback callback) {
+        ScheduledFuture<?> future = schedule(target, callback, phaseSpreader.initialDelay(target));
+        return new SpringScheduleHandle(target.id().id(), future,
+                (interval, initialDelay) -> schedule(target.withInterval(interval), callback, initialDelay));
+    }
+
+    private ScheduledFuture<?> schedule(Target target, CheckTriggerCallback callback, Duration initialDelay) {
+        return timingWheel.scheduleAtFixedRate(
+                scheduledAt -> checkDispatcher.dispatch(target, callback, scheduledAt),
+                initialDelay,
+                target.interval());
+    }
+
+    @Override
+    public void reschedule(ScheduleHandle handle, Duration interval) {
+        if (handle instanceof SpringScheduleHandle springScheduleHandle) {
+            springScheduleHandle.rearm(interval);
+        }
+    }
+
+    @Override
+    public void unschedule(ScheduleHandle handle) {
+        if (handle != null && handle.isActive()) {
+            handle.cancel();
+        }
+    }
+
+    @Override
+    public void close() {
+        timingWheel.close();
+    }
+}
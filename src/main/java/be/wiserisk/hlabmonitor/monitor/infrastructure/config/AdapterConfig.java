@@ -1,36 +1,165 @@
 package be.wiserisk.hlabmonitor.monitor.infrastructure.config;
 
+import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckMetricsPort;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTargetPort;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.MonitoringSchedulerPort;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.PersistencePort;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.CoalescingCheckTargetPort;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.HttpCheckAdapter;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.HttpClientMetrics;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.MeteredCheckTargetPort;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.MicrometerCheckMetricsAdapter;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.certificate.CertificateProbe;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.dns.DnsResolver;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.DirectResultWriter;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.JpaPersistenceAdapter;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.ResultPurgeJob;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.ResultRollupJob;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.ResultWriter;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.TargetCache;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.WriteBehindResultWriter;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultRollupEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.RollupWatermarkEntityRepository;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.TargetEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.reachability.TcpReachabilityEngine;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler.CheckDispatcher;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler.CheckStartRateRecorder;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler.HashedTimingWheel;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler.MeteredMonitoringSchedulerPort;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler.PhaseSpreader;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler.ScheduleLagMonitor;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler.SchedulerAdapter;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler.SchedulerHealthIndicator;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler.TimingWheelSchedulerAdapter;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.config.mapper.ResultMapper;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.config.mapper.TargetMapper;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CertificateProbeProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.DnsProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CheckExecutionProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.HttpClientProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.MetricsProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.PersistenceProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.ReachabilityProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.RollupProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.SchedulerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
-import org.springframework.web.client.RestClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.net.ssl.SSLSocketFactory;
+import java.net.http.HttpClient;
 
 @Configuration
 public class AdapterConfig {
 
     @Bean
     public CheckTargetPort checkTargetPort(
-            RestClient restClient) {
-        return new HttpCheckAdapter(
-                restClient);
+            DnsResolver dnsResolver,
+            HttpClient checkHttpClient,
+            HttpClientProperties httpClientProperties,
+            TcpReachabilityEngine tcpReachabilityEngine,
+            ReachabilityProperties reachabilityProperties,
+            CertificateProbe certificateProbe,
+            CertificateProbeProperties certificateProbeProperties,
+            CheckExecutionProperties checkExecutionProperties,
+            MeterRegistry meterRegistry,
+            MetricsProperties metricsProperties) {
+        return new CoalescingCheckTargetPort(
+                new MeteredCheckTargetPort(
+                        new HttpCheckAdapter(
+                                dnsResolver,
+                                checkHttpClient,
+                                httpClientProperties,
+                                new HttpClientMetrics(meterRegistry),
+                                tcpReachabilityEngine,
+                                reachabilityProperties,
+                                certificateProbe,
+                                certificateProbeProperties),
+                        meterRegistry,
+                        metricsProperties.targetTags()),
+                checkExecutionProperties.coalesceWindow(),
+                meterRegistry);
+    }
+
+    @Bean
+    public DnsResolver dnsResolver(DnsProperties dnsProperties, MeterRegistry meterRegistry) {
+        return new DnsResolver(dnsProperties, meterRegistry);
+    }
+
+    @Bean
+    public TcpReachabilityEngine tcpReachabilityEngine() {
+        return new TcpReachabilityEngine("reachability-selector");
+    }
+
+    @Bean
+    public CertificateProbe certificateProbe(DnsResolver dnsResolver, CertificateProbeProperties certificateProbeProperties) {
+        return new CertificateProbe((SSLSocketFactory) SSLSocketFactory.getDefault(), dnsResolver, certificateProbeProperties);
+    }
+
+    @Bean
+    public CheckMetricsPort checkMetricsPort(
+            MeterRegistry meterRegistry,
+            MetricsProperties metricsProperties) {
+        return new MicrometerCheckMetricsAdapter(meterRegistry, metricsProperties.targetTags());
     }
 
     @Bean
     public MonitoringSchedulerPort monitoringSchedulerPort(
+            SchedulerProperties schedulerProperties,
+            ThreadPoolTaskScheduler monitoringTaskScheduler,
+            CheckDispatcher checkDispatcher,
+            MeterRegistry meterRegistry,
+            ScheduleLagMonitor scheduleLagMonitor) {
+        PhaseSpreader phaseSpreader = new PhaseSpreader(
+                schedulerProperties.phaseSpread(),
+                schedulerProperties.jitter());
+        MonitoringSchedulerPort monitoringSchedulerPort = switch (schedulerProperties.type()) {
+            case POOL -> new SchedulerAdapter(monitoringTaskScheduler, checkDispatcher, phaseSpreader);
+            case TIMING_WHEEL -> new TimingWheelSchedulerAdapter(
+                    new HashedTimingWheel(
+                            "monitor-timing-wheel",
+                            schedulerProperties.tickDuration(),
+                            schedulerProperties.wheelSize()),
+                    checkDispatcher,
+                    phaseSpreader);
+        };
+        return new MeteredMonitoringSchedulerPort(monitoringSchedulerPort, meterRegistry, scheduleLagMonitor);
+    }
+
+    @Bean
+    public ScheduleLagMonitor scheduleLagMonitor(
+            MeterRegistry meterRegistry,
+            SchedulerProperties schedulerProperties) {
+        return new ScheduleLagMonitor(meterRegistry, schedulerProperties.overdueRatio());
+    }
+
+    @Bean
+    public SchedulerHealthIndicator schedulerHealthIndicator(ScheduleLagMonitor scheduleLagMonitor) {
+        return new SchedulerHealthIndicator(scheduleLagMonitor);
+    }
+
+    @Bean
+    public CheckDispatcher checkDispatcher(
+            TaskExecutor checkExecutor,
+            CheckExecutionProperties checkExecutionProperties,
+            MeterRegistry meterRegistry,
+            CheckStartRateRecorder checkStartRateRecorder,
+            ScheduleLagMonitor scheduleLagMonitor) {
+        return new CheckDispatcher(checkExecutor, checkExecutionProperties, meterRegistry, checkStartRateRecorder, scheduleLagMonitor);
+    }
+
+    @Bean
+    public CheckStartRateRecorder checkStartRateRecorder(
             ThreadPoolTaskScheduler monitoringTaskScheduler,
-            TaskExecutor checkExecutor) {
-        return new SchedulerAdapter(monitoringTaskScheduler, checkExecutor);
+            MeterRegistry meterRegistry) {
+        return new CheckStartRateRecorder(monitoringTaskScheduler, meterRegistry);
     }
 
     @Bean
@@ -38,12 +167,95 @@ public class AdapterConfig {
             ResultEntityRepository resultEntityRepository,
             TargetEntityRepository targetEntityRepository,
             TargetMapper targetMapper,
-            ResultMapper resultMapper
+            ResultMapper resultMapper,
+            ResultWriter resultWriter,
+            MeterRegistry meterRegistry,
+            ResultRollupEntityRepository resultRollupEntityRepository
     ) {
         return new JpaPersistenceAdapter(
                 resultEntityRepository,
                 targetEntityRepository,
                 targetMapper,
-                resultMapper);
+                resultMapper,
+                resultWriter,
+                new TargetCache(meterRegistry),
+                resultRollupEntityRepository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            name = "rollup.enabled",
+            havingValue = "true",
+            matchIfMissing = true
+    )
+    public ResultRollupJob resultRollupJob(
+            ResultEntityRepository resultEntityRepository,
+            ResultRollupEntityRepository resultRollupEntityRepository,
+            RollupWatermarkEntityRepository rollupWatermarkEntityRepository,
+            ResultMapper resultMapper,
+            PlatformTransactionManager transactionManager,
+            ThreadPoolTaskScheduler monitoringTaskScheduler,
+            RollupProperties rollupProperties,
+            MeterRegistry meterRegistry) {
+        return new ResultRollupJob(
+                resultEntityRepository,
+                resultRollupEntityRepository,
+                rollupWatermarkEntityRepository,
+                resultMapper,
+                new TransactionTemplate(transactionManager),
+                monitoringTaskScheduler,
+                rollupProperties,
+                meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            name = "persistence.retention.enabled",
+            havingValue = "true",
+            matchIfMissing = true
+    )
+    public ResultPurgeJob resultPurgeJob(
+            ResultEntityRepository resultEntityRepository,
+            TargetEntityRepository targetEntityRepository,
+            RollupWatermarkEntityRepository rollupWatermarkEntityRepository,
+            TargetMapper targetMapper,
+            ThreadPoolTaskScheduler monitoringTaskScheduler,
+            PersistenceProperties persistenceProperties,
+            @Value("${rollup.enabled:true}") boolean rollupEnabled,
+            MeterRegistry meterRegistry) {
+        return new ResultPurgeJob(
+                resultEntityRepository,
+                targetEntityRepository,
+                rollupWatermarkEntityRepository,
+                targetMapper,
+                monitoringTaskScheduler,
+                persistenceProperties.retention(),
+                rollupEnabled,
+                meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            name = "persistence.write-behind.enabled",
+            havingValue = "true",
+            matchIfMissing = true
+    )
+    public WriteBehindResultWriter writeBehindResultWriter(
+            ResultEntityRepository resultEntityRepository,
+            PersistenceProperties persistenceProperties,
+            MeterRegistry meterRegistry) {
+        return new WriteBehindResultWriter(
+                resultEntityRepository,
+                persistenceProperties.writeBehind(),
+                meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            name = "persistence.write-behind.enabled",
+            havingValue = "false"
+    )
+    public DirectResultWriter directResultWriter(ResultEntityRepository resultEntityRepository) {
+        return new DirectResultWriter(resultEntityRepository);
     }
 }
@@ -1,18 +1,27 @@
 package be.wiserisk.hlabmonitor.monitor.infrastructure.config;
 
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CheckExecutionProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.HttpClientProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
-import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
 
 @Configuration
 public class CommonConfig {
 
+    // One client for all HTTP checks, so connections are pooled per host and HTTP/2 streams are multiplexed
     @Bean
-    public RestClient restClient() {
-        return RestClient.builder().build();
+    public HttpClient checkHttpClient(HttpClientProperties httpClientProperties) {
+        return HttpClient.newBuilder()
+                .version(httpClientProperties.version())
+                .connectTimeout(httpClientProperties.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
     }
 
     @Bean
@@ -27,7 +36,21 @@ public class CommonConfig {
     }
 
     @Bean
-    public TaskExecutor checkExecutor() {
+    public TaskExecutor checkExecutor(CheckExecutionProperties checkExecutionProperties) {
+        return switch (checkExecutionProperties.mode()) {
+            case VIRTUAL -> virtualThreadCheckExecutor();
+            case POOL -> pooledCheckExecutor();
+        };
+    }
+
+    private TaskExecutor virtualThreadCheckExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("check-vt-");
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(60_000L);
+        return executor;
+    }
+
+    private TaskExecutor pooledCheckExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(10);
         executor.setMaxPoolSize(50);
@@ -21,6 +21,8 @@ import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.DatabaseProperties.DatabaseType.SQLITE;
+
 @Configuration
 @EnableJpaRepositories(basePackages = "be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence")
 @EnableTransactionManagement
@@ -97,11 +99,17 @@ public class DataSourceConfig {
         em.setDataSource(dataSource);
         em.setPackagesToScan("be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity");
         em.setPersistenceUnitName("monitorPU");
+        if (databaseProperties.type() == SQLITE) {
+            em.setMappingResources("META-INF/orm-sqlite.xml");
+        }
 
         Map<String, Object> properties = new HashMap<>();
         properties.put("hibernate.hbm2ddl.auto", "none");
         properties.put("hibernate.dialect", databaseProperties.type().hibernateDialect);
         properties.put("hibernate.show_sql", "true");
+        properties.put("hibernate.jdbc.batch_size", "50");
+        properties.put("hibernate.order_inserts", "true");
+        properties.put("hibernate.order_updates", "true");
 
         em.setJpaPropertyMap(properties);
         em.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
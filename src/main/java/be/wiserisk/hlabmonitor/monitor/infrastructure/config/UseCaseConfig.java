@@ -5,23 +5,59 @@ import be.wiserisk.hlabmonitor.monitor.application.port.in.management.ManageMoni
 import be.wiserisk.hlabmonitor.monitor.application.port.in.query.GetCheckResultsUseCase;
 import be.wiserisk.hlabmonitor.monitor.application.port.in.query.GetCheckStatisticsUseCase;
 import be.wiserisk.hlabmonitor.monitor.application.port.in.query.GetCheckTargetIdsUseCase;
+import be.wiserisk.hlabmonitor.monitor.application.port.in.query.GetTargetStatusUseCase;
+import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckMetricsPort;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTargetPort;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.MonitoringSchedulerPort;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.PersistencePort;
+import be.wiserisk.hlabmonitor.monitor.domain.model.ResultWindowCounter;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetStatusRegistry;
 import be.wiserisk.hlabmonitor.monitor.domain.service.*;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Instant;
+
+@Slf4j
 @Configuration
 public class UseCaseConfig {
 
+    @Bean
+    public ResultWindowCounter resultWindowCounter(PersistencePort persistencePort) {
+        ResultWindowCounter resultWindowCounter = new ResultWindowCounter();
+        try {
+            resultWindowCounter.seed(persistencePort.countResultsByMinuteSince(Instant.now().minus(ResultWindowCounter.LAST_WEEK)));
+        } catch (RuntimeException e) {
+            log.warn("Unable to rebuild result counters from the database, starting empty: {}", e.getMessage());
+        }
+        return resultWindowCounter;
+    }
+
+    @Bean
+    public TargetStatusRegistry targetStatusRegistry(PersistencePort persistencePort) {
+        TargetStatusRegistry targetStatusRegistry = new TargetStatusRegistry();
+        try {
+            targetStatusRegistry.warm(persistencePort.getLatestResultPerTarget());
+        } catch (RuntimeException e) {
+            log.warn("Unable to load the latest target statuses from the database, starting empty: {}", e.getMessage());
+        }
+        return targetStatusRegistry;
+    }
+
     @Bean
     public ExecuteCheckUseCase executeCheckUseCase(
             CheckTargetPort checkTargetPort,
-            PersistencePort persistencePort) {
+            PersistencePort persistencePort,
+            ResultWindowCounter resultWindowCounter,
+            TargetStatusRegistry targetStatusRegistry,
+            CheckMetricsPort checkMetricsPort) {
         return new MonitoringService(
                 checkTargetPort,
-                persistencePort);
+                persistencePort,
+                resultWindowCounter,
+                targetStatusRegistry,
+                checkMetricsPort);
     }
 
     @Bean
@@ -37,13 +73,18 @@ public class UseCaseConfig {
         return new GetResultService(persistencePort);
     }
 
+    @Bean
+    public GetTargetStatusUseCase getTargetStatusUseCase(TargetStatusRegistry targetStatusRegistry) {
+        return new GetTargetStatusService(targetStatusRegistry);
+    }
+
     @Bean
     public GetCheckTargetIdsUseCase getCheckTargetIdsUseCase(PersistencePort persistencePort) {
         return new GetTargetIdService(persistencePort);
     }
 
     @Bean
-    public GetCheckStatisticsUseCase getCheckStatisticsUseCase(PersistencePort persistencePort) {
-        return new GetStatisticsService(persistencePort);
+    public GetCheckStatisticsUseCase getCheckStatisticsUseCase(PersistencePort persistencePort, ResultWindowCounter resultWindowCounter) {
+        return new GetStatisticsService(persistencePort, resultWindowCounter);
     }
 }
@@ -1,12 +1,23 @@
 package be.wiserisk.hlabmonitor.monitor.infrastructure.config.mapper;
 
 import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
+import be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution;
+import be.wiserisk.hlabmonitor.monitor.domain.model.CheckTimings;
+import be.wiserisk.hlabmonitor.monitor.domain.model.ResultRollup;
+import be.wiserisk.hlabmonitor.monitor.domain.model.RollupLatency;
 import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
 import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultRollupEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 @Mapper(componentModel = "spring")
 public interface ResultMapper {
 
@@ -14,13 +25,41 @@ public interface ResultMapper {
     @Mapping(target = "targetId", source = "id")
     @Mapping(target = "result", source = "result")
     @Mapping(target = "checkedAt", source = "checkedAt")
+    @Mapping(target = "durationMicros", source = "timings.total")
+    @Mapping(target = "dnsMicros", source = "timings.dns")
+    @Mapping(target = "connectMicros", source = "timings.connect")
+    @Mapping(target = "tlsMicros", source = "timings.tls")
     ResultEntity toEntity(TargetResult t);
 
     @Mapping(target = "id", source = "targetId")
     @Mapping(target = "result", source = "result")
     @Mapping(target = "checkedAt", source = "checkedAt")
+    @Mapping(target = "timings", source = "e")
+    @Mapping(target = "withId", ignore = true)
+    @Mapping(target = "withTimings", ignore = true)
     TargetResult toDomain(ResultEntity e);
 
+    default CheckTimings toTimings(ResultEntity e) {
+        if (e.getDurationMicros() == null) return null;
+        return new CheckTimings(map(e.getDurationMicros()), map(e.getDnsMicros()), map(e.getConnectMicros()), map(e.getTlsMicros()));
+    }
+
+    default ResultRollup toDomain(ResultRollupEntity e) {
+        Map<MonitoringResult, Long> counts = new EnumMap<>(MonitoringResult.class);
+        counts.put(MonitoringResult.SUCCESS, e.getSuccessCount());
+        counts.put(MonitoringResult.FAILURE, e.getFailureCount());
+        counts.put(MonitoringResult.WARNING, e.getWarningCount());
+        counts.put(MonitoringResult.ERROR, e.getErrorCount());
+        counts.put(MonitoringResult.UNKNOWN, e.getUnknownCount());
+        return new ResultRollup(new TargetId(e.getTargetId()), RollupResolution.valueOf(e.getResolution()), e.getBucketStart(), counts, toLatency(e));
+    }
+
+    default RollupLatency toLatency(ResultRollupEntity e) {
+        if (e.getDurationCount() == null || e.getDurationCount() == 0) return null;
+        return new RollupLatency(e.getDurationCount(), map(e.getDurationMinMicros()), map(e.getDurationSumMicros() / e.getDurationCount()),
+                map(e.getDurationMaxMicros()), map(e.getDurationP95Micros()));
+    }
+
     default String map(TargetId id) {
         return id.id();
     }
@@ -28,6 +67,13 @@ public interface ResultMapper {
         return new TargetId(id);
     }
 
+    default Long map(Duration duration) {
+        return duration == null ? null : TimeUnit.NANOSECONDS.toMicros(duration.toNanos());
+    }
+    default Duration map(Long micros) {
+        return micros == null ? null : Duration.of(micros, ChronoUnit.MICROS);
+    }
+
     default String map(MonitoringResult result) {
         return result == null ? null : result.name();
     }
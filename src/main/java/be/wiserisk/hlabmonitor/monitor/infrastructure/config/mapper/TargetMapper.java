@@ -18,6 +18,9 @@ public interface TargetMapper {
     @Mapping(target = "id", source = "targetId")
     @Mapping(target = "type", source = "type")
     @Mapping(target = "interval", ignore = true)
+    @Mapping(target = "expiryThresholds", ignore = true)
+    @Mapping(target = "intervalBounds", ignore = true)
+    @Mapping(target = "withInterval", ignore = true)
     Target toDomain(TargetEntity e);
 
     default String map(TargetId id) {
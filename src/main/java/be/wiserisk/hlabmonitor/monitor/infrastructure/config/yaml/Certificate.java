@@ -1,13 +1,31 @@
 package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
 
+import be.wiserisk.hlabmonitor.monitor.domain.model.ExpiryThresholds;
+
 import java.time.Duration;
 
 import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.Common.calculateInterval;
 
-public record Certificate(Duration interval) implements Common {
+public record Certificate(Duration interval, Duration warning, Duration critical) implements Common {
 
     public static final Duration DEFAULT_INTERVAL = Duration.ofDays(1L);
 
+    public Certificate {
+        if (critical.compareTo(warning) > 0) {
+            critical = warning;
+        }
+    }
+
+    public Certificate(Duration interval) {
+        this(interval, ExpiryThresholds.DEFAULT_WARNING, ExpiryThresholds.DEFAULT_CRITICAL);
+    }
+
+    public Certificate(String interval, String warning, String critical) {
+        this(calculateInterval(interval, DEFAULT_INTERVAL),
+                calculateInterval(warning, ExpiryThresholds.DEFAULT_WARNING),
+                calculateInterval(critical, ExpiryThresholds.DEFAULT_CRITICAL));
+    }
+
     public Certificate(String interval) {
         this(calculateInterval(interval, DEFAULT_INTERVAL));
     }
@@ -15,4 +33,8 @@ public record Certificate(Duration interval) implements Common {
     public Certificate() {
         this(DEFAULT_INTERVAL);
     }
+
+    public ExpiryThresholds expiryThresholds() {
+        return new ExpiryThresholds(warning, critical);
+    }
 }
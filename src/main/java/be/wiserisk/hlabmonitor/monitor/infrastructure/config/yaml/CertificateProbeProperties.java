@@ -0,0 +1,38 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "certificate-probe")
+public record CertificateProbeProperties(
+        Duration timeout,
+        Duration refreshBefore,
+        Duration cacheMaxAge
+) {
+    public static final Duration DEFAULT_REFRESH_BEFORE = Duration.ofDays(30);
+    // Bounds how long a replaced or wrong certificate can go unnoticed
+    public static final Duration DEFAULT_CACHE_MAX_AGE = Duration.ofHours(1);
+
+    @ConstructorBinding
+    public CertificateProbeProperties {
+        if (timeout == null || timeout.isZero() || timeout.isNegative()) {
+            timeout = Common.DEFAULT_TIMEOUT;
+        }
+        if (refreshBefore == null || refreshBefore.isNegative()) {
+            refreshBefore = DEFAULT_REFRESH_BEFORE;
+        }
+        if (cacheMaxAge == null || cacheMaxAge.isNegative()) {
+            cacheMaxAge = DEFAULT_CACHE_MAX_AGE;
+        }
+    }
+
+    // A certificate check never waits longer than its own interval
+    public Duration timeoutFor(Duration interval) {
+        if (interval == null || interval.isZero() || interval.isNegative() || interval.compareTo(timeout) >= 0) {
+            return timeout;
+        }
+        return interval;
+    }
+}
@@ -0,0 +1,46 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "check-execution")
+public record CheckExecutionProperties(
+        ExecutionMode mode,
+        Map<MonitoringType, Integer> concurrency,
+        Duration coalesceWindow
+) {
+    public static final int DEFAULT_CONCURRENCY = 50;
+    public static final Duration DEFAULT_COALESCE_WINDOW = Duration.ofSeconds(2);
+
+    @ConstructorBinding
+    public CheckExecutionProperties {
+        if (mode == null) {
+            mode = ExecutionMode.POOL;
+        }
+        concurrency = concurrency == null ? Map.of() : Map.copyOf(concurrency);
+        if (coalesceWindow == null || coalesceWindow.isNegative()) {
+            coalesceWindow = DEFAULT_COALESCE_WINDOW;
+        }
+    }
+
+    public CheckExecutionProperties(ExecutionMode mode, Map<MonitoringType, Integer> concurrency) {
+        this(mode, concurrency, null);
+    }
+
+    public int concurrencyFor(MonitoringType type) {
+        Integer limit = concurrency.get(type);
+        if (limit == null || limit < 1) {
+            return DEFAULT_CONCURRENCY;
+        }
+        return limit;
+    }
+
+    public enum ExecutionMode {
+        POOL,
+        VIRTUAL
+    }
+}
@@ -1,5 +1,7 @@
 package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
 
+import be.wiserisk.hlabmonitor.monitor.domain.model.IntervalBounds;
+
 import java.time.Duration;
 
 public interface Common {
@@ -31,6 +33,18 @@ public interface Common {
         }
     }
 
+    // Without min-interval nor max-interval the target keeps its interval. The bounds always include the interval
+    static IntervalBounds calculateBounds(Duration interval, String minInterval, String maxInterval) {
+        boolean noMin = minInterval == null || minInterval.isEmpty();
+        boolean noMax = maxInterval == null || maxInterval.isEmpty();
+        if (noMin && noMax) {
+            return null;
+        }
+        Duration min = calculateInterval(minInterval, interval);
+        Duration max = calculateInterval(maxInterval, interval);
+        return new IntervalBounds(min.compareTo(interval) < 0 ? min : interval, max.compareTo(interval) > 0 ? max : interval);
+    }
+
     private static long getIntervalWithoutSuffix(String interval) {
         return Long.parseLong(interval.substring(0, interval.length() - 1));
     }
@@ -0,0 +1,25 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "dns")
+public record DnsProperties(
+        Duration cacheTtl,
+        Duration negativeCacheTtl
+) {
+    public static final Duration DEFAULT_CACHE_TTL = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_NEGATIVE_CACHE_TTL = Duration.ofSeconds(10);
+
+    @ConstructorBinding
+    public DnsProperties {
+        if (cacheTtl == null || cacheTtl.isNegative()) {
+            cacheTtl = DEFAULT_CACHE_TTL;
+        }
+        if (negativeCacheTtl == null || negativeCacheTtl.isNegative()) {
+            negativeCacheTtl = DEFAULT_NEGATIVE_CACHE_TTL;
+        }
+    }
+}
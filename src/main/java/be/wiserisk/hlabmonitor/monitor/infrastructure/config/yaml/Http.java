@@ -1,18 +1,28 @@
 package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
 
+import be.wiserisk.hlabmonitor.monitor.domain.model.IntervalBounds;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
 
 import java.time.Duration;
 import java.util.Map;
 
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.Common.calculateBounds;
 import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.Common.calculateInterval;
 
-public record Http(String target, Duration interval, boolean ssl, Certificate certificate) implements Common {
+public record Http(String target, Duration interval, boolean ssl, Certificate certificate, IntervalBounds intervalBounds) implements Common {
     public static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(10L);
 
+    public Http(String target, Duration interval, boolean ssl, Certificate certificate) {
+        this(target, interval, ssl, certificate, null);
+    }
+
     @ConstructorBinding
-    public Http(String target, String interval, Boolean ssl, Map<String, String> certificate) {
-        this(addHttpToTarget(target, isSecured(ssl)), calculateInterval(interval, DEFAULT_INTERVAL), isSecured(ssl), getCertificateConfig(isSecured(ssl), certificate));
+    public Http(String target, String interval, Boolean ssl, Map<String, String> certificate, String minInterval, String maxInterval) {
+        this(target, calculateInterval(interval, DEFAULT_INTERVAL), isSecured(ssl), certificate, minInterval, maxInterval);
+    }
+
+    private Http(String target, Duration interval, boolean ssl, Map<String, String> certificate, String minInterval, String maxInterval) {
+        this(addHttpToTarget(target, ssl), interval, ssl, getCertificateConfig(ssl, certificate), calculateBounds(interval, minInterval, maxInterval));
     }
 
     private static String addHttpToTarget(String target, boolean secured) {
@@ -32,6 +42,6 @@ public record Http(String target, Duration interval, boolean ssl, Certificate ce
         if(!secured) return null;
         if(certificate == null || certificate.isEmpty()) return new Certificate();
         if(!Boolean.parseBoolean(certificate.getOrDefault("verify", Boolean.TRUE.toString()))) return null;
-        return new Certificate(certificate.get("interval"));
+        return new Certificate(certificate.get("interval"), certificate.get("warning"), certificate.get("critical"));
     }
 }
@@ -0,0 +1,46 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "http-client")
+public record HttpClientProperties(
+        Duration connectTimeout,
+        Duration responseTimeout,
+        HttpClient.Version version,
+        CheckMethod method
+) {
+    public static final Duration DEFAULT_RESPONSE_TIMEOUT = Duration.ofSeconds(10);
+
+    @ConstructorBinding
+    public HttpClientProperties {
+        if (connectTimeout == null || connectTimeout.isZero() || connectTimeout.isNegative()) {
+            connectTimeout = Common.DEFAULT_TIMEOUT;
+        }
+        if (responseTimeout == null || responseTimeout.isZero() || responseTimeout.isNegative()) {
+            responseTimeout = DEFAULT_RESPONSE_TIMEOUT;
+        }
+        if (version == null) {
+            version = HttpClient.Version.HTTP_2;
+        }
+        if (method == null) {
+            method = CheckMethod.HEAD;
+        }
+    }
+
+    // A check never waits longer than its own interval
+    public Duration responseTimeoutFor(Duration interval) {
+        if (interval == null || interval.isZero() || interval.isNegative() || interval.compareTo(responseTimeout) >= 0) {
+            return responseTimeout;
+        }
+        return interval;
+    }
+
+    public enum CheckMethod {
+        HEAD,
+        GET
+    }
+}
@@ -0,0 +1,7 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "metrics")
+public record MetricsProperties(boolean targetTags) {
+}
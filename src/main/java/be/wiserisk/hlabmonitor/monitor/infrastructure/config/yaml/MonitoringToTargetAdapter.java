@@ -29,7 +29,9 @@ public class MonitoringToTargetAdapter {
                         new TargetId(entry.getKey() + ":ping"),
                         MonitoringType.PING,
                         entry.getValue().target(),
-                        entry.getValue().interval()
+                        entry.getValue().interval(),
+                        null,
+                        entry.getValue().intervalBounds()
                 ));
     }
 
@@ -42,7 +44,9 @@ public class MonitoringToTargetAdapter {
                         new TargetId(entry.getKey() + ":http"),
                         MonitoringType.HTTP,
                         entry.getValue().target(),
-                        entry.getValue().interval()
+                        entry.getValue().interval(),
+                        null,
+                        entry.getValue().intervalBounds()
                 ));
     }
 
@@ -57,7 +61,9 @@ public class MonitoringToTargetAdapter {
                         new TargetId(entry.getKey() + ":certificate"),
                         MonitoringType.CERTIFICATE,
                         entry.getValue().target(),
-                        entry.getValue().certificate().interval()
+                        entry.getValue().certificate().interval(),
+                        entry.getValue().certificate().expiryThresholds(),
+                        null
                 ));
     }
 }
@@ -0,0 +1,102 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "persistence")
+public record PersistenceProperties(WriteBehind writeBehind, Retention retention) {
+
+    @ConstructorBinding
+    public PersistenceProperties {
+        if (writeBehind == null) {
+            writeBehind = new WriteBehind(null, null, null, null, null);
+        }
+        if (retention == null) {
+            retention = new Retention(null, null, null, null, null, null);
+        }
+    }
+
+    public record WriteBehind(
+            Integer queueCapacity,
+            Integer batchSize,
+            Duration flushInterval,
+            Duration shutdownTimeout,
+            BackpressurePolicy backpressure
+    ) {
+        public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+        public static final int DEFAULT_BATCH_SIZE = 200;
+        public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1L);
+        public static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30L);
+
+        public WriteBehind {
+            if (queueCapacity == null || queueCapacity < 1) {
+                queueCapacity = DEFAULT_QUEUE_CAPACITY;
+            }
+            if (batchSize == null || batchSize < 1) {
+                batchSize = DEFAULT_BATCH_SIZE;
+            }
+            if (flushInterval == null || flushInterval.isZero() || flushInterval.isNegative()) {
+                flushInterval = DEFAULT_FLUSH_INTERVAL;
+            }
+            if (shutdownTimeout == null || shutdownTimeout.isNegative()) {
+                shutdownTimeout = DEFAULT_SHUTDOWN_TIMEOUT;
+            }
+            if (backpressure == null) {
+                backpressure = BackpressurePolicy.BLOCK;
+            }
+        }
+    }
+
+    public record Retention(
+            Duration maxAge,
+            Map<MonitoringType, Duration> types,
+            Map<String, Duration> targets,
+            Duration interval,
+            Integer chunkSize,
+            Duration pause
+    ) {
+        public static final Duration DEFAULT_MAX_AGE = Duration.ofDays(30L);
+        public static final Duration DEFAULT_INTERVAL = Duration.ofHours(1L);
+        public static final int DEFAULT_CHUNK_SIZE = 1_000;
+        public static final Duration DEFAULT_PAUSE = Duration.ofMillis(100L);
+
+        public Retention {
+            if (maxAge == null || maxAge.isNegative()) {
+                maxAge = DEFAULT_MAX_AGE;
+            }
+            types = types == null ? Map.of() : Map.copyOf(types);
+            targets = targets == null ? Map.of() : Map.copyOf(targets);
+            if (interval == null || interval.isZero() || interval.isNegative()) {
+                interval = DEFAULT_INTERVAL;
+            }
+            if (chunkSize == null || chunkSize < 1) {
+                chunkSize = DEFAULT_CHUNK_SIZE;
+            }
+            if (pause == null || pause.isNegative()) {
+                pause = DEFAULT_PAUSE;
+            }
+        }
+
+        public boolean isOverridden(String targetId, MonitoringType type) {
+            return targets.containsKey(targetId) || types.containsKey(type);
+        }
+
+        public Duration retentionFor(String targetId, MonitoringType type) {
+            Duration targetRetention = targets.get(targetId);
+            if (targetRetention != null) {
+                return targetRetention;
+            }
+            return types.getOrDefault(type, maxAge);
+        }
+    }
+
+    public enum BackpressurePolicy {
+        BLOCK,
+        CALLER_RUNS,
+        DROP
+    }
+}
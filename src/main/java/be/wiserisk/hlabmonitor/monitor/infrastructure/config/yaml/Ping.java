@@ -1,16 +1,26 @@
 package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
 
+import be.wiserisk.hlabmonitor.monitor.domain.model.IntervalBounds;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
 
 import java.time.Duration;
 
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.Common.calculateBounds;
 import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.Common.calculateInterval;
 
-public record Ping(String target, Duration interval) implements Common {
+public record Ping(String target, Duration interval, IntervalBounds intervalBounds) implements Common {
     public static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(5L);
 
+    public Ping(String target, Duration interval) {
+        this(target, interval, null);
+    }
+
     @ConstructorBinding
-    public Ping(String target, String interval) {
-        this(target, calculateInterval(interval, DEFAULT_INTERVAL));
+    public Ping(String target, String interval, String minInterval, String maxInterval) {
+        this(target, calculateInterval(interval, DEFAULT_INTERVAL), minInterval, maxInterval);
+    }
+
+    private Ping(String target, Duration interval, String minInterval, String maxInterval) {
+        this(target, interval, calculateBounds(interval, minInterval, maxInterval));
     }
 }
@@ -0,0 +1,44 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+@ConfigurationProperties(prefix = "reachability")
+public record ReachabilityProperties(
+        ReachabilityMethod method,
+        List<Integer> ports,
+        Duration timeout
+) {
+    public static final List<Integer> DEFAULT_PORTS = List.of(443, 80);
+
+    @ConstructorBinding
+    public ReachabilityProperties {
+        if (method == null) {
+            method = ReachabilityMethod.TCP;
+        }
+        ports = ports == null ? List.of() : ports.stream().filter(Objects::nonNull).filter(port -> port > 0 && port <= 65535).distinct().toList();
+        if (ports.isEmpty()) {
+            ports = DEFAULT_PORTS;
+        }
+        if (timeout == null || timeout.isZero() || timeout.isNegative()) {
+            timeout = Common.DEFAULT_TIMEOUT;
+        }
+    }
+
+    // A ping never waits longer than its own interval
+    public Duration timeoutFor(Duration interval) {
+        if (interval == null || interval.isZero() || interval.isNegative() || interval.compareTo(timeout) >= 0) {
+            return timeout;
+        }
+        return interval;
+    }
+
+    public enum ReachabilityMethod {
+        TCP,
+        ICMP
+    }
+}
@@ -0,0 +1,52 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "rollup")
+public record RollupProperties(Duration interval, Duration lag, Retention retention) {
+
+    public static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(1L);
+    public static final Duration DEFAULT_LAG = Duration.ofMinutes(2L);
+
+    @ConstructorBinding
+    public RollupProperties {
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            interval = DEFAULT_INTERVAL;
+        }
+        if (lag == null || lag.isNegative()) {
+            lag = DEFAULT_LAG;
+        }
+        if (retention == null) {
+            retention = new Retention(null, null, null);
+        }
+    }
+
+    public record Retention(Duration minute, Duration hour, Duration day) {
+        public static final Duration DEFAULT_MINUTE = Duration.ofDays(7L);
+        public static final Duration DEFAULT_HOUR = Duration.ofDays(90L);
+
+        public Retention {
+            if (minute == null || minute.isNegative()) {
+                minute = DEFAULT_MINUTE;
+            }
+            if (hour == null || hour.isNegative()) {
+                hour = DEFAULT_HOUR;
+            }
+            if (day == null || day.isNegative()) {
+                day = Duration.ZERO;
+            }
+        }
+
+        public Duration of(RollupResolution resolution) {
+            return switch (resolution) {
+                case MINUTE -> minute;
+                case HOUR -> hour;
+                case DAY -> day;
+            };
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "scheduler")
+public record SchedulerProperties(
+        SchedulerType type,
+        Duration tickDuration,
+        Integer wheelSize,
+        Boolean phaseSpread,
+        Duration jitter,
+        Double overdueRatio
+) {
+    public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(100L);
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+    public static final double DEFAULT_OVERDUE_RATIO = 2.0;
+
+    @ConstructorBinding
+    public SchedulerProperties {
+        if (type == null) {
+            type = SchedulerType.POOL;
+        }
+        if (tickDuration == null || tickDuration.isZero() || tickDuration.isNegative()) {
+            tickDuration = DEFAULT_TICK_DURATION;
+        }
+        if (wheelSize == null || wheelSize < 1) {
+            wheelSize = DEFAULT_WHEEL_SIZE;
+        }
+        if (phaseSpread == null) {
+            phaseSpread = true;
+        }
+        if (jitter == null || jitter.isNegative()) {
+            jitter = Duration.ZERO;
+        }
+        if (overdueRatio == null || overdueRatio <= 1.0) {
+            overdueRatio = DEFAULT_OVERDUE_RATIO;
+        }
+    }
+
+    public enum SchedulerType {
+        POOL,
+        TIMING_WHEEL
+    }
+}
@@ -0,0 +1,83 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.*;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.CERTIFICATE;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveIntervalTest {
+
+    private static final TargetId TARGET_ID = new TargetId("ping-1");
+    private static final Duration INTERVAL = Duration.ofMinutes(1);
+    private static final IntervalBounds BOUNDS = new IntervalBounds(Duration.ofSeconds(10), Duration.ofMinutes(3));
+
+    @Test
+    void keepsIntervalWithoutBounds() {
+        AdaptiveInterval adaptiveInterval = new AdaptiveInterval(new Target(TARGET_ID, PING, "target", INTERVAL));
+
+        assertThat(adaptiveInterval.update(FAILURE)).isFalse();
+        assertThat(adaptiveInterval.current()).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void failureUsesMinIntervalUntilRecovery() {
+        AdaptiveInterval adaptiveInterval = new AdaptiveInterval(new Target(TARGET_ID, PING, "target", INTERVAL, null, BOUNDS));
+
+        assertThat(adaptiveInterval.update(FAILURE)).isTrue();
+        assertThat(adaptiveInterval.current()).isEqualTo(BOUNDS.min());
+        assertThat(adaptiveInterval.update(WARNING)).isFalse();
+        assertThat(adaptiveInterval.update(SUCCESS)).isTrue();
+        assertThat(adaptiveInterval.current()).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void stableTargetBacksOffUpToMaxInterval() {
+        AdaptiveInterval adaptiveInterval = new AdaptiveInterval(new Target(TARGET_ID, PING, "target", INTERVAL, null, BOUNDS));
+
+        for (int i = 1; i < AdaptiveInterval.STABLE_CHECKS; i++) {
+            assertThat(adaptiveInterval.update(SUCCESS)).isFalse();
+        }
+        assertThat(adaptiveInterval.update(SUCCESS)).isTrue();
+        assertThat(adaptiveInterval.current()).isEqualTo(Duration.ofMinutes(2));
+
+        for (int i = 1; i < AdaptiveInterval.STABLE_CHECKS; i++) {
+            adaptiveInterval.update(SUCCESS);
+        }
+        assertThat(adaptiveInterval.update(SUCCESS)).isTrue();
+        assertThat(adaptiveInterval.current()).isEqualTo(BOUNDS.max());
+
+        for (int i = 0; i < AdaptiveInterval.STABLE_CHECKS; i++) {
+            assertThat(adaptiveInterval.update(SUCCESS)).isFalse();
+        }
+    }
+
+    @Test
+    void failureResetsBackOff() {
+        AdaptiveInterval adaptiveInterval = new AdaptiveInterval(new Target(TARGET_ID, PING, "target", INTERVAL, null, BOUNDS));
+
+        for (int i = 1; i < AdaptiveInterval.STABLE_CHECKS; i++) {
+            adaptiveInterval.update(SUCCESS);
+        }
+        adaptiveInterval.update(FAILURE);
+        adaptiveInterval.update(SUCCESS);
+
+        for (int i = 1; i < AdaptiveInterval.STABLE_CHECKS; i++) {
+            assertThat(adaptiveInterval.update(SUCCESS)).isFalse();
+        }
+        assertThat(adaptiveInterval.current()).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void certificateFollowsExpiryThresholds() {
+        AdaptiveInterval adaptiveInterval = new AdaptiveInterval(new Target(TARGET_ID, CERTIFICATE, "https://target", Duration.ofDays(1), ExpiryThresholds.DEFAULT, null));
+
+        assertThat(adaptiveInterval.update(WARNING)).isTrue();
+        assertThat(adaptiveInterval.current()).isEqualTo(ExpiryThresholds.WARNING_INTERVAL);
+        assertThat(adaptiveInterval.update(SUCCESS)).isTrue();
+        assertThat(adaptiveInterval.current()).isEqualTo(Duration.ofDays(1));
+    }
+}
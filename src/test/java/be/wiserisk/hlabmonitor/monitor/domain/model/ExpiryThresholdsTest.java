@@ -0,0 +1,39 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiryThresholdsTest {
+
+    private final ExpiryThresholds thresholds = ExpiryThresholds.DEFAULT;
+
+    @Test
+    void resultForRemainingTime() {
+        assertThat(thresholds.resultFor(Duration.ofDays(40))).isEqualTo(SUCCESS);
+        assertThat(thresholds.resultFor(Duration.ofDays(21))).isEqualTo(WARNING);
+        assertThat(thresholds.resultFor(Duration.ofDays(8))).isEqualTo(WARNING);
+        assertThat(thresholds.resultFor(Duration.ofDays(7))).isEqualTo(FAILURE);
+        assertThat(thresholds.resultFor(Duration.ofDays(-1))).isEqualTo(FAILURE);
+    }
+
+    @Test
+    void intervalShortensCloserToExpiry() {
+        Duration interval = Duration.ofDays(1);
+
+        assertThat(thresholds.intervalFor(SUCCESS, interval)).isEqualTo(interval);
+        assertThat(thresholds.intervalFor(WARNING, interval)).isEqualTo(ExpiryThresholds.WARNING_INTERVAL);
+        assertThat(thresholds.intervalFor(FAILURE, interval)).isEqualTo(ExpiryThresholds.CRITICAL_INTERVAL);
+    }
+
+    @Test
+    void intervalNeverGrowsAboveConfiguredInterval() {
+        Duration interval = Duration.ofMinutes(10);
+
+        assertThat(thresholds.intervalFor(WARNING, interval)).isEqualTo(interval);
+        assertThat(thresholds.intervalFor(FAILURE, interval)).isEqualTo(interval);
+    }
+}
@@ -0,0 +1,75 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResultDownsamplerTest {
+
+    public static final TargetId TARGET_ID = new TargetId("targetId");
+    public static final Instant FROM = Instant.parse("2026-01-01T00:00:00Z");
+    public static final Instant TO = FROM.plus(Duration.ofDays(30));
+
+    @Test
+    void keepsWorstResultPerBucket() {
+        ResultDownsampler downsampler = new ResultDownsampler(FROM, TO, 30);
+        TargetResult error = result(ERROR, FROM.plus(Duration.ofHours(5)));
+        TargetResult warning = result(WARNING, FROM.plus(Duration.ofDays(3)));
+
+        downsampler.add(result(SUCCESS, FROM.plus(Duration.ofHours(1))));
+        downsampler.add(error);
+        downsampler.add(result(FAILURE, FROM.plus(Duration.ofHours(6))));
+        downsampler.add(result(SUCCESS, FROM.plus(Duration.ofDays(3))));
+        downsampler.add(warning);
+
+        assertThat(downsampler.results()).containsExactly(error, warning);
+    }
+
+    @Test
+    void latestWinsOnEqualSeverity() {
+        ResultDownsampler downsampler = new ResultDownsampler(FROM, TO, 1);
+        TargetResult latest = result(SUCCESS, FROM.plus(Duration.ofDays(2)));
+
+        downsampler.add(result(SUCCESS, FROM.plus(Duration.ofDays(1))));
+        downsampler.add(latest);
+
+        assertThat(downsampler.results()).containsExactly(latest);
+    }
+
+    @Test
+    void resultsOutsideRangeGoToEdgeBuckets() {
+        ResultDownsampler downsampler = new ResultDownsampler(FROM, TO, 10);
+        TargetResult last = result(FAILURE, TO);
+
+        downsampler.add(result(FAILURE, FROM.minusSeconds(1)));
+        downsampler.add(last);
+
+        assertThat(downsampler.results()).containsExactly(last);
+    }
+
+    @Test
+    void returnsAtMostPointsResults() {
+        ResultDownsampler downsampler = new ResultDownsampler(FROM, TO, 500);
+        for (Instant checkedAt = FROM; checkedAt.isBefore(TO); checkedAt = checkedAt.plus(Duration.ofMinutes(10))) {
+            downsampler.add(result(SUCCESS, checkedAt));
+        }
+
+        assertThat(downsampler.results()).hasSize(500);
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> new ResultDownsampler(FROM, TO, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ResultDownsampler(TO, FROM, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static TargetResult result(MonitoringResult monitoringResult, Instant checkedAt) {
+        return new TargetResult(TARGET_ID, monitoringResult, null, checkedAt);
+    }
+}
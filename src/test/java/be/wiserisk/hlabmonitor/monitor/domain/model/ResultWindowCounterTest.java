@@ -0,0 +1,134 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResultWindowCounterTest {
+
+    public static final TargetId TARGET_ID = new TargetId("targetId");
+    public static final Instant NOW = Instant.parse("2026-01-08T12:30:30Z");
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final ResultWindowCounter counter = new ResultWindowCounter(clock);
+
+    @Test
+    void countsResultsPerWindow() {
+        record(SUCCESS, NOW);
+        record(SUCCESS, NOW.minus(Duration.ofMinutes(30)));
+        record(FAILURE, NOW.minus(Duration.ofHours(5)));
+        record(ERROR, NOW.minus(Duration.ofDays(3)));
+
+        assertThat(counter.count(ResultWindowCounter.LAST_HOUR)).containsEntry(SUCCESS, 2L).containsEntry(FAILURE, 0L);
+        assertThat(counter.count(ResultWindowCounter.LAST_DAY)).containsEntry(SUCCESS, 2L).containsEntry(FAILURE, 1L).containsEntry(ERROR, 0L);
+        assertThat(counter.count(ResultWindowCounter.LAST_WEEK)).containsEntry(SUCCESS, 2L).containsEntry(FAILURE, 1L).containsEntry(ERROR, 1L);
+    }
+
+    @Test
+    void oldMinutesExpireWhenTimeMoves() {
+        record(FAILURE, NOW);
+
+        clock.instant = NOW.plus(Duration.ofMinutes(61));
+
+        assertThat(counter.count(ResultWindowCounter.LAST_HOUR)).containsEntry(FAILURE, 0L);
+        assertThat(counter.count(ResultWindowCounter.LAST_DAY)).containsEntry(FAILURE, 1L);
+    }
+
+    @Test
+    void reusedSlotIsResetForNewMinute() {
+        record(FAILURE, NOW);
+
+        clock.instant = NOW.plus(ResultWindowCounter.LAST_WEEK);
+        record(SUCCESS, clock.instant());
+
+        assertThat(counter.count(ResultWindowCounter.LAST_WEEK)).containsEntry(SUCCESS, 1L).containsEntry(FAILURE, 0L);
+    }
+
+    @Test
+    void resultsOlderThanAWeekAreIgnored() {
+        record(WARNING, NOW.minus(Duration.ofDays(8)));
+
+        assertThat(counter.count(ResultWindowCounter.LAST_WEEK)).containsEntry(WARNING, 0L);
+    }
+
+    @Test
+    void seedAddsMinuteCounts() {
+        counter.seed(List.of(
+                new ResultCount(NOW.minus(Duration.ofMinutes(10)), SUCCESS, 40L),
+                new ResultCount(NOW.minus(Duration.ofHours(2)), UNKNOWN, 3L)));
+        record(SUCCESS, NOW);
+
+        assertThat(counter.count(ResultWindowCounter.LAST_HOUR)).containsEntry(SUCCESS, 41L).containsEntry(UNKNOWN, 0L);
+        assertThat(counter.count(ResultWindowCounter.LAST_DAY)).containsEntry(UNKNOWN, 3L);
+    }
+
+    @Test
+    void coversUpToAWeek() {
+        assertThat(counter.covers(ResultWindowCounter.LAST_WEEK)).isTrue();
+        assertThat(counter.covers(Duration.ofDays(8))).isFalse();
+    }
+
+    @Test
+    void concurrentRecordsAreNotLost() throws InterruptedException {
+        int threads = 8;
+        int perThread = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        record(SUCCESS, NOW.minusSeconds(i % 120));
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(counter.count(ResultWindowCounter.LAST_HOUR)).containsEntry(SUCCESS, (long) threads * perThread);
+    }
+
+    private void record(MonitoringResult result, Instant checkedAt) {
+        counter.record(new TargetResult(TARGET_ID, result, null, checkedAt));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
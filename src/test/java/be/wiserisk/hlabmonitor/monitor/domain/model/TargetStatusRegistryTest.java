@@ -0,0 +1,83 @@
+package be.wiserisk.hlabmonitor.monitor.domain.model;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TargetStatusRegistryTest {
+
+    public static final TargetId TARGET_ID = new TargetId("targetId");
+    public static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    private final TargetStatusRegistry registry = new TargetStatusRegistry();
+
+    @Test
+    void tracksConsecutiveFailuresAndStateChanges() {
+        registry.record(result(SUCCESS, NOW));
+        registry.record(result(FAILURE, NOW.plusSeconds(60)));
+        registry.record(result(ERROR, NOW.plusSeconds(120)));
+
+        TargetStatus status = registry.snapshot().statuses().getFirst();
+        assertThat(status.lastResult().result()).isEqualTo(ERROR);
+        assertThat(status.consecutiveFailures()).isEqualTo(2);
+        assertThat(status.lastStateChange()).isEqualTo(NOW.plusSeconds(120));
+
+        registry.record(result(ERROR, NOW.plusSeconds(180)));
+        registry.record(result(SUCCESS, NOW.plusSeconds(240)));
+
+        status = registry.snapshot().statuses().getFirst();
+        assertThat(status.consecutiveFailures()).isZero();
+        assertThat(status.lastStateChange()).isEqualTo(NOW.plusSeconds(240));
+    }
+
+    @Test
+    void sameResultKeepsStateChange() {
+        registry.record(result(WARNING, NOW));
+        registry.record(result(WARNING, NOW.plusSeconds(60)));
+
+        TargetStatus status = registry.snapshot().statuses().getFirst();
+        assertThat(status.lastStateChange()).isEqualTo(NOW);
+        assertThat(status.consecutiveFailures()).isZero();
+        assertThat(status.lastResult().checkedAt()).isEqualTo(NOW.plusSeconds(60));
+    }
+
+    @Test
+    void olderResultIsIgnored() {
+        registry.record(result(SUCCESS, NOW));
+        registry.record(result(FAILURE, NOW.minusSeconds(60)));
+
+        assertThat(registry.snapshot().statuses()).extracting(TargetStatus::lastResult).containsExactly(result(SUCCESS, NOW));
+    }
+
+    @Test
+    void warmKeepsNewestResult() {
+        registry.record(result(SUCCESS, NOW));
+
+        registry.warm(List.of(
+                result(FAILURE, NOW.minusSeconds(60)),
+                new TargetResult(new TargetId("other"), ERROR, null, NOW)));
+
+        assertThat(registry.snapshot().statuses()).containsExactly(
+                new TargetStatus(new TargetId("other"), new TargetResult(new TargetId("other"), ERROR, null, NOW), 1, null),
+                new TargetStatus(TARGET_ID, result(SUCCESS, NOW), 0, NOW));
+    }
+
+    @Test
+    void versionChangesOnlyWhenStatusesChange() {
+        String initial = registry.snapshot().version();
+        assertThat(registry.snapshot().version()).isEqualTo(initial);
+
+        registry.record(result(SUCCESS, NOW));
+
+        assertThat(registry.snapshot().version()).isNotEqualTo(initial);
+    }
+
+    private static TargetResult result(MonitoringResult monitoringResult, Instant checkedAt) {
+        return new TargetResult(TARGET_ID, monitoringResult, null, checkedAt);
+    }
+}
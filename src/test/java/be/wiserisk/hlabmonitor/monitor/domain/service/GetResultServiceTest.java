@@ -8,17 +8,27 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.FAILURE;
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.SUCCESS;
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.*;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution.HOUR;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,17 +60,56 @@ class GetResultServiceTest {
         TargetResult targetResult = new TargetResult(TARGET_ID, SUCCESS, "");
         List<TargetResult> targetResults = List.of(targetResult);
 
+        Instant to = Instant.now();
+        Instant from = to.minus(Duration.ofHours(1));
+
+        when(persistencePort.isTargetIdExist(TARGET_ID)).thenReturn(true);
+        when(persistencePort.getTargetResults(TARGET_ID, from, to, SIZE)).thenReturn(targetResults);
+
+        assertThat(getResultService.getTargetIdResults(TARGET_ID, from, to, SIZE)).isNotNull().isNotEmpty().isEqualTo(targetResults);
+    }
+
+    @Test
+    void getTargetIdResultsDefaultsToLastDayAndCapsLimit() {
+        Instant to = Instant.now();
+
         when(persistencePort.isTargetIdExist(TARGET_ID)).thenReturn(true);
-        when(persistencePort.getAllTargetResultsByTargetId(TARGET_ID)).thenReturn(targetResults);
+        when(persistencePort.getTargetResults(TARGET_ID, to.minus(GetResultService.DEFAULT_TARGET_RESULTS_RANGE), to, GetResultService.MAX_TARGET_RESULTS)).thenReturn(List.of());
 
-        assertThat(getResultService.getTargetIdResults(TARGET_ID)).isNotNull().isNotEmpty().isEqualTo(targetResults);
+        assertThat(getResultService.getTargetIdResults(TARGET_ID, null, to, Integer.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void getTargetIdResults_InvalidLimit() {
+        when(persistencePort.isTargetIdExist(TARGET_ID)).thenReturn(true);
+
+        assertThatThrownBy(() -> getResultService.getTargetIdResults(TARGET_ID, null, null, 0)).isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
     void getTargetIdResults_TargetIdNotFound() {
         when(persistencePort.isTargetIdExist(TARGET_ID)).thenReturn(false);
 
-        assertThatThrownBy(() -> getResultService.getTargetIdResults(TARGET_ID)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> getResultService.getTargetIdResults(TARGET_ID, null, null, SIZE)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void getDownsampledTargetIdResults() {
+        Instant to = Instant.now();
+        Instant from = to.minus(Duration.ofMinutes(2));
+        TargetResult failure = new TargetResult(TARGET_ID, FAILURE, "", from.plusSeconds(10));
+        TargetResult success = new TargetResult(TARGET_ID, SUCCESS, "", from.plusSeconds(70));
+
+        when(persistencePort.isTargetIdExist(TARGET_ID)).thenReturn(true);
+        doAnswer(invocation -> {
+            Consumer<TargetResult> consumer = invocation.getArgument(1);
+            consumer.accept(failure);
+            consumer.accept(new TargetResult(TARGET_ID, SUCCESS, "", from.plusSeconds(20)));
+            consumer.accept(success);
+            return null;
+        }).when(persistencePort).forEachResultFilteredBy(eq(new CheckResultsFilter(from, to, List.of(TARGET_ID), null, null)), any());
+
+        assertThat(getResultService.getDownsampledTargetIdResults(TARGET_ID, from, to, 2)).containsExactly(failure, success);
     }
 
     @Test
@@ -82,4 +131,45 @@ class GetResultServiceTest {
         assertThat(getResultService.getFilteredResults(filter, pageRequest)).isNotNull().isEqualTo(targetResultsPage);
     }
 
+    @Test
+    void exportFilteredResults() {
+        CheckResultsFilter filter = new CheckResultsFilter(null, null, List.of(TARGET_ID), null, null);
+        Consumer<TargetResult> consumer = result -> {};
+
+        getResultService.exportFilteredResults(filter, consumer);
+
+        verify(persistencePort).forEachResultFilteredBy(filter, consumer);
+    }
+
+    @Test
+    void getFilteredResultsWithCursor() {
+        CheckResultsFilter filter = new CheckResultsFilter(null, null, List.of(TARGET_ID), null, null);
+        CursorPageRequest pageRequest = new CursorPageRequest("cursor", SIZE, true);
+        PageResponse<TargetResult> targetResultsPage = new PageResponse<>(List.of(), PAGE, SIZE, 0, false, null);
+
+        when(persistencePort.getAllResultsFilteredBy(filter, pageRequest)).thenReturn(targetResultsPage);
+
+        assertThat(getResultService.getFilteredResults(filter, pageRequest)).isNotNull().isEqualTo(targetResultsPage);
+    }
+
+    @Test
+    void getResultRollups() {
+        Instant to = Instant.now();
+        Instant from = to.minus(Duration.ofDays(1));
+        List<ResultRollup> resultRollups = List.of(new ResultRollup(TARGET_ID, HOUR, from, Map.of(SUCCESS, 1L)));
+
+        when(persistencePort.getResultRollups(List.of(TARGET_ID), HOUR, from, to)).thenReturn(resultRollups);
+
+        assertThat(getResultService.getResultRollups(List.of(TARGET_ID), HOUR, from, to)).isNotNull().isEqualTo(resultRollups);
+    }
+
+    @Test
+    void getResultRollupsDefaultRange() {
+        assertThat(getResultService.getResultRollups(List.of(TARGET_ID), HOUR, null, null)).isEmpty();
+
+        verify(persistencePort).getResultRollups(eq(List.of(TARGET_ID)), eq(HOUR),
+                argThat(from -> from.isBefore(Instant.now().minus(GetResultService.DEFAULT_ROLLUP_RANGE).plusSeconds(1))),
+                any(Instant.class));
+    }
+
 }
\ No newline at end of file
@@ -5,16 +5,30 @@ import be.wiserisk.hlabmonitor.monitor.application.port.out.PersistencePort;
 import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
 import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType;
 import be.wiserisk.hlabmonitor.monitor.domain.enums.StatisticType;
+import be.wiserisk.hlabmonitor.monitor.domain.model.ResultWindowCounter;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution.DAY;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution.HOUR;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,15 +39,88 @@ class GetStatisticsServiceTest {
 
     @Mock
     private PersistencePort persistencePort;
+    @Spy
+    private ResultWindowCounter resultWindowCounter = new ResultWindowCounter();
 
     @Test
     void getAllStatistics() {
-        when(persistencePort.countTarget()).thenReturn(1L);
-        when(persistencePort.countTarget(any(MonitoringType.class))).thenReturn(1L);
-        when(persistencePort.countLast24hResults()).thenReturn(1L);
-        when(persistencePort.countLast24hResults(any(MonitoringResult.class))).thenReturn(1L);
+        when(persistencePort.countTargetsByType()).thenReturn(Map.of(MonitoringType.PING, 2L, MonitoringType.HTTP, 1L));
+        record(MonitoringResult.SUCCESS, 5);
+        record(MonitoringResult.FAILURE, 1);
+        record(MonitoringResult.UNKNOWN, 1);
 
-        assertThat(getStatisticsService.getStatistics(List.of(StatisticType.GENERAL))).isNotNull();
+        assertThat(getStatisticsService.getStatistics(List.of(StatisticType.GENERAL)).statistics())
+                .containsEntry(StatisticType.TARGET, 3L)
+                .containsEntry(StatisticType.TARGET_PING, 2L)
+                .containsEntry(StatisticType.TARGET_CERTIFICATE, 0L)
+                .containsEntry(StatisticType.RESULT, 7L)
+                .containsEntry(StatisticType.RESULT_SUCCESS, 5L)
+                .containsEntry(StatisticType.RESULT_WARNING, 0L)
+                .containsEntry(StatisticType.NOTIFICATION, -1L);
+        verify(persistencePort).countTargetsByType();
+        verifyNoMoreInteractions(persistencePort);
+    }
+
+    @Test
+    void getTargetStatisticsSkipsResults() {
+        when(persistencePort.countTargetsByType()).thenReturn(Map.of(MonitoringType.SPEEDTEST, 4L));
+
+        assertThat(getStatisticsService.getStatistics(List.of(StatisticType.TARGET_SPEEDTEST, StatisticType.NOTIFICATION_SEND)).statistics())
+                .isEqualTo(Map.of(StatisticType.TARGET_SPEEDTEST, 4L, StatisticType.NOTIFICATION_SEND, -1L));
+        verify(resultWindowCounter, never()).count(any());
+    }
+
+    @Test
+    void getResultStatisticsFromRollups() {
+        when(persistencePort.countRolledUpResults(eq(DAY), any())).thenReturn(Map.of(
+                MonitoringResult.SUCCESS, 10L,
+                MonitoringResult.FAILURE, 2L,
+                MonitoringResult.WARNING, 0L,
+                MonitoringResult.ERROR, 1L,
+                MonitoringResult.UNKNOWN, 0L));
+
+        assertThat(getStatisticsService.getStatistics(List.of(StatisticType.RESULT, StatisticType.RESULT_SUCCESS, StatisticType.RESULT_ERROR), Duration.ofDays(365)).statistics())
+                .isEqualTo(Map.of(StatisticType.RESULT, 13L, StatisticType.RESULT_SUCCESS, 10L, StatisticType.RESULT_ERROR, 1L));
+        verify(resultWindowCounter, never()).count(any());
+        verify(persistencePort, never()).countTargetsByType();
+    }
+
+    @Test
+    void getAllStatisticsWithWindow() {
+        when(persistencePort.countTargetsByType()).thenReturn(Map.of(MonitoringType.PING, 1L));
+        when(persistencePort.countRolledUpResults(eq(HOUR), any())).thenReturn(Map.of(MonitoringResult.SUCCESS, 1L));
+
+        assertThat(getStatisticsService.getStatistics(List.of(StatisticType.GENERAL), Duration.ofDays(14)).statistics())
+                .containsEntry(StatisticType.RESULT, 1L)
+                .containsEntry(StatisticType.RESULT_FAILURE, 0L)
+                .containsEntry(StatisticType.TARGET, 1L);
+    }
+
+    @Test
+    void getResultStatisticsWithinAWeekFromCounters() {
+        record(MonitoringResult.ERROR, 2);
+        resultWindowCounter.record(new TargetResult(new TargetId("targetId"), MonitoringResult.ERROR, null, Instant.now().minus(Duration.ofHours(2))));
+
+        assertThat(getStatisticsService.getStatistics(List.of(StatisticType.RESULT_ERROR), ResultWindowCounter.LAST_HOUR).statistics())
+                .isEqualTo(Map.of(StatisticType.RESULT_ERROR, 2L));
+        assertThat(getStatisticsService.getStatistics(List.of(StatisticType.RESULT_ERROR), ResultWindowCounter.LAST_WEEK).statistics())
+                .isEqualTo(Map.of(StatisticType.RESULT_ERROR, 3L));
+        verifyNoInteractions(persistencePort);
+    }
+
+    private void record(MonitoringResult result, int times) {
+        for (int i = 0; i < times; i++) {
+            resultWindowCounter.record(new TargetResult(new TargetId("targetId"), result, null));
+        }
+    }
+
+    @Test
+    void getTargetStatisticsWithWindowSkipsRollups() {
+        when(persistencePort.countTargetsByType()).thenReturn(Map.of(MonitoringType.PING, 1L));
+
+        assertThat(getStatisticsService.getStatistics(List.of(StatisticType.TARGET), Duration.ofDays(1)).statistics())
+                .isEqualTo(Map.of(StatisticType.TARGET, 1L));
+        verify(persistencePort, never()).countRolledUpResults(any(), any());
     }
 
 }
\ No newline at end of file
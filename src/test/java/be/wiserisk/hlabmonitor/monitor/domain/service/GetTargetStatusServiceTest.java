@@ -0,0 +1,33 @@
+package be.wiserisk.hlabmonitor.monitor.domain.service;
+
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetStatusRegistry;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetStatusSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetTargetStatusServiceTest {
+
+    @InjectMocks
+    private GetTargetStatusService getTargetStatusService;
+
+    @Mock
+    private TargetStatusRegistry targetStatusRegistry;
+
+    @Test
+    void getTargetStatuses() {
+        TargetStatusSnapshot snapshot = new TargetStatusSnapshot("1-1", List.of());
+
+        when(targetStatusRegistry.snapshot()).thenReturn(snapshot);
+
+        assertThat(getTargetStatusService.getTargetStatuses()).isEqualTo(snapshot);
+    }
+}
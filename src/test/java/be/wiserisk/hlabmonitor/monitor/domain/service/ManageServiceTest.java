@@ -5,10 +5,14 @@ import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTriggerCallback
 import be.wiserisk.hlabmonitor.monitor.application.port.out.MonitoringSchedulerPort;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.PersistencePort;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.ScheduleHandle;
+import be.wiserisk.hlabmonitor.monitor.domain.model.ExpiryThresholds;
+import be.wiserisk.hlabmonitor.monitor.domain.model.IntervalBounds;
 import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
 import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -17,6 +21,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Duration;
 import java.util.List;
 
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.FAILURE;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.SUCCESS;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.WARNING;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.CERTIFICATE;
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -29,6 +37,8 @@ class ManageServiceTest {
     public static final String TARGET_ID_STRING = "ping-1";
     public static final TargetId TARGET_ID = new TargetId(TARGET_ID_STRING);
     public static final Target TARGET = new Target(TARGET_ID, PING, TARGET_STRING, INTERVAL);
+    public static final TargetId CERTIFICATE_TARGET_ID = new TargetId("https-1:certificate");
+    public static final Target CERTIFICATE_TARGET = new Target(CERTIFICATE_TARGET_ID, CERTIFICATE, "https://target", Duration.ofDays(1), ExpiryThresholds.DEFAULT, null);
 
     @Mock
     private PersistencePort persistencePort;
@@ -212,6 +222,81 @@ class ManageServiceTest {
         verify(schedulerPort).scheduleTarget(eq(TARGET), any(CheckTriggerCallback.class));
     }
 
+    @Test
+    void resumeMonitoring_shouldKeepIntervalBoundsOfConfiguredTarget() {
+        Target target = new Target(TARGET_ID, PING, TARGET_STRING, INTERVAL, null, new IntervalBounds(Duration.ofSeconds(10), Duration.ofMinutes(5)));
+        ScheduleHandle scheduleHandle = mock(ScheduleHandle.class);
+        when(persistencePort.isTargetIdExist(TARGET_ID)).thenReturn(true);
+        when(schedulerPort.scheduleTarget(eq(target), any(CheckTriggerCallback.class))).thenReturn(scheduleHandle);
+
+        service.syncTarget(target);
+        service.scheduleTargetMonitoring(target);
+        service.stopMonitoring(TARGET_ID);
+        service.resumeMonitoring(TARGET_ID);
+
+        verify(schedulerPort, times(2)).scheduleTarget(eq(target), any(CheckTriggerCallback.class));
+        verify(persistencePort, never()).getTarget(any());
+    }
+
+    @Test
+    void scheduledCheck_shouldExecuteConfiguredTarget() {
+        ArgumentCaptor<CheckTriggerCallback> callback = ArgumentCaptor.forClass(CheckTriggerCallback.class);
+        when(schedulerPort.scheduleTarget(eq(TARGET), callback.capture())).thenReturn(mock(ScheduleHandle.class));
+        when(executeCheckUseCase.executeCheck(TARGET)).thenReturn(new TargetResult(TARGET_ID, FAILURE, ""));
+
+        service.scheduleTargetMonitoring(TARGET);
+        callback.getValue().onTrigger(TARGET_ID);
+
+        verify(executeCheckUseCase).executeCheck(TARGET);
+        verify(schedulerPort, never()).reschedule(any(), any());
+    }
+
+    @Test
+    void scheduledCheck_shouldShortenIntervalOfExpiringCertificate() {
+        ScheduleHandle handle = mock(ScheduleHandle.class);
+        ArgumentCaptor<CheckTriggerCallback> callback = ArgumentCaptor.forClass(CheckTriggerCallback.class);
+        when(schedulerPort.scheduleTarget(eq(CERTIFICATE_TARGET), callback.capture())).thenReturn(handle);
+        when(executeCheckUseCase.executeCheck(CERTIFICATE_TARGET)).thenReturn(new TargetResult(CERTIFICATE_TARGET_ID, WARNING, ""));
+
+        service.scheduleTargetMonitoring(CERTIFICATE_TARGET);
+        callback.getValue().onTrigger(CERTIFICATE_TARGET_ID);
+
+        verify(schedulerPort).reschedule(handle, Duration.ofHours(6));
+        verify(schedulerPort, never()).unschedule(any());
+    }
+
+    @Test
+    void scheduledCheck_shouldKeepIntervalOfHealthyCertificate() {
+        ArgumentCaptor<CheckTriggerCallback> callback = ArgumentCaptor.forClass(CheckTriggerCallback.class);
+        when(schedulerPort.scheduleTarget(eq(CERTIFICATE_TARGET), callback.capture())).thenReturn(mock(ScheduleHandle.class));
+        when(executeCheckUseCase.executeCheck(CERTIFICATE_TARGET)).thenReturn(new TargetResult(CERTIFICATE_TARGET_ID, SUCCESS, ""));
+
+        service.scheduleTargetMonitoring(CERTIFICATE_TARGET);
+        callback.getValue().onTrigger(CERTIFICATE_TARGET_ID);
+
+        verify(schedulerPort, never()).reschedule(any(), any());
+    }
+
+    @Test
+    void scheduledCheck_shouldCheckFailingTargetAtMinInterval() {
+        Target target = new Target(TARGET_ID, PING, TARGET_STRING, INTERVAL, null, new IntervalBounds(Duration.ofSeconds(10), Duration.ofMinutes(5)));
+        ScheduleHandle handle = mock(ScheduleHandle.class);
+        ArgumentCaptor<CheckTriggerCallback> callback = ArgumentCaptor.forClass(CheckTriggerCallback.class);
+        when(schedulerPort.scheduleTarget(eq(target), callback.capture())).thenReturn(handle);
+        when(executeCheckUseCase.executeCheck(target))
+                .thenReturn(new TargetResult(TARGET_ID, FAILURE, ""))
+                .thenReturn(new TargetResult(TARGET_ID, FAILURE, ""))
+                .thenReturn(new TargetResult(TARGET_ID, SUCCESS, ""));
+
+        service.scheduleTargetMonitoring(target);
+        callback.getValue().onTrigger(TARGET_ID);
+        callback.getValue().onTrigger(TARGET_ID);
+        callback.getValue().onTrigger(TARGET_ID);
+
+        verify(schedulerPort).reschedule(handle, Duration.ofSeconds(10));
+        verify(schedulerPort).reschedule(handle, INTERVAL);
+    }
+
     @Test
     void reloadAllMonitoring_shouldCancelAllAndReloadFromPersistence() {
         ScheduleHandle oldHandle = mock(ScheduleHandle.class);
@@ -232,4 +317,48 @@ class ManageServiceTest {
         verify(persistencePort).getAllTargets(List.of(TARGET_ID));
         verify(service).refreshMonitoredTargets(List.of(TARGET));
     }
-}
\ No newline at end of file
+
+    @Test
+    void reloadAllMonitoring_shouldKeepIntervalBoundsOfConfiguredTarget() {
+        Target target = new Target(TARGET_ID, PING, TARGET_STRING, INTERVAL, null, new IntervalBounds(Duration.ofSeconds(10), Duration.ofMinutes(5)));
+        ScheduleHandle scheduleHandle = mock(ScheduleHandle.class);
+        when(scheduleHandle.getTargetId()).thenReturn(TARGET_ID_STRING);
+        when(schedulerPort.scheduleTarget(eq(target), any(CheckTriggerCallback.class))).thenReturn(scheduleHandle);
+
+        service.saveNewAndRefreshTarget(target);
+        service.reloadAllMonitoring();
+
+        verify(schedulerPort, times(2)).scheduleTarget(eq(target), any(CheckTriggerCallback.class));
+        verify(persistencePort, never()).getAllTargets(any());
+    }
+
+    @Test
+    void resumeMonitoring_shouldKeepExpiryThresholdsOfConfiguredCertificate() {
+        ScheduleHandle handle = mock(ScheduleHandle.class);
+        ArgumentCaptor<CheckTriggerCallback> callback = ArgumentCaptor.forClass(CheckTriggerCallback.class);
+        when(persistencePort.isTargetIdExist(CERTIFICATE_TARGET_ID)).thenReturn(false);
+        when(schedulerPort.scheduleTarget(eq(CERTIFICATE_TARGET), callback.capture())).thenReturn(handle);
+        when(executeCheckUseCase.executeCheck(CERTIFICATE_TARGET)).thenReturn(new TargetResult(CERTIFICATE_TARGET_ID, WARNING, ""));
+
+        service.syncTarget(CERTIFICATE_TARGET);
+        service.resumeMonitoring(CERTIFICATE_TARGET_ID);
+        callback.getValue().onTrigger(CERTIFICATE_TARGET_ID);
+
+        verify(persistencePort, never()).getTarget(any());
+        verify(schedulerPort).reschedule(handle, Duration.ofHours(6));
+    }
+
+    @Test
+    void reloadAllMonitoring_shouldKeepExpiryThresholdsOfConfiguredCertificate() {
+        ScheduleHandle handle = mock(ScheduleHandle.class);
+        when(handle.getTargetId()).thenReturn(CERTIFICATE_TARGET_ID.id());
+        when(persistencePort.isTargetIdExist(CERTIFICATE_TARGET_ID)).thenReturn(true);
+        when(schedulerPort.scheduleTarget(eq(CERTIFICATE_TARGET), any(CheckTriggerCallback.class))).thenReturn(handle);
+
+        service.syncFullConfiguration(List.of(CERTIFICATE_TARGET));
+        service.reloadAllMonitoring();
+
+        verify(schedulerPort, times(2)).scheduleTarget(eq(CERTIFICATE_TARGET), any(CheckTriggerCallback.class));
+        verify(persistencePort, never()).getAllTargets(any());
+    }
+}
@@ -1,9 +1,15 @@
 package be.wiserisk.hlabmonitor.monitor.domain.service;
 
+import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckMetricsPort;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTargetPort;
 import be.wiserisk.hlabmonitor.monitor.application.port.out.PersistencePort;
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
+import be.wiserisk.hlabmonitor.monitor.domain.model.ExpiryThresholds;
+import be.wiserisk.hlabmonitor.monitor.domain.model.ResultWindowCounter;
 import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
 import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetStatusRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -13,8 +19,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Duration;
 
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +38,12 @@ class MonitoringServiceTest {
     private CheckTargetPort checkPort;
     @Mock
     private PersistencePort persistencePort;
+    @Mock
+    private ResultWindowCounter resultWindowCounter;
+    @Mock
+    private TargetStatusRegistry targetStatusRegistry;
+    @Mock
+    private CheckMetricsPort checkMetricsPort;
 
     @Test
     void executeCheckHttp() {
@@ -40,6 +55,35 @@ class MonitoringServiceTest {
         verify(checkPort, times(1)).httpCheck(target);
     }
 
+    @Test
+    void executeCheckRecordsResult() {
+        Target target = new Target(TARGET_ID, PING, TARGET, Duration.ofMinutes(1));
+        TargetResult targetResult = new TargetResult(TARGET_ID, MonitoringResult.SUCCESS, "");
+
+        when(persistencePort.getTarget(TARGET_ID)).thenReturn(target);
+        when(checkPort.ping(target)).thenReturn(targetResult);
+
+        monitoringService.executeCheck(TARGET_ID);
+
+        verify(persistencePort).saveResult(targetResult);
+        verify(resultWindowCounter).record(targetResult);
+        verify(targetStatusRegistry).record(targetResult);
+        verify(checkMetricsPort).recordSave(any(Duration.class));
+        verify(checkMetricsPort).recordCheck(eq(target), eq(targetResult), any(Duration.class));
+    }
+
+    @Test
+    void executeCheckConfiguredTarget() {
+        Target target = new Target(TARGET_ID, CERTIFICATE, TARGET, Duration.ofDays(1), ExpiryThresholds.DEFAULT, null);
+        TargetResult targetResult = new TargetResult(TARGET_ID, MonitoringResult.WARNING, "");
+
+        when(checkPort.certCheck(target)).thenReturn(targetResult);
+
+        assertThat(monitoringService.executeCheck(target)).isEqualTo(targetResult);
+        verify(persistencePort, never()).getTarget(any());
+        verify(persistencePort).saveResult(targetResult);
+    }
+
     @Test
     void executeCheckPing() {
         Target target = new Target(TARGET_ID, PING, TARGET, Duration.ofMinutes(1));
@@ -8,14 +8,33 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.FAILURE;
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.SUCCESS;
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.HTTP;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution.HOUR;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +48,8 @@ class CheckResultsControllerTest {
 
     @Mock
     private GetCheckResultsUseCase getCheckResultsUseCase;
+    @Spy
+    private JsonMapper jsonMapper = JsonMapper.builder().build();
 
     @Test
     void getAll() {
@@ -45,9 +66,19 @@ class CheckResultsControllerTest {
         TargetResult targetResult = new TargetResult(TARGET_ID, SUCCESS, "");
         List<TargetResult> targetResults = List.of(targetResult);
 
-        when(getCheckResultsUseCase.getTargetIdResults(TARGET_ID)).thenReturn(targetResults);
+        when(getCheckResultsUseCase.getTargetIdResults(TARGET_ID, null, null, 1000)).thenReturn(targetResults);
 
-        assertThat(checkResultsController.getAllByTargetId(TARGET_ID_STRING)).isNotNull().isNotEmpty().isEqualTo(targetResults);
+        assertThat(checkResultsController.getAllByTargetId(TARGET_ID_STRING, null, null, 1000, null)).isNotNull().isNotEmpty().isEqualTo(targetResults);
+    }
+
+    @Test
+    void getAllByTargetIdDownsampled() {
+        Instant from = Instant.now().minusSeconds(3600);
+        List<TargetResult> targetResults = List.of(new TargetResult(TARGET_ID, SUCCESS, ""));
+
+        when(getCheckResultsUseCase.getDownsampledTargetIdResults(TARGET_ID, from, null, 500)).thenReturn(targetResults);
+
+        assertThat(checkResultsController.getAllByTargetId(TARGET_ID_STRING, from, null, 1000, 500)).isEqualTo(targetResults);
     }
 
     @Test
@@ -68,7 +99,91 @@ class CheckResultsControllerTest {
 
         when(getCheckResultsUseCase.getFilteredResults(filter, pageRequest)).thenReturn(pageResponse);
 
-        assertThat(checkResultsController.getAllFiltered(now, now, targetIdStringList, monitoringResultList, monitoringTypeList, size, page)).isNotNull().isEqualTo(pageResponse);
+        assertThat(checkResultsController.getAllFiltered(now, now, targetIdStringList, monitoringResultList, monitoringTypeList, size, page, null, false)).isNotNull().isEqualTo(pageResponse);
+    }
+
+    @Test
+    void exportNdjson() throws IOException {
+        Instant checkedAt = Instant.parse("2026-01-01T10:00:00Z");
+        CheckResultsFilter filter = new CheckResultsFilter(null, null, List.of(TARGET_ID), List.of(SUCCESS), null);
+        mockExport(filter, new TargetResult(TARGET_ID, SUCCESS, "ok", checkedAt), new TargetResult(TARGET_ID, SUCCESS, null, checkedAt));
+
+        ResponseEntity<StreamingResponseBody> response = checkResultsController.export(null, null, List.of(TARGET_ID_STRING), List.of(SUCCESS), null, ResultExportFormat.NDJSON, null);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(writeBody(response).toString(StandardCharsets.UTF_8).lines())
+                .hasSize(2)
+                .first().satisfies(line -> assertThat(jsonMapper.readValue(line, TargetResult.class)).isEqualTo(new TargetResult(TARGET_ID, SUCCESS, "ok", checkedAt)));
+    }
+
+    @Test
+    void exportCsv() throws IOException {
+        Instant checkedAt = Instant.parse("2026-01-01T10:00:00Z");
+        CheckResultsFilter filter = new CheckResultsFilter(null, null, List.of(), null, List.of(HTTP));
+        mockExport(filter, new TargetResult(TARGET_ID, SUCCESS, "status 200, \"OK\"", checkedAt), new TargetResult(TARGET_ID, FAILURE, null, checkedAt));
+
+        ResponseEntity<StreamingResponseBody> response = checkResultsController.export(null, null, List.of(), null, List.of(HTTP), ResultExportFormat.CSV, null);
+
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("results.csv");
+        assertThat(writeBody(response).toString(StandardCharsets.UTF_8)).isEqualTo(
+                "targetId,result,checkedAt,message\n" +
+                "targetId,SUCCESS,2026-01-01T10:00:00Z,\"status 200, \"\"OK\"\"\"\n" +
+                "targetId,FAILURE,2026-01-01T10:00:00Z,\n");
+    }
+
+    @Test
+    void exportGzip() throws IOException {
+        Instant checkedAt = Instant.parse("2026-01-01T10:00:00Z");
+        CheckResultsFilter filter = new CheckResultsFilter(null, null, List.of(), null, null);
+        mockExport(filter, new TargetResult(TARGET_ID, SUCCESS, null, checkedAt));
+
+        ResponseEntity<StreamingResponseBody> response = checkResultsController.export(null, null, List.of(), null, null, ResultExportFormat.CSV, "gzip, deflate");
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(writeBody(response).toByteArray()))) {
+            assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo("targetId,result,checkedAt,message\ntargetId,SUCCESS,2026-01-01T10:00:00Z,\n");
+        }
+    }
+
+    private void mockExport(CheckResultsFilter filter, TargetResult... results) {
+        doAnswer(invocation -> {
+            Consumer<TargetResult> consumer = invocation.getArgument(1);
+            Arrays.asList(results).forEach(consumer);
+            return null;
+        }).when(getCheckResultsUseCase).exportFilteredResults(eq(filter), any());
+    }
+
+    private ByteArrayOutputStream writeBody(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        return outputStream;
+    }
+
+    @Test
+    void getAllFilteredWithCursor() {
+        List<TargetId> targetIdList = List.of(TARGET_ID);
+        Instant now = Instant.now();
+        int size = 20;
+
+        CheckResultsFilter filter = new CheckResultsFilter(now, now, targetIdList, null, null);
+        CursorPageRequest pageRequest = new CursorPageRequest("", size, false);
+        PageResponse<TargetResult> pageResponse = new PageResponse<>(List.of(), 0, size, PageResponse.UNKNOWN_TOTAL, true, "next");
+
+        when(getCheckResultsUseCase.getFilteredResults(filter, pageRequest)).thenReturn(pageResponse);
+
+        assertThat(checkResultsController.getAllFiltered(now, now, List.of(TARGET_ID_STRING), null, null, size, 0, "", false)).isNotNull().isEqualTo(pageResponse);
+    }
+
+    @Test
+    void getRollups() {
+        Instant now = Instant.now();
+        List<ResultRollup> resultRollups = List.of(new ResultRollup(TARGET_ID, HOUR, now, Map.of(SUCCESS, 1L)));
+
+        when(getCheckResultsUseCase.getResultRollups(List.of(TARGET_ID), HOUR, now, now)).thenReturn(resultRollups);
+
+        assertThat(checkResultsController.getRollups(now, now, List.of(TARGET_ID_STRING), HOUR)).isNotNull().isEqualTo(resultRollups);
     }
 
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
@@ -29,9 +30,19 @@ class CheckStatisticsControllerTest {
     void getStatistics() {
         List<StatisticType> statisticTypes = List.of(GENERAL);
 
-        when(getCheckStatisticsUseCase.getStatistics(statisticTypes)).thenReturn(new Statistics(GENERAL, Collections.emptyMap()));
+        when(getCheckStatisticsUseCase.getStatistics(statisticTypes, null)).thenReturn(new Statistics(GENERAL, Collections.emptyMap()));
 
-        assertThat(checkStatisticsController.getStatistics(statisticTypes)).isNotNull();
+        assertThat(checkStatisticsController.getStatistics(statisticTypes, null)).isNotNull();
+    }
+
+    @Test
+    void getStatisticsWithWindow() {
+        List<StatisticType> statisticTypes = List.of(GENERAL);
+        Duration window = Duration.ofDays(30);
+
+        when(getCheckStatisticsUseCase.getStatistics(statisticTypes, window)).thenReturn(new Statistics(GENERAL, Collections.emptyMap()));
+
+        assertThat(checkStatisticsController.getStatistics(statisticTypes, window)).isNotNull();
     }
 
 }
\ No newline at end of file
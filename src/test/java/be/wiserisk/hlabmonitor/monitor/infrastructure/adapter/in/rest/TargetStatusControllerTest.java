@@ -0,0 +1,61 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.in.rest;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.in.query.GetTargetStatusUseCase;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetStatus;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetStatusSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.SUCCESS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TargetStatusControllerTest {
+
+    public static final TargetId TARGET_ID = new TargetId("targetId");
+    public static final List<TargetStatus> STATUSES = List.of(new TargetStatus(TARGET_ID, new TargetResult(TARGET_ID, SUCCESS, null, Instant.now()), 0, Instant.now()));
+
+    @InjectMocks
+    private TargetStatusController targetStatusController;
+
+    @Mock
+    private GetTargetStatusUseCase getTargetStatusUseCase;
+
+    @Test
+    void getAll() {
+        when(getTargetStatusUseCase.getTargetStatuses()).thenReturn(new TargetStatusSnapshot("1-2", STATUSES));
+
+        ResponseEntity<List<TargetStatus>> response = targetStatusController.getAll(new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/status"), new MockHttpServletResponse()));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"1-2\"");
+        assertThat(response.getBody()).isEqualTo(STATUSES);
+    }
+
+    @Test
+    void getAllNotModified() {
+        when(getTargetStatusUseCase.getTargetStatuses()).thenReturn(new TargetStatusSnapshot("1-2", STATUSES));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/status");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"1-2\"");
+
+        ResponseEntity<List<TargetStatus>> response = targetStatusController.getAll(new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+    }
+}
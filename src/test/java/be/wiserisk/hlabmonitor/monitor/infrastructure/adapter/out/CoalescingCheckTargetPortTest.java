@@ -0,0 +1,174 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTargetPort;
+import be.wiserisk.hlabmonitor.monitor.domain.model.ExpiryThresholds;
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.FAILURE;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.SUCCESS;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.WARNING;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.CERTIFICATE;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.HTTP;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingCheckTargetPortTest {
+
+    public static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+    public static final Duration WINDOW = Duration.ofSeconds(2);
+    public static final Target FIRST_PING = new Target(new TargetId("dns-1:ping"), PING, "1.1.1.1", Duration.ofMinutes(1));
+    public static final Target SECOND_PING = new Target(new TargetId("dns-2:ping"), PING, "1.1.1.1", Duration.ofMinutes(1));
+
+    @Mock
+    private CheckTargetPort delegate;
+    @Mock
+    private Clock clock;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CoalescingCheckTargetPort coalescingCheckTargetPort;
+
+    @BeforeEach
+    void setUp() {
+        coalescingCheckTargetPort = new CoalescingCheckTargetPort(delegate, WINDOW, meterRegistry, clock);
+    }
+
+    @Test
+    void checksWithinWindowShareOneProbe() {
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(1));
+        when(delegate.ping(FIRST_PING)).thenReturn(new TargetResult(FIRST_PING.id(), SUCCESS, "", NOW));
+
+        assertThat(coalescingCheckTargetPort.ping(FIRST_PING)).isEqualTo(new TargetResult(FIRST_PING.id(), SUCCESS, "", NOW));
+        assertThat(coalescingCheckTargetPort.ping(SECOND_PING)).isEqualTo(new TargetResult(SECOND_PING.id(), SUCCESS, "", NOW));
+
+        verify(delegate, times(1)).ping(any());
+        assertThat(meterRegistry.get("hlabmonitor.check.coalesced").tag("type", "ping").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void checkAfterWindowRunsItsOwnProbe() {
+        when(clock.instant()).thenReturn(NOW, NOW.plus(WINDOW));
+        when(delegate.ping(any())).thenReturn(new TargetResult(FIRST_PING.id(), SUCCESS, ""));
+
+        coalescingCheckTargetPort.ping(FIRST_PING);
+        coalescingCheckTargetPort.ping(SECOND_PING);
+
+        verify(delegate).ping(FIRST_PING);
+        verify(delegate).ping(SECOND_PING);
+    }
+
+    @Test
+    void checksOfAnotherTypeAreNotShared() {
+        Target http = new Target(new TargetId("dns-1:http"), HTTP, "1.1.1.1", Duration.ofMinutes(1));
+        when(clock.instant()).thenReturn(NOW);
+        when(delegate.ping(FIRST_PING)).thenReturn(new TargetResult(FIRST_PING.id(), SUCCESS, ""));
+        when(delegate.httpCheck(http)).thenReturn(new TargetResult(http.id(), FAILURE, ""));
+
+        coalescingCheckTargetPort.ping(FIRST_PING);
+
+        assertThat(coalescingCheckTargetPort.httpCheck(http).result()).isEqualTo(FAILURE);
+        assertThat(coalescingCheckTargetPort.endpoints()).isEqualTo(2);
+    }
+
+    @Test
+    void checksWithAnotherIntervalAreNotShared() {
+        Target slower = new Target(new TargetId("dns-2:ping"), PING, "1.1.1.1", Duration.ofMinutes(5));
+        when(clock.instant()).thenReturn(NOW);
+        when(delegate.ping(any())).thenReturn(new TargetResult(FIRST_PING.id(), SUCCESS, ""));
+
+        coalescingCheckTargetPort.ping(FIRST_PING);
+        coalescingCheckTargetPort.ping(slower);
+
+        verify(delegate).ping(FIRST_PING);
+        verify(delegate).ping(slower);
+    }
+
+    @Test
+    void certificatesWithOtherThresholdsAreNotShared() {
+        Target strict = new Target(new TargetId("site-1:certificate"), CERTIFICATE, "https://example.com", Duration.ofHours(1),
+                new ExpiryThresholds(Duration.ofDays(60), Duration.ofDays(30)), null);
+        Target lenient = new Target(new TargetId("site-2:certificate"), CERTIFICATE, "https://example.com", Duration.ofHours(1),
+                ExpiryThresholds.DEFAULT, null);
+        when(clock.instant()).thenReturn(NOW);
+        when(delegate.certCheck(strict)).thenReturn(new TargetResult(strict.id(), WARNING, "Certificate expires in 45 days"));
+        when(delegate.certCheck(lenient)).thenReturn(new TargetResult(lenient.id(), SUCCESS, "Certificate expires in 45 days"));
+
+        assertThat(coalescingCheckTargetPort.certCheck(strict).result()).isEqualTo(WARNING);
+        assertThat(coalescingCheckTargetPort.certCheck(lenient).result()).isEqualTo(SUCCESS);
+        assertThat(coalescingCheckTargetPort.endpoints()).isEqualTo(2);
+    }
+
+    @Test
+    void checkJoinsProbeInFlight() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(clock.instant()).thenReturn(NOW);
+        when(delegate.ping(FIRST_PING)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new TargetResult(FIRST_PING.id(), FAILURE, "Timeout");
+        });
+
+        CompletableFuture<TargetResult> first = CompletableFuture.supplyAsync(() -> coalescingCheckTargetPort.ping(FIRST_PING));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<TargetResult> second = CompletableFuture.supplyAsync(() -> coalescingCheckTargetPort.ping(SECOND_PING));
+        release.countDown();
+
+        assertThat(second.get(5, TimeUnit.SECONDS)).extracting(TargetResult::id, TargetResult::message).containsExactly(SECOND_PING.id(), "Timeout");
+        assertThat(first.get(5, TimeUnit.SECONDS).id()).isEqualTo(FIRST_PING.id());
+        verify(delegate, times(1)).ping(any());
+    }
+
+    @Test
+    void failedProbeIsNotShared() {
+        when(clock.instant()).thenReturn(NOW);
+        when(delegate.ping(FIRST_PING)).thenThrow(new IllegalStateException("Reachability engine is stopped"));
+        when(delegate.ping(SECOND_PING)).thenReturn(new TargetResult(SECOND_PING.id(), SUCCESS, ""));
+
+        assertThatThrownBy(() -> coalescingCheckTargetPort.ping(FIRST_PING)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(coalescingCheckTargetPort.ping(SECOND_PING).result()).isEqualTo(SUCCESS);
+    }
+
+    @Test
+    void probeFailingWithErrorIsNotShared() {
+        when(clock.instant()).thenReturn(NOW);
+        when(delegate.ping(FIRST_PING)).thenThrow(new OutOfMemoryError("unable to create native thread"));
+        when(delegate.ping(SECOND_PING)).thenReturn(new TargetResult(SECOND_PING.id(), SUCCESS, ""));
+
+        assertThatThrownBy(() -> coalescingCheckTargetPort.ping(FIRST_PING)).isInstanceOf(OutOfMemoryError.class);
+
+        assertThat(coalescingCheckTargetPort.endpoints()).isZero();
+        assertThat(coalescingCheckTargetPort.ping(SECOND_PING).result()).isEqualTo(SUCCESS);
+    }
+
+    @Test
+    void zeroWindowDisablesCoalescing() {
+        CoalescingCheckTargetPort disabled = new CoalescingCheckTargetPort(delegate, Duration.ZERO, meterRegistry, clock);
+        when(delegate.ping(any())).thenReturn(new TargetResult(FIRST_PING.id(), SUCCESS, ""));
+
+        disabled.ping(FIRST_PING);
+        disabled.ping(SECOND_PING);
+
+        verify(delegate, times(2)).ping(any());
+        verifyNoInteractions(clock);
+        assertThat(disabled.endpoints()).isZero();
+    }
+}
@@ -1,37 +1,56 @@
 package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out;
 
+import be.wiserisk.hlabmonitor.monitor.domain.model.ExpiryThresholds;
 import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
 import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.certificate.CertificateChain;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.certificate.CertificateProbe;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.dns.DnsResolver;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.reachability.ReachabilityResult;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.reachability.TcpReachabilityEngine;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CertificateProbeProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.Common;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.HttpClientProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.ReachabilityProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.ReachabilityProperties.ReachabilityMethod;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestClient;
-import org.springframework.web.client.RestClient.RequestHeadersUriSpec;
-import org.springframework.web.client.RestClient.ResponseSpec;
-
-import javax.net.ssl.HttpsURLConnection;
+
+import javax.net.ssl.SSLHandshakeException;
 import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSession;
 import java.io.IOException;
 import java.net.*;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
 import java.security.cert.CertificateExpiredException;
 import java.security.cert.CertificateNotYetValidException;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.FAILURE;
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.SUCCESS;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.WARNING;
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.HTTP;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.ReachabilityProperties.ReachabilityMethod.ICMP;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.ReachabilityProperties.ReachabilityMethod.TCP;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,285 +58,305 @@ class HttpCheckAdapterTest {
     public static final String TARGET = "target";
     public static final TargetId TARGET_ID = new TargetId("TargetId");
     public static final String EXCEPTION_MESSAGE = "Exception Message";
-    @InjectMocks
+    public static final String HTTP_TARGET = "https://target/health";
+
     private HttpCheckAdapter httpCheckAdapter;
 
     @Mock
-    private RestClient restClient;
+    private DnsResolver dnsResolver;
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private HttpResponse<Void> httpResponse;
+    @Mock
+    private TcpReachabilityEngine tcpReachabilityEngine;
+    @Mock
+    private CertificateProbe certificateProbe;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        httpCheckAdapter = httpCheckAdapter(TCP);
+    }
+
+    private HttpCheckAdapter httpCheckAdapter(ReachabilityMethod reachabilityMethod) {
+        return new HttpCheckAdapter(dnsResolver, httpClient, new HttpClientProperties(null, null, null, null), new HttpClientMetrics(meterRegistry),
+                tcpReachabilityEngine, new ReachabilityProperties(reachabilityMethod, null, null),
+                certificateProbe, new CertificateProbeProperties(null, null, null));
+    }
 
     @Test
-    void pingSuccess() throws IOException {
+    void pingTcpSuccess() throws UnknownHostException {
+        InetAddress addressMock = mock(InetAddress.class);
+        Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofSeconds(2));
+        when(tcpReachabilityEngine.probe(addressMock, ReachabilityProperties.DEFAULT_PORTS, Duration.ofSeconds(2)))
+                .thenReturn(CompletableFuture.completedFuture(ReachabilityResult.reachable(Duration.ofMillis(3))));
+        when(dnsResolver.resolve(TARGET)).thenReturn(addressMock);
+        TargetResult targetResult = httpCheckAdapter.ping(target);
+        assertThat(targetResult).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, SUCCESS, ""));
+        assertThat(targetResult.timings().connect()).isEqualTo(Duration.ofMillis(3));
+        assertThat(targetResult.timings().dns()).isNotNull();
+    }
+
+    @Test
+    void pingTcpFailure() throws UnknownHostException {
+        InetAddress addressMock = mock(InetAddress.class);
+        Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
+        when(tcpReachabilityEngine.probe(addressMock, ReachabilityProperties.DEFAULT_PORTS, Duration.ofSeconds(5)))
+                .thenReturn(CompletableFuture.completedFuture(ReachabilityResult.unreachable(Duration.ofSeconds(5), "Timeout")));
+        when(dnsResolver.resolve(TARGET)).thenReturn(addressMock);
+        assertThat(httpCheckAdapter.ping(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "Timeout"));
+    }
+
+    @Test
+    void pingIcmpSuccess() throws IOException {
+        HttpCheckAdapter httpCheckAdapter = httpCheckAdapter(ICMP);
         InetAddress addressMock = mock(InetAddress.class);
         Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
         when(addressMock.isReachable(5000)).thenReturn(true);
-        try (MockedStatic<InetAddress> inetAddressMockedStatic = Mockito.mockStatic(InetAddress.class)) {
-            inetAddressMockedStatic.when(() -> InetAddress.getByName("target")).thenReturn(addressMock);
-            assertThat(httpCheckAdapter.ping(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, SUCCESS, ""));
-        }
+        when(dnsResolver.resolve(TARGET)).thenReturn(addressMock);
+        TargetResult targetResult = httpCheckAdapter.ping(target);
+        assertThat(targetResult).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, SUCCESS, ""));
+        assertThat(targetResult.timings()).isNotNull();
+        assertThat(targetResult.timings().total()).isGreaterThanOrEqualTo(targetResult.timings().dns()).isGreaterThanOrEqualTo(targetResult.timings().connect());
+        assertThat(targetResult.timings().tls()).isNull();
     }
 
     @Test
-    void pingFailure() throws IOException {
+    void pingIcmpFailure() throws IOException {
+        HttpCheckAdapter httpCheckAdapter = httpCheckAdapter(ICMP);
         InetAddress addressMock = mock(InetAddress.class);
         Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
         when(addressMock.isReachable(5000)).thenReturn(false);
-        try (MockedStatic<InetAddress> inetAddressMockedStatic = Mockito.mockStatic(InetAddress.class)) {
-            inetAddressMockedStatic.when(() -> InetAddress.getByName("target")).thenReturn(addressMock);
-            assertThat(httpCheckAdapter.ping(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, ""));
-        }
+        when(dnsResolver.resolve(TARGET)).thenReturn(addressMock);
+        assertThat(httpCheckAdapter.ping(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, ""));
     }
 
     @Test
-    void pingIOException() throws IOException {
+    void pingIcmpIOException() throws IOException {
+        HttpCheckAdapter httpCheckAdapter = httpCheckAdapter(ICMP);
         InetAddress addressMock = mock(InetAddress.class);
         Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
         doThrow(new IOException(EXCEPTION_MESSAGE)).when(addressMock).isReachable(5000);
-        try (MockedStatic<InetAddress> inetAddressMockedStatic = Mockito.mockStatic(InetAddress.class)) {
-            inetAddressMockedStatic.when(() -> InetAddress.getByName("target")).thenReturn(addressMock);
-            assertThat(httpCheckAdapter.ping(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, EXCEPTION_MESSAGE));
-        }
+        when(dnsResolver.resolve(TARGET)).thenReturn(addressMock);
+        assertThat(httpCheckAdapter.ping(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, EXCEPTION_MESSAGE));
     }
 
     @Test
-    void pingUnknownHostException() {
+    void pingUnknownHostException() throws UnknownHostException {
         Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
-        try (MockedStatic<InetAddress> inetAddressMockedStatic = Mockito.mockStatic(InetAddress.class)) {
-            inetAddressMockedStatic.when(() -> InetAddress.getByName("target")).thenThrow(new UnknownHostException());
-            assertThat(httpCheckAdapter.ping(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "Unknown host"));
-        }
+        when(dnsResolver.resolve(TARGET)).thenThrow(new UnknownHostException());
+        assertThat(httpCheckAdapter.ping(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "DNS failure: Unknown host"));
     }
 
     @Test
-    void httpCheckSuccess() {
-        Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
-        RequestHeadersUriSpec requestHeadersUriSpec = mock(RequestHeadersUriSpec.class);
-        ResponseSpec responseSpec = mock(ResponseSpec.class);
+    void httpCheckSuccess() throws IOException, InterruptedException {
+        Target target = new Target(TARGET_ID, HTTP, HTTP_TARGET, Duration.ofMinutes(1));
+        ArgumentCaptor<HttpRequest> request = ArgumentCaptor.forClass(HttpRequest.class);
 
-        when(restClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(TARGET)).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.toBodilessEntity()).thenReturn(new ResponseEntity<>(HttpStatus.OK));
+        doReturn(httpResponse).when(httpClient).send(request.capture(), any());
+        when(httpResponse.statusCode()).thenReturn(200);
+        when(httpResponse.version()).thenReturn(HttpClient.Version.HTTP_2);
 
         assertThat(httpCheckAdapter.httpCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, SUCCESS, ""));
+        assertThat(request.getValue().method()).isEqualTo("HEAD");
+        assertThat(request.getValue().timeout()).contains(HttpClientProperties.DEFAULT_RESPONSE_TIMEOUT);
+        assertThat(meterRegistry.get("hlabmonitor.http.client.requests").tag("method", "head").tag("version", "http_2").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hlabmonitor.http.client.inflight").gauge().value()).isZero();
+        assertThat(meterRegistry.get("hlabmonitor.http.client.origins").gauge().value()).isEqualTo(1);
+        verify(dnsResolver).resolve(TARGET);
     }
 
     @Test
-    void httpCheckFailure() {
-        Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
-        RequestHeadersUriSpec requestHeadersUriSpec = mock(RequestHeadersUriSpec.class);
-        ResponseSpec responseSpec = mock(ResponseSpec.class);
+    void httpCheckSharesCertificatesOfItsConnection() throws IOException, InterruptedException {
+        Target target = new Target(TARGET_ID, HTTP, HTTP_TARGET, Duration.ofMinutes(1));
+        SSLSession sslSession = mock(SSLSession.class);
+        Certificate[] certificates = {mock(X509Certificate.class)};
 
-        when(restClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(TARGET)).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.toBodilessEntity()).thenReturn(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        doReturn(httpResponse).when(httpClient).send(any(), any());
+        when(httpResponse.statusCode()).thenReturn(200);
+        when(httpResponse.uri()).thenReturn(URI.create(HTTP_TARGET));
+        when(httpResponse.sslSession()).thenReturn(Optional.of(sslSession));
+        when(sslSession.getPeerCertificates()).thenReturn(certificates);
 
-        assertThat(httpCheckAdapter.httpCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, ""));
+        assertThat(httpCheckAdapter.httpCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, SUCCESS, ""));
+        verify(certificateProbe).offer(URI.create(HTTP_TARGET), certificates);
     }
 
     @Test
-    void httpCheckFailureResourceAccessException() {
-        Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
-        RequestHeadersUriSpec requestHeadersUriSpec = mock(RequestHeadersUriSpec.class);
-        ResponseSpec responseSpec = mock(ResponseSpec.class);
+    void httpCheckFailure() throws IOException, InterruptedException {
+        Target target = new Target(TARGET_ID, HTTP, HTTP_TARGET, Duration.ofMinutes(1));
 
-        when(restClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(TARGET)).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.toBodilessEntity()).thenThrow(new ResourceAccessException("exception"));
+        doReturn(httpResponse).when(httpClient).send(any(), any());
+        when(httpResponse.statusCode()).thenReturn(404);
 
-        assertThat(httpCheckAdapter.httpCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "exception"));
+        assertThat(httpCheckAdapter.httpCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, ""));
     }
 
     @Test
-    void certCheckIllegalArgumentException() {
-        Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
+    void httpCheckFallsBackToRangedGetWhenHeadIsRejected() throws IOException, InterruptedException {
+        Target target = new Target(TARGET_ID, HTTP, HTTP_TARGET, Duration.ofSeconds(3));
+        ArgumentCaptor<HttpRequest> request = ArgumentCaptor.forClass(HttpRequest.class);
+
+        doReturn(httpResponse).when(httpClient).send(request.capture(), any());
+        when(httpResponse.statusCode()).thenReturn(405, 206);
 
-        try (MockedStatic<URI> uriMockedStatic = Mockito.mockStatic(URI.class)) {
-            uriMockedStatic.when(() -> URI.create(TARGET)).thenThrow(new IllegalArgumentException());
-            assertThat(httpCheckAdapter.certCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "Malformed URL"));
-        }
+        assertThat(httpCheckAdapter.httpCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, SUCCESS, ""));
+        assertThat(request.getAllValues()).extracting(HttpRequest::method).containsExactly("HEAD", "GET");
+        assertThat(request.getAllValues().get(1).headers().firstValue("Range")).contains("bytes=0-0");
+        assertThat(request.getAllValues().get(1).timeout()).contains(Duration.ofSeconds(3));
     }
 
     @Test
-    void certCheckMalformedURLException() {
-        Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
-        URI uri = mock(URI.class);
-
-        try (MockedStatic<URI> uriMockedStatic = Mockito.mockStatic(URI.class)) {
-            uriMockedStatic.when(() -> URI.create(TARGET)).thenReturn(uri);
-            when(uri.toURL()).thenThrow(new MalformedURLException());
-            assertThat(httpCheckAdapter.certCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "Malformed URL"));
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    void httpCheckTimeout() throws IOException, InterruptedException {
+        Target target = new Target(TARGET_ID, HTTP, HTTP_TARGET, Duration.ofMinutes(1));
+
+        when(httpClient.send(any(), any())).thenThrow(new HttpTimeoutException("request timed out"));
+
+        TargetResult targetResult = httpCheckAdapter.httpCheck(target);
+        assertThat(targetResult).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "Timeout"));
+        assertThat(meterRegistry.get("hlabmonitor.http.client.requests").tag("version", "none").counter().count()).isEqualTo(1);
     }
 
     @Test
-    void certCheckIOException() {
-        Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
-        URI uri = mock(URI.class);
-        URL url = mock(URL.class);
-
-        try (MockedStatic<URI> uriMockedStatic = Mockito.mockStatic(URI.class)) {
-            uriMockedStatic.when(() -> URI.create(TARGET)).thenReturn(uri);
-            when(uri.toURL()).thenReturn(url);
-            when(url.openConnection()).thenThrow(new IOException("IOException"));
-            assertThat(httpCheckAdapter.certCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "IOException"));
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    void httpCheckFailureIOException() throws IOException, InterruptedException {
+        Target target = new Target(TARGET_ID, HTTP, HTTP_TARGET, Duration.ofMinutes(1));
+
+        when(httpClient.send(any(), any())).thenThrow(new IOException("exception"));
+
+        TargetResult targetResult = httpCheckAdapter.httpCheck(target);
+        assertThat(targetResult).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "exception"));
+        assertThat(targetResult.timings().total()).isNotNull();
     }
 
     @Test
-    void certCheckSocketTimeoutException() {
-        Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
-        URI uri = mock(URI.class);
-        URL url = mock(URL.class);
-        HttpsURLConnection hsc = mock(HttpsURLConnection.class);
-
-        try (MockedStatic<URI> uriMockedStatic = Mockito.mockStatic(URI.class)) {
-            uriMockedStatic.when(() -> URI.create(TARGET)).thenReturn(uri);
-            when(uri.toURL()).thenReturn(url);
-            when(url.openConnection()).thenReturn(hsc);
-            doThrow(new SocketTimeoutException()).when(hsc).connect();
-            assertThat(httpCheckAdapter.certCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "Timeout"));
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    void httpCheckDnsFailure() throws IOException {
+        Target target = new Target(TARGET_ID, HTTP, HTTP_TARGET, Duration.ofMinutes(1));
+
+        when(dnsResolver.resolve(TARGET)).thenThrow(new UnknownHostException("target: Temporary failure in name resolution"));
+
+        assertThat(httpCheckAdapter.httpCheck(target)).isNotNull().extracting("id", "result", "message")
+                .isEqualTo(List.of(TARGET_ID, FAILURE, "DNS failure: target: Temporary failure in name resolution"));
+        verifyNoInteractions(httpClient);
     }
 
     @Test
-    void certCheckSSLPeerUnverifiedException() {
+    void httpCheckMalformedUrl() {
         Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
-        URI uri = mock(URI.class);
-        URL url = mock(URL.class);
-        HttpsURLConnection hsc = mock(HttpsURLConnection.class);
-
-        try (MockedStatic<URI> uriMockedStatic = Mockito.mockStatic(URI.class)) {
-            uriMockedStatic.when(() -> URI.create(TARGET)).thenReturn(uri);
-            when(uri.toURL()).thenReturn(url);
-            when(url.openConnection()).thenReturn(hsc);
-            doNothing().when(hsc).connect();
-            when(hsc.getServerCertificates()).thenThrow(new SSLPeerUnverifiedException(""));
-            assertThat(httpCheckAdapter.certCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "Peer unverified"));
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+
+        assertThat(httpCheckAdapter.httpCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "Malformed URL"));
+        verifyNoInteractions(httpClient);
     }
 
     @Test
-    void certCheckCertificateExpiredException() {
-        Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
-        URI uri = mock(URI.class);
-        URL url = mock(URL.class);
-        HttpsURLConnection hsc = mock(HttpsURLConnection.class);
-        Certificate[] certs = new Certificate[1];
+    void certCheck() throws IOException, CertificateException {
+        Target target = new Target(TARGET_ID, HTTP, HTTP_TARGET, Duration.ofDays(1));
         X509Certificate x509Cert = mock(X509Certificate.class);
-        certs[0] = x509Cert;
-
-        try (MockedStatic<URI> uriMockedStatic = Mockito.mockStatic(URI.class)) {
-            uriMockedStatic.when(() -> URI.create(TARGET)).thenReturn(uri);
-            when(uri.toURL()).thenReturn(url);
-            when(url.openConnection()).thenReturn(hsc);
-            doNothing().when(hsc).connect();
-            when(hsc.getServerCertificates()).thenReturn(certs);
-            doThrow(new CertificateExpiredException()).when(x509Cert).checkValidity();
-            assertThat(httpCheckAdapter.certCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "Certificate expired"));
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        Date validityDate = Date.from(Instant.now().plus(Duration.ofDays(40)).plusSeconds(60));
+        when(x509Cert.getNotAfter()).thenReturn(validityDate);
+        when(certificateProbe.probe(URI.create(HTTP_TARGET), Common.DEFAULT_TIMEOUT))
+                .thenReturn(new CertificateChain(List.of(x509Cert), Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofMillis(8)));
+
+        TargetResult targetResult = httpCheckAdapter.certCheck(target);
+
+        assertThat(targetResult).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, SUCCESS, "Valid to " + validityDate + ", 40 days left"));
+        assertThat(targetResult.timings().dns()).isEqualTo(Duration.ofMillis(1));
+        assertThat(targetResult.timings().connect()).isEqualTo(Duration.ofMillis(2));
+        assertThat(targetResult.timings().tls()).isEqualTo(Duration.ofMillis(8));
     }
 
     @Test
-    void certCheckCertificateNotYetValidException() {
-        Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
-        URI uri = mock(URI.class);
-        URL url = mock(URL.class);
-        HttpsURLConnection hsc = mock(HttpsURLConnection.class);
-        Certificate[] certs = new Certificate[1];
-        X509Certificate x509Cert = mock(X509Certificate.class);
-        certs[0] = x509Cert;
-
-        try (MockedStatic<URI> uriMockedStatic = Mockito.mockStatic(URI.class)) {
-            uriMockedStatic.when(() -> URI.create(TARGET)).thenReturn(uri);
-            when(uri.toURL()).thenReturn(url);
-            when(url.openConnection()).thenReturn(hsc);
-            doNothing().when(hsc).connect();
-            when(hsc.getServerCertificates()).thenReturn(certs);
-            doThrow(new CertificateNotYetValidException()).when(x509Cert).checkValidity();
-            assertThat(httpCheckAdapter.certCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "Certificate not yet valid"));
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    void certCheckWarning() throws IOException, CertificateException {
+        Target target = new Target(TARGET_ID, HTTP, HTTP_TARGET, Duration.ofDays(1));
+        Date validityDate = mockCertificateValidTo(Duration.ofDays(10));
+
+        TargetResult targetResult = httpCheckAdapter.certCheck(target);
+
+        assertThat(targetResult).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, WARNING, "Valid to " + validityDate + ", 10 days left"));
     }
 
     @Test
-    void certCheck() {
-        Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
-        URI uri = mock(URI.class);
-        URL url = mock(URL.class);
-        HttpsURLConnection hsc = mock(HttpsURLConnection.class);
-        Certificate[] certs = new Certificate[1];
+    void certCheckCritical() throws IOException, CertificateException {
+        ExpiryThresholds thresholds = new ExpiryThresholds(Duration.ofDays(30), Duration.ofDays(15));
+        Target target = new Target(TARGET_ID, HTTP, HTTP_TARGET, Duration.ofDays(1), thresholds, null);
+        Date validityDate = mockCertificateValidTo(Duration.ofDays(10));
+
+        TargetResult targetResult = httpCheckAdapter.certCheck(target);
+
+        assertThat(targetResult).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "Valid to " + validityDate + ", 10 days left"));
+    }
+
+    private Date mockCertificateValidTo(Duration remaining) throws IOException, CertificateException {
         X509Certificate x509Cert = mock(X509Certificate.class);
-        certs[0] = x509Cert;
-        Date validityDate = new Date();
-
-        try (MockedStatic<URI> uriMockedStatic = Mockito.mockStatic(URI.class)) {
-            uriMockedStatic.when(() -> URI.create(TARGET)).thenReturn(uri);
-            when(uri.toURL()).thenReturn(url);
-            when(url.openConnection()).thenReturn(hsc);
-            doNothing().when(hsc).connect();
-            when(hsc.getServerCertificates()).thenReturn(certs);
-            doNothing().when(x509Cert).checkValidity();
-            when(x509Cert.getNotAfter()).thenReturn(validityDate);
-            assertThat(httpCheckAdapter.certCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, SUCCESS, "Valid to " + validityDate));
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        Date validityDate = Date.from(Instant.now().plus(remaining).plusSeconds(60));
+        when(x509Cert.getNotAfter()).thenReturn(validityDate);
+        when(certificateProbe.probe(URI.create(HTTP_TARGET), Common.DEFAULT_TIMEOUT))
+                .thenReturn(new CertificateChain(List.of(x509Cert), Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofMillis(8)));
+        return validityDate;
     }
 
     @Test
-    void certCheckNoCertificate() {
-        Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
-        URI uri = mock(URI.class);
-        URL url = mock(URL.class);
-        HttpsURLConnection hsc = mock(HttpsURLConnection.class);
-        Certificate[] certs = new Certificate[0];
-
-
-        try (MockedStatic<URI> uriMockedStatic = Mockito.mockStatic(URI.class)) {
-            uriMockedStatic.when(() -> URI.create(TARGET)).thenReturn(uri);
-            when(uri.toURL()).thenReturn(url);
-            when(url.openConnection()).thenReturn(hsc);
-            doNothing().when(hsc).connect();
-            when(hsc.getServerCertificates()).thenReturn(certs);
-            assertThat(httpCheckAdapter.certCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "No certificate found"));
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    void certCheckIllegalArgumentException() throws IOException, CertificateException {
+        assertCertCheckFailure(new IllegalArgumentException(), "Malformed URL");
     }
 
     @Test
-    void certCheckNoX509Cert() {
-        Target target = new Target(TARGET_ID, HTTP, TARGET, Duration.ofMinutes(1));
-        URI uri = mock(URI.class);
-        URL url = mock(URL.class);
-        HttpsURLConnection hsc = mock(HttpsURLConnection.class);
-        Certificate[] certs = new Certificate[1];
-        certs[0] = mock(Certificate.class);
-
-
-        try (MockedStatic<URI> uriMockedStatic = Mockito.mockStatic(URI.class)) {
-            uriMockedStatic.when(() -> URI.create(TARGET)).thenReturn(uri);
-            when(uri.toURL()).thenReturn(url);
-            when(url.openConnection()).thenReturn(hsc);
-            doNothing().when(hsc).connect();
-            when(hsc.getServerCertificates()).thenReturn(certs);
-            assertThat(httpCheckAdapter.certCheck(target)).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, "No certificate found"));
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    void certCheckUnknownHostException() throws IOException, CertificateException {
+        assertCertCheckFailure(new UnknownHostException("target: Name or service not known"), "DNS failure: target: Name or service not known");
+    }
+
+    @Test
+    void certCheckIOException() throws IOException, CertificateException {
+        assertCertCheckFailure(new IOException("IOException"), "IOException");
+    }
+
+    @Test
+    void certCheckSocketTimeoutException() throws IOException, CertificateException {
+        assertCertCheckFailure(new SocketTimeoutException(), "Timeout");
+    }
+
+    @Test
+    void certCheckSSLPeerUnverifiedException() throws IOException, CertificateException {
+        assertCertCheckFailure(new SSLPeerUnverifiedException(""), "Peer unverified");
+    }
+
+    @Test
+    void certCheckCertificateExpiredException() throws IOException, CertificateException {
+        assertCertCheckFailure(new CertificateExpiredException(), "Certificate expired");
+    }
+
+    @Test
+    void certCheckCertificateNotYetValidException() throws IOException, CertificateException {
+        assertCertCheckFailure(new CertificateNotYetValidException(), "Certificate not yet valid");
+    }
+
+    @Test
+    void certCheckHandshakeFailsOnExpiredChain() throws IOException, CertificateException {
+        SSLHandshakeException handshakeException = new SSLHandshakeException("PKIX path validation failed");
+        handshakeException.initCause(new CertificateException(new CertificateExpiredException()));
+
+        assertCertCheckFailure(handshakeException, "Certificate expired");
+    }
+
+    @Test
+    void certCheckHandshakeFailure() throws IOException, CertificateException {
+        assertCertCheckFailure(new SSLHandshakeException("Received fatal alert: handshake_failure"), "Received fatal alert: handshake_failure");
+    }
+
+    @Test
+    void certCheckNoCertificate() throws IOException, CertificateException {
+        assertCertCheckFailure(new CertificateException("No certificate found"), "No certificate found");
+    }
+
+    private void assertCertCheckFailure(Exception exception, String message) throws IOException, CertificateException {
+        Target target = new Target(TARGET_ID, HTTP, HTTP_TARGET, Duration.ofDays(1));
+        when(certificateProbe.probe(URI.create(HTTP_TARGET), Common.DEFAULT_TIMEOUT)).thenThrow(exception);
+
+        TargetResult targetResult = httpCheckAdapter.certCheck(target);
+
+        assertThat(targetResult).isNotNull().extracting("id", "result", "message").isEqualTo(List.of(TARGET_ID, FAILURE, message));
+        assertThat(targetResult.timings().total()).isNotNull();
     }
 
-}
\ No newline at end of file
+}
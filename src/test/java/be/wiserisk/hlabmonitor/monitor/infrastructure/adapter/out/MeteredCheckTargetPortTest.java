@@ -0,0 +1,79 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTargetPort;
+import be.wiserisk.hlabmonitor.monitor.domain.model.CheckTimings;
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.SUCCESS;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.HTTP;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredCheckTargetPortTest {
+
+    public static final TargetId TARGET_ID = new TargetId("targetId");
+
+    @Mock
+    private CheckTargetPort delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MeteredCheckTargetPort meteredCheckTargetPort;
+
+    @BeforeEach
+    void setUp() {
+        meteredCheckTargetPort = new MeteredCheckTargetPort(delegate, meterRegistry, false);
+    }
+
+    @Test
+    void pingRecordsDurationAndAvailablePhases() {
+        Target target = new Target(TARGET_ID, PING, "target", Duration.ofMinutes(1));
+        TargetResult targetResult = new TargetResult(TARGET_ID, SUCCESS, "")
+                .withTimings(new CheckTimings(Duration.ofMillis(30), Duration.ofMillis(10), Duration.ofMillis(20), null));
+        when(delegate.ping(target)).thenReturn(targetResult);
+
+        assertThat(meteredCheckTargetPort.ping(target)).isEqualTo(targetResult);
+
+        Timer duration = meterRegistry.get("hlabmonitor.check.duration").tag("type", "ping").timer();
+        assertThat(duration.count()).isEqualTo(1);
+        assertThat(duration.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30.0);
+        assertThat(meterRegistry.get("hlabmonitor.check.phase").tag("phase", "dns").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(10.0);
+        assertThat(meterRegistry.get("hlabmonitor.check.phase").tag("phase", "connect").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(20.0);
+        assertThat(meterRegistry.find("hlabmonitor.check.phase").tag("phase", "tls").timer()).isNull();
+        assertThat(duration.getId().getTag("target")).isNull();
+    }
+
+    @Test
+    void targetTagIsOptIn() {
+        meteredCheckTargetPort = new MeteredCheckTargetPort(delegate, meterRegistry, true);
+        Target target = new Target(TARGET_ID, PING, "target", Duration.ofMinutes(1));
+        when(delegate.ping(target)).thenReturn(new TargetResult(TARGET_ID, SUCCESS, "").withTimings(CheckTimings.total(Duration.ofMillis(5))));
+
+        meteredCheckTargetPort.ping(target);
+
+        assertThat(meterRegistry.get("hlabmonitor.check.duration").tag("type", "ping").tag("target", "targetId").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void resultWithoutTimingsIsNotRecorded() {
+        Target target = new Target(TARGET_ID, HTTP, "target", Duration.ofMinutes(1));
+        TargetResult targetResult = new TargetResult(TARGET_ID, SUCCESS, "");
+        when(delegate.httpCheck(target)).thenReturn(targetResult);
+
+        assertThat(meteredCheckTargetPort.httpCheck(target)).isEqualTo(targetResult);
+        assertThat(meterRegistry.find("hlabmonitor.check.duration").timer()).isNull();
+    }
+}
@@ -0,0 +1,58 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out;
+
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.FAILURE;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.SUCCESS;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.HTTP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerCheckMetricsAdapterTest {
+
+    public static final TargetId TARGET_ID = new TargetId("targetId");
+    public static final Target TARGET = new Target(TARGET_ID, HTTP, "target", Duration.ofMinutes(1));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void recordCheckTagsTypeAndResult() {
+        MicrometerCheckMetricsAdapter adapter = new MicrometerCheckMetricsAdapter(meterRegistry, false);
+
+        adapter.recordCheck(TARGET, new TargetResult(TARGET_ID, SUCCESS, ""), Duration.ofMillis(10));
+        adapter.recordCheck(TARGET, new TargetResult(TARGET_ID, SUCCESS, ""), Duration.ofMillis(20));
+        adapter.recordCheck(TARGET, new TargetResult(TARGET_ID, FAILURE, ""), Duration.ofMillis(30));
+
+        Timer success = meterRegistry.get("hlabmonitor.check.execution").tag("type", "http").tag("result", "success").timer();
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(success.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30.0);
+        assertThat(success.getId().getTag("target")).isNull();
+        assertThat(meterRegistry.get("hlabmonitor.check.execution").tag("result", "failure").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hlabmonitor.check.count").tag("type", "http").tag("result", "success").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void recordCheckWithTargetTags() {
+        MicrometerCheckMetricsAdapter adapter = new MicrometerCheckMetricsAdapter(meterRegistry, true);
+
+        adapter.recordCheck(TARGET, new TargetResult(TARGET_ID, SUCCESS, ""), Duration.ofMillis(10));
+
+        assertThat(meterRegistry.get("hlabmonitor.check.execution").tag("target", "targetId").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordSave() {
+        MicrometerCheckMetricsAdapter adapter = new MicrometerCheckMetricsAdapter(meterRegistry, false);
+
+        adapter.recordSave(Duration.ofMillis(2));
+
+        assertThat(meterRegistry.get("hlabmonitor.persistence.save").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2.0);
+    }
+}
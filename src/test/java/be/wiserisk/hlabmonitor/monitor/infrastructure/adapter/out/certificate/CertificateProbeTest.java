@@ -0,0 +1,182 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.certificate;
+
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.dns.DnsResolver;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CertificateProbeProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.DnsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateExpiredException;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CertificateProbeTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final String HOST = "127.0.0.1";
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+
+    @Mock
+    private SSLSocketFactory sslSocketFactory;
+    @Mock
+    private SSLSocket sslSocket;
+    @Mock
+    private SSLSession sslSession;
+    @Mock
+    private Clock clock;
+
+    private ServerSocket serverSocket;
+    private URI uri;
+    private CertificateProbe certificateProbe;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getByName(HOST));
+        uri = URI.create("https://" + HOST + ":" + serverSocket.getLocalPort() + "/health");
+        certificateProbe = new CertificateProbe(sslSocketFactory, new DnsResolver(new DnsProperties(null, null), new SimpleMeterRegistry()),
+                new CertificateProbeProperties(null, Duration.ofDays(30), null), clock);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        serverSocket.close();
+    }
+
+    @Test
+    void probeReturnsWholeChainAndCachesIt() throws Exception {
+        when(clock.instant()).thenReturn(NOW);
+        X509Certificate leaf = certificate(NOW.plus(Duration.ofDays(90)));
+        X509Certificate intermediate = certificate(NOW.plus(Duration.ofDays(60)));
+        mockHandshake(leaf, intermediate);
+
+        CertificateChain chain = certificateProbe.probe(uri, TIMEOUT);
+
+        assertThat(chain.certificates()).containsExactly(leaf, intermediate);
+        assertThat(chain.daysToExpiry(NOW)).isEqualTo(60);
+        assertThat(chain.dns()).isNotNull();
+        assertThat(chain.connect()).isNotNull();
+        assertThat(chain.tls()).isNotNull();
+        verify(sslSocket).setSSLParameters(argThat(parameters -> "HTTPS".equals(parameters.getEndpointIdentificationAlgorithm())));
+
+        CertificateChain cached = certificateProbe.probe(uri, TIMEOUT);
+
+        assertThat(cached.certificates()).containsExactly(leaf, intermediate);
+        assertThat(cached.tls()).isNull();
+        verify(sslSocketFactory, times(1)).createSocket(any(Socket.class), eq(HOST), eq(serverSocket.getLocalPort()), eq(true));
+        verify(sslSocket, times(1)).close();
+    }
+
+    @Test
+    void chainCloseToExpiryIsNotCached() throws Exception {
+        when(clock.instant()).thenReturn(NOW);
+        mockHandshake(certificate(NOW.plus(Duration.ofDays(10))));
+
+        certificateProbe.probe(uri, TIMEOUT);
+        certificateProbe.probe(uri, TIMEOUT);
+
+        verify(sslSocket, times(2)).startHandshake();
+        verify(sslSocket, times(2)).close();
+    }
+
+    @Test
+    void chainIsProbedAgainAfterCacheMaxAge() throws Exception {
+        when(clock.instant()).thenReturn(NOW, NOW.plus(CertificateProbeProperties.DEFAULT_CACHE_MAX_AGE));
+        mockHandshake(certificate(NOW.plus(Duration.ofDays(90))));
+
+        certificateProbe.probe(uri, TIMEOUT);
+        certificateProbe.probe(uri, TIMEOUT);
+
+        verify(sslSocket, times(2)).startHandshake();
+    }
+
+    @Test
+    void expiredIntermediateFailsTheChain() throws Exception {
+        when(clock.instant()).thenReturn(NOW);
+        X509Certificate intermediate = mock(X509Certificate.class);
+        doThrow(new CertificateExpiredException()).when(intermediate).checkValidity(any(Date.class));
+        mockHandshake(mock(X509Certificate.class), intermediate);
+
+        assertThatThrownBy(() -> certificateProbe.probe(uri, TIMEOUT)).isInstanceOf(CertificateExpiredException.class);
+        assertThat(certificateProbe.cached()).isZero();
+    }
+
+    @Test
+    void noX509CertificateFails() throws Exception {
+        when(clock.instant()).thenReturn(NOW);
+        mockHandshake(mock(Certificate.class));
+
+        assertThatThrownBy(() -> certificateProbe.probe(uri, TIMEOUT)).isInstanceOf(CertificateException.class).hasMessage("No certificate found");
+    }
+
+    @Test
+    void offeredChainSparesTheHandshake() throws Exception {
+        when(clock.instant()).thenReturn(NOW);
+        X509Certificate leaf = certificate(NOW.plus(Duration.ofDays(90)));
+
+        certificateProbe.offer(URI.create("https://" + HOST + ":" + serverSocket.getLocalPort() + "/other"), new Certificate[]{leaf});
+        CertificateChain chain = certificateProbe.probe(uri, TIMEOUT);
+
+        assertThat(chain.certificates()).containsExactly(leaf);
+        verifyNoInteractions(sslSocketFactory);
+    }
+
+    @Test
+    void offeredChainCloseToExpiryIsNotKept() {
+        when(clock.instant()).thenReturn(NOW);
+
+        certificateProbe.offer(uri, new Certificate[]{certificate(NOW.plus(Duration.ofDays(10)))});
+        certificateProbe.offer(URI.create("http://" + HOST + "/health"), new Certificate[]{mock(X509Certificate.class)});
+
+        assertThat(certificateProbe.cached()).isZero();
+    }
+
+    @Test
+    void missingHostFails() {
+        assertThatThrownBy(() -> certificateProbe.probe(URI.create("target"), TIMEOUT)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void mockHandshake(Certificate... certificates) throws IOException {
+        when(sslSocketFactory.createSocket(any(Socket.class), eq(HOST), eq(serverSocket.getLocalPort()), eq(true))).thenReturn(sslSocket);
+        when(sslSocket.getSSLParameters()).thenReturn(new SSLParameters());
+        when(sslSocket.getSession()).thenReturn(sslSession);
+        when(sslSession.getPeerCertificates()).thenReturn(certificates);
+    }
+
+    private static X509Certificate certificate(Instant notAfter) {
+        X509Certificate certificate = mock(X509Certificate.class);
+        when(certificate.getNotAfter()).thenReturn(Date.from(notAfter));
+        return certificate;
+    }
+}
@@ -0,0 +1,122 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.dns;
+
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.DnsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DnsResolverTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final String HOST = "target.lan";
+
+    @Mock
+    private DnsResolver.HostLookup hostLookup;
+    @Mock
+    private Clock clock;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InetAddress address = mock(InetAddress.class);
+    private DnsResolver dnsResolver;
+
+    @BeforeEach
+    void setUp() {
+        dnsResolver = new DnsResolver(hostLookup, new DnsProperties(Duration.ofSeconds(30), Duration.ofSeconds(10)), meterRegistry, clock);
+    }
+
+    @Test
+    void answerIsCachedUntilItsTtl() throws UnknownHostException {
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(29), NOW.plusSeconds(30), NOW.plusSeconds(30));
+        when(hostLookup.lookup(HOST)).thenReturn(new InetAddress[]{address});
+
+        assertThat(dnsResolver.resolve(HOST)).isSameAs(address);
+        assertThat(dnsResolver.resolve("TARGET.lan")).isSameAs(address);
+        assertThat(dnsResolver.resolve(HOST)).isSameAs(address);
+
+        verify(hostLookup, times(2)).lookup(HOST);
+        assertThat(meterRegistry.get("hlabmonitor.dns.lookup").tag("outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("hlabmonitor.dns.resolutions").tag("source", "cache").counter().count()).isEqualTo(1);
+        assertThat(dnsResolver.cached()).isEqualTo(1);
+    }
+
+    @Test
+    void failureIsCachedForTheNegativeTtl() throws UnknownHostException {
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(9), NOW.plusSeconds(10), NOW.plusSeconds(10));
+        when(hostLookup.lookup(HOST)).thenThrow(new UnknownHostException(HOST + ": Temporary failure in name resolution"));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> dnsResolver.resolve(HOST))
+                    .isInstanceOf(UnknownHostException.class)
+                    .hasMessage(HOST + ": Temporary failure in name resolution");
+        }
+
+        verify(hostLookup, times(2)).lookup(HOST);
+        assertThat(meterRegistry.get("hlabmonitor.dns.lookup").tag("outcome", "failure").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentLookupsOfTheSameNameAreShared() throws Exception {
+        when(clock.instant()).thenReturn(NOW);
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger lookups = new AtomicInteger();
+        DnsResolver blockingResolver = new DnsResolver(host -> {
+            lookups.incrementAndGet();
+            lookupStarted.countDown();
+            await(release);
+            return new InetAddress[]{address};
+        }, new DnsProperties(null, null), meterRegistry, clock);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<InetAddress>> results = new ArrayList<>();
+            results.add(executor.submit(() -> blockingResolver.resolve(HOST)));
+            assertThat(lookupStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> blockingResolver.resolve(HOST)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<InetAddress> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(address);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(lookups.get()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
+
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultEntityRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DirectResultWriterTest {
+
+    @InjectMocks
+    private DirectResultWriter directResultWriter;
+
+    @Mock
+    private ResultEntityRepository resultEntityRepository;
+
+    @Test
+    void write() {
+        ResultEntity resultEntity = new ResultEntity();
+
+        directResultWriter.write(resultEntity);
+
+        verify(resultEntityRepository, times(1)).save(resultEntity);
+    }
+}
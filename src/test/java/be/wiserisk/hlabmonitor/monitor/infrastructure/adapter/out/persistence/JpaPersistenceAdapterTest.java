@@ -1,34 +1,48 @@
 package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
 
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
 import be.wiserisk.hlabmonitor.monitor.domain.model.*;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity_;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultRollupEntity;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.TargetEntity;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.TargetEntity_;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultMinuteCountRow;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultRollupEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.RollupBucketCountsRow;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.RollupCountsRow;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.TargetEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ValueCountRow;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.config.mapper.ResultMapper;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.config.mapper.TargetMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.criteria.*;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult.SUCCESS;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution.HOUR;
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.HTTP;
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.Mockito.*;
 
@@ -53,6 +67,12 @@ class JpaPersistenceAdapterTest {
     private TargetMapper targetMapper;
     @Mock
     private ResultMapper resultMapper;
+    @Mock
+    private ResultWriter resultWriter;
+    @Mock
+    private ResultRollupEntityRepository resultRollupEntityRepository;
+    @Spy
+    private TargetCache targetCache = new TargetCache(new SimpleMeterRegistry());
 
     @Test
     void getAllTargetIds() {
@@ -77,7 +97,8 @@ class JpaPersistenceAdapterTest {
         when(resultMapper.toEntity(TARGET_RESULT)).thenReturn(RESULT_ENTITY);
 
         assertDoesNotThrow(() -> jpaPersistenceAdapter.saveResult(TARGET_RESULT));
-        verify(resultEntityRepository, times(1)).save(RESULT_ENTITY);
+        verify(resultWriter, times(1)).write(RESULT_ENTITY);
+        verifyNoInteractions(resultEntityRepository);
     }
 
     @Test
@@ -89,6 +110,8 @@ class JpaPersistenceAdapterTest {
         when(targetMapper.toDomain(targetEntity)).thenReturn(target);
 
         assertThat(jpaPersistenceAdapter.getTarget(TARGET_ID)).isEqualTo(target);
+        assertThat(jpaPersistenceAdapter.getTarget(TARGET_ID)).isEqualTo(target);
+        verify(targetEntityRepository, times(1)).findByTargetId(TARGET_ID_STRING);
     }
 
     @Test
@@ -101,11 +124,17 @@ class JpaPersistenceAdapterTest {
     }
 
     @Test
-    void getAllTargetResultsByTargetId() {
+    void getTargetResultsOldestFirst() {
+        Instant to = Instant.now();
+        Instant from = to.minus(Duration.ofDays(1));
+        ResultEntity newest = new ResultEntity(2L, TARGET_ID_STRING, "FAILURE", MESSAGE, to);
+        TargetResult newestResult = new TargetResult(TARGET_ID, MonitoringResult.FAILURE, MESSAGE, to);
+
+        when(resultEntityRepository.findLatestByTargetIdBetween(TARGET_ID_STRING, from, to, Limit.of(2))).thenReturn(List.of(newest, RESULT_ENTITY));
         when(resultMapper.toDomain(RESULT_ENTITY)).thenReturn(TARGET_RESULT);
-        when(resultEntityRepository.findAllByTargetId(TARGET_ID_STRING)).thenReturn(List.of(RESULT_ENTITY));
+        when(resultMapper.toDomain(newest)).thenReturn(newestResult);
 
-        assertThat(jpaPersistenceAdapter.getAllTargetResultsByTargetId(TARGET_ID)).isNotNull().isNotEmpty().isEqualTo(TARGET_RESULTS);
+        assertThat(jpaPersistenceAdapter.getTargetResults(TARGET_ID, from, to, 2)).containsExactly(TARGET_RESULT, newestResult);
     }
 
     @Test
@@ -169,6 +198,7 @@ class JpaPersistenceAdapterTest {
         assertDoesNotThrow(() -> jpaPersistenceAdapter.updateTarget(TARGET));
         verify(targetEntity, times(1)).setTarget(TARGET.target());
         verify(targetEntity, times(1)).setType(TARGET.type().name());
+        verify(targetCache, times(1)).evict(TARGET_ID);
     }
 
     @Test
@@ -177,6 +207,7 @@ class JpaPersistenceAdapterTest {
         when(targetMapper.toEntity(TARGET)).thenReturn(targetEntity);
         assertDoesNotThrow(() -> jpaPersistenceAdapter.createTarget(TARGET));
         verify(targetEntityRepository, times(1)).save(targetEntity);
+        verify(targetCache, times(1)).evict(TARGET_ID);
     }
 
     @Test
@@ -215,6 +246,195 @@ class JpaPersistenceAdapterTest {
         assertThat(jpaPersistenceAdapter.countLast24hResults(SUCCESS)).isEqualTo(1L);
     }
 
+    @Test
+    void countLast24hResultsByResult() {
+        when(resultEntityRepository.countByResultSince(any(Instant.class))).thenReturn(List.of(new ValueCountRow("SUCCESS", 3L), new ValueCountRow("ERROR", 1L)));
+
+        assertThat(jpaPersistenceAdapter.countLast24hResultsByResult()).isEqualTo(Map.of(
+                MonitoringResult.SUCCESS, 3L,
+                MonitoringResult.FAILURE, 0L,
+                MonitoringResult.WARNING, 0L,
+                MonitoringResult.ERROR, 1L,
+                MonitoringResult.UNKNOWN, 0L));
+    }
+
+    @Test
+    void getLatestResultPerTarget() {
+        ResultEntity resultEntity = new ResultEntity(1L, TARGET_ID_STRING, "SUCCESS", MESSAGE, Instant.now());
+
+        when(resultEntityRepository.findLatestPerTarget()).thenReturn(List.of(resultEntity));
+        when(resultMapper.toDomain(resultEntity)).thenReturn(TARGET_RESULT);
+
+        assertThat(jpaPersistenceAdapter.getLatestResultPerTarget()).isEqualTo(TARGET_RESULTS);
+    }
+
+    @Test
+    void countResultsByMinuteSinceCombinesRollupsAndRecentResults() {
+        Instant from = Instant.now().minus(Duration.ofHours(3)).truncatedTo(ChronoUnit.MINUTES);
+        Instant lastRolledUp = from.plus(Duration.ofHours(2));
+        Instant recentMinute = lastRolledUp.plus(Duration.ofMinutes(5));
+
+        when(resultRollupEntityRepository.findMaxBucketStart("MINUTE")).thenReturn(lastRolledUp);
+        when(resultRollupEntityRepository.sumByBucketSince("MINUTE", from)).thenReturn(List.of(new RollupBucketCountsRow(from, 4L, 1L, 0L, 0L, 0L)));
+        when(resultEntityRepository.countByMinuteSince(lastRolledUp.plus(Duration.ofMinutes(1))))
+                .thenReturn(List.of(new ResultMinuteCountRow(recentMinute.getEpochSecond() / 60, "ERROR", 2L)));
+        when(resultMapper.mapMonitoringType("ERROR")).thenReturn(MonitoringResult.ERROR);
+
+        assertThat(jpaPersistenceAdapter.countResultsByMinuteSince(from)).containsExactly(
+                new ResultCount(from, SUCCESS, 4L),
+                new ResultCount(from, MonitoringResult.FAILURE, 1L),
+                new ResultCount(recentMinute, MonitoringResult.ERROR, 2L));
+    }
+
+    @Test
+    void countResultsByMinuteSinceWithoutRollups() {
+        Instant from = Instant.now().minus(Duration.ofMinutes(30));
+        Instant minute = Instant.now().truncatedTo(ChronoUnit.MINUTES);
+
+        when(resultRollupEntityRepository.findMaxBucketStart("MINUTE")).thenReturn(null);
+        when(resultEntityRepository.countByMinuteSince(from.truncatedTo(ChronoUnit.MINUTES))).thenReturn(List.of(
+                new ResultMinuteCountRow(minute.getEpochSecond() / 60, "SUCCESS", 1L),
+                new ResultMinuteCountRow(minute.getEpochSecond() / 60, "LEGACY", 3L)));
+        when(resultMapper.mapMonitoringType("SUCCESS")).thenReturn(SUCCESS);
+        when(resultMapper.mapMonitoringType("LEGACY")).thenReturn(MonitoringResult.UNKNOWN);
+
+        assertThat(jpaPersistenceAdapter.countResultsByMinuteSince(from)).containsExactly(
+                new ResultCount(minute, SUCCESS, 1L),
+                new ResultCount(minute, MonitoringResult.UNKNOWN, 3L));
+        verify(resultRollupEntityRepository, never()).sumByBucketSince(any(), any());
+    }
+
+    @Test
+    void countTargetsByTypeIsCachedUntilTargetsChange() {
+        when(targetEntityRepository.countGroupByType()).thenReturn(List.of(new ValueCountRow("PING", 2L)));
+        when(targetMapper.toEntity(TARGET)).thenReturn(new TargetEntity());
+
+        assertThat(jpaPersistenceAdapter.countTargetsByType()).containsEntry(PING, 2L).containsEntry(HTTP, 0L);
+        assertThat(jpaPersistenceAdapter.countTargetsByType()).containsEntry(PING, 2L);
+        verify(targetEntityRepository, times(1)).countGroupByType();
+
+        jpaPersistenceAdapter.createTarget(TARGET);
+        jpaPersistenceAdapter.countTargetsByType();
+
+        verify(targetEntityRepository, times(2)).countGroupByType();
+    }
+
+    @Test
+    void getResultRollups() {
+        Instant from = Instant.now().minus(Duration.ofDays(1));
+        Instant to = Instant.now();
+        ResultRollupEntity resultRollupEntity = new ResultRollupEntity(TARGET_ID_STRING, "HOUR", from);
+        ResultRollup resultRollup = new ResultRollup(TARGET_ID, HOUR, from, Map.of(SUCCESS, 1L));
+        when(resultRollupEntityRepository.findAllByResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc("HOUR", from, to)).thenReturn(List.of(resultRollupEntity));
+        when(resultMapper.toDomain(resultRollupEntity)).thenReturn(resultRollup);
+
+        assertThat(jpaPersistenceAdapter.getResultRollups(List.of(), HOUR, from, to)).containsExactly(resultRollup);
+    }
+
+    @Test
+    void getResultRollupsForTargets() {
+        Instant from = Instant.now().minus(Duration.ofDays(1));
+        Instant to = Instant.now();
+        ResultRollupEntity resultRollupEntity = new ResultRollupEntity(TARGET_ID_STRING, "HOUR", from);
+        ResultRollup resultRollup = new ResultRollup(TARGET_ID, HOUR, from, Map.of(SUCCESS, 1L));
+        when(resultRollupEntityRepository.findAllByTargetIdInAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(List.of(TARGET_ID_STRING), "HOUR", from, to)).thenReturn(List.of(resultRollupEntity));
+        when(resultMapper.toDomain(resultRollupEntity)).thenReturn(resultRollup);
+
+        assertThat(jpaPersistenceAdapter.getResultRollups(List.of(TARGET_ID), HOUR, from, to)).containsExactly(resultRollup);
+    }
+
+    @Test
+    void countRolledUpResults() {
+        Instant from = Instant.now().minus(Duration.ofDays(1));
+        when(resultRollupEntityRepository.sumByTargetBetween(eq("HOUR"), eq(HOUR.bucketStart(from)), any(Instant.class))).thenReturn(List.of(
+                new RollupCountsRow(TARGET_ID_STRING, 10L, 1L, 0L, 0L, 0L, null, null, null, null, null),
+                new RollupCountsRow("other", 5L, 0L, 2L, 1L, 0L, null, null, null, null, null)));
+
+        assertThat(jpaPersistenceAdapter.countRolledUpResults(HOUR, from)).isEqualTo(Map.of(
+                SUCCESS, 15L,
+                MonitoringResult.FAILURE, 1L,
+                MonitoringResult.WARNING, 2L,
+                MonitoringResult.ERROR, 1L,
+                MonitoringResult.UNKNOWN, 0L));
+    }
+
+    @Test
+    void getAllResultsFilteredByCursorFirstPage() {
+        Instant now = Instant.now();
+        ResultEntity first = new ResultEntity(1L, TARGET_ID_STRING, "SUCCESS", MESSAGE, now);
+        ResultEntity second = new ResultEntity(2L, TARGET_ID_STRING, "SUCCESS", MESSAGE, now);
+        ResultEntity third = new ResultEntity(3L, TARGET_ID_STRING, "SUCCESS", MESSAGE, now.plusSeconds(1));
+        CheckResultsFilter filter = new CheckResultsFilter(null, null, null, null, null);
+
+        doReturn(List.of(first, second, third)).when(resultEntityRepository).findBy(argThat(new ResultEntitySpecificationMatcher(filter)), any());
+        when(resultMapper.toDomain(any(ResultEntity.class))).thenReturn(TARGET_RESULT);
+
+        PageResponse<TargetResult> response = jpaPersistenceAdapter.getAllResultsFilteredBy(filter, new CursorPageRequest("", 2, false));
+
+        assertThat(response.content()).hasSize(2);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.totalElements()).isEqualTo(PageResponse.UNKNOWN_TOTAL);
+        assertThat(response.nextCursor()).isEqualTo(ResultCursor.of(second).encode());
+        verify(resultEntityRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void getAllResultsFilteredByCursorLastPageWithTotal() {
+        Instant now = Instant.now();
+        ResultEntity last = new ResultEntity(3L, TARGET_ID_STRING, "SUCCESS", MESSAGE, now);
+        CheckResultsFilter filter = new CheckResultsFilter(null, null, List.of(TARGET_ID), null, null);
+
+        doReturn(List.of(last)).when(resultEntityRepository).findBy(any(Specification.class), any());
+        when(resultEntityRepository.count(argThat(new ResultEntitySpecificationMatcher(filter)))).thenReturn(3L);
+        when(resultMapper.toDomain(last)).thenReturn(TARGET_RESULT);
+
+        PageResponse<TargetResult> response = jpaPersistenceAdapter.getAllResultsFilteredBy(filter, new CursorPageRequest(new ResultCursor(now, 2L).encode(), 2, true));
+
+        assertThat(response).isEqualTo(new PageResponse<>(TARGET_RESULTS, 0, 2, 3L, false, null));
+    }
+
+    @Test
+    void forEachResultFilteredByReadsInKeysetBatches() {
+        Instant now = Instant.now();
+        List<ResultEntity> firstBatch = new ArrayList<>();
+        for (long id = 1; id <= JpaPersistenceAdapter.EXPORT_BATCH_SIZE; id++) {
+            firstBatch.add(new ResultEntity(id, TARGET_ID_STRING, "SUCCESS", MESSAGE, now));
+        }
+        List<ResultEntity> secondBatch = List.of(new ResultEntity(JpaPersistenceAdapter.EXPORT_BATCH_SIZE + 1L, TARGET_ID_STRING, "SUCCESS", MESSAGE, now));
+        CheckResultsFilter filter = new CheckResultsFilter(null, null, List.of(TARGET_ID), null, null);
+
+        doReturn(firstBatch, secondBatch).when(resultEntityRepository).findBy(any(Specification.class), any());
+        when(resultMapper.toDomain(any(ResultEntity.class))).thenReturn(TARGET_RESULT);
+
+        List<TargetResult> exported = new ArrayList<>();
+        jpaPersistenceAdapter.forEachResultFilteredBy(filter, exported::add);
+
+        assertThat(exported).hasSize(JpaPersistenceAdapter.EXPORT_BATCH_SIZE + 1);
+        verify(resultEntityRepository, times(2)).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    void forEachResultFilteredByWithoutResults() {
+        CheckResultsFilter filter = new CheckResultsFilter(null, null, null, null, null);
+
+        doReturn(List.of()).when(resultEntityRepository).findBy(any(Specification.class), any());
+
+        jpaPersistenceAdapter.forEachResultFilteredBy(filter, result -> {
+            throw new AssertionError("No result expected");
+        });
+
+        verify(resultEntityRepository).findBy(any(Specification.class), any());
+        verifyNoInteractions(resultMapper);
+    }
+
+    @Test
+    void getAllResultsFilteredByInvalidCursor() {
+        CheckResultsFilter filter = new CheckResultsFilter(null, null, null, null, null);
+
+        assertThatThrownBy(() -> jpaPersistenceAdapter.getAllResultsFilteredBy(filter, new CursorPageRequest("not a cursor", 2, false)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private static class ResultEntitySpecificationMatcher implements ArgumentMatcher<Specification<ResultEntity>> {
         private final CheckResultsFilter filter;
 
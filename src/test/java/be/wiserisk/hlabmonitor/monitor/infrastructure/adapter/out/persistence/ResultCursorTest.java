@@ -0,0 +1,36 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
+
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResultCursorTest {
+
+    @Test
+    void encodeThenDecodeKeepsPosition() {
+        ResultCursor cursor = ResultCursor.of(new ResultEntity(42L, "targetId", "SUCCESS", null, Instant.parse("2026-01-01T10:15:30.123456Z")));
+
+        assertThat(ResultCursor.decode(cursor.encode())).isEqualTo(new ResultCursor(Instant.parse("2026-01-01T10:15:30.123456Z"), 42L));
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        assertThat(new ResultCursor(Instant.parse("2026-01-01T10:15:30Z"), Long.MAX_VALUE).encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertThat(ResultCursor.decode(null)).isNull();
+        assertThat(ResultCursor.decode("")).isNull();
+    }
+
+    @Test
+    void invalidCursorIsRejected() {
+        assertThatThrownBy(() -> ResultCursor.decode("bm90LWEtY3Vyc29y")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ResultCursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,124 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
+
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.IdentityResultEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.TargetEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.IdentityResultEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.TargetEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.DatabaseProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Compares the pooled sequence of RESULT with the IDENTITY mapping it replaced, on a throwaway copy of the table
+// mvn test -Pbenchmark [-Ddatabase.type=postgresql -Ddatabase.host=... -Ddatabase.username=... -Ddatabase.password=...]
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.liquibase.enabled=true")
+@ActiveProfiles("test")
+class ResultInsertBenchmarkTest {
+
+    private static final String TARGET_ID = "insert-benchmark";
+    private static final int ROWS = 5_000;
+    private static final int BATCH_SIZE = 200;
+
+    @Autowired
+    private ResultEntityRepository resultEntityRepository;
+    @Autowired
+    private TargetEntityRepository targetEntityRepository;
+    @Autowired
+    private IdentityResultEntityRepository identityResultEntityRepository;
+    @Autowired
+    private DatabaseProperties databaseProperties;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (!targetEntityRepository.existsByTargetId(TARGET_ID)) {
+            targetEntityRepository.save(new TargetEntity(null, TARGET_ID, "localhost", "PING"));
+        }
+        jdbcTemplate.execute(switch (databaseProperties.type()) {
+            case SQLITE -> "CREATE TABLE RESULT_IDENTITY_BENCHMARK (id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+                    "target_id VARCHAR(255) NOT NULL, result VARCHAR(255) NOT NULL, message VARCHAR(255), checked_at TIMESTAMP NOT NULL)";
+            case SQLSERVER -> "CREATE TABLE RESULT_IDENTITY_BENCHMARK (id BIGINT IDENTITY(1,1) PRIMARY KEY, " +
+                    "target_id VARCHAR(255) NOT NULL, result VARCHAR(255) NOT NULL, message VARCHAR(255), checked_at DATETIME2 NOT NULL)";
+            default -> "CREATE TABLE RESULT_IDENTITY_BENCHMARK (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                    "target_id VARCHAR(255) NOT NULL, result VARCHAR(255) NOT NULL, message VARCHAR(255), checked_at TIMESTAMP NOT NULL)";
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE RESULT_IDENTITY_BENCHMARK");
+    }
+
+    @Test
+    void rowByRowInserts() {
+        insertRowByRow("SEQUENCE", resultEntityRepository, results(ResultEntity::new), ResultEntity::getId);
+    }
+
+    @Test
+    void batchedInserts() {
+        insertBatched("SEQUENCE", resultEntityRepository, results(ResultEntity::new), ResultEntity::getId);
+    }
+
+    @Test
+    void identityRowByRowInserts() {
+        insertRowByRow("IDENTITY", identityResultEntityRepository, results(IdentityResultEntity::new), IdentityResultEntity::getId);
+    }
+
+    @Test
+    void identityBatchedInserts() {
+        insertBatched("IDENTITY", identityResultEntityRepository, results(IdentityResultEntity::new), IdentityResultEntity::getId);
+    }
+
+    private <E> void insertRowByRow(String mapping, JpaRepository<E, Long> repository, List<E> results, Function<E, Long> id) {
+        long start = System.nanoTime();
+        results.forEach(repository::save);
+        report(mapping, "row by row", System.nanoTime() - start);
+
+        assertThat(results).allMatch(result -> id.apply(result) != null);
+    }
+
+    private <E> void insertBatched(String mapping, JpaRepository<E, Long> repository, List<E> results, Function<E, Long> id) {
+        long start = System.nanoTime();
+        for (int from = 0; from < results.size(); from += BATCH_SIZE) {
+            repository.saveAll(results.subList(from, Math.min(from + BATCH_SIZE, results.size())));
+        }
+        report(mapping, "batched", System.nanoTime() - start);
+
+        assertThat(results).allMatch(result -> id.apply(result) != null);
+    }
+
+    private <E> List<E> results(ResultFactory<E> factory) {
+        Instant now = Instant.now();
+        return new ArrayList<>(IntStream.range(0, ROWS)
+                .mapToObj(i -> factory.create(null, TARGET_ID, "SUCCESS", "benchmark", now.plusMillis(i)))
+                .toList());
+    }
+
+    private void report(String mapping, String mode, long elapsedNanos) {
+        double insertsPerSecond = ROWS / (elapsedNanos / 1_000_000_000d);
+        System.out.printf("[%s] %s %s: %d rows in %d ms (%.0f inserts/s)%n",
+                databaseProperties.type(), mapping, mode, ROWS, elapsedNanos / 1_000_000, insertsPerSecond);
+    }
+
+    private interface ResultFactory<E> {
+        E create(Long id, String targetId, String result, String message, Instant checkedAt);
+    }
+}
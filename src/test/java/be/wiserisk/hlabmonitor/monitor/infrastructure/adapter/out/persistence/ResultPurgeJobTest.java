@@ -0,0 +1,140 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
+
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.RollupWatermarkEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.TargetEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.RollupWatermarkEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.TargetEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.mapper.TargetMapperImpl;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.PersistenceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResultPurgeJobTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+    private static final Limit CHUNK = Limit.of(2);
+
+    @Mock
+    private ResultEntityRepository resultEntityRepository;
+    @Mock
+    private TargetEntityRepository targetEntityRepository;
+    @Mock
+    private RollupWatermarkEntityRepository rollupWatermarkEntityRepository;
+    @Mock
+    private TaskScheduler taskScheduler;
+    @Mock
+    private ScheduledFuture<?> scheduledFuture;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ResultPurgeJob resultPurgeJob(PersistenceProperties.Retention retention, boolean waitForRollup) {
+        return new ResultPurgeJob(resultEntityRepository, targetEntityRepository, rollupWatermarkEntityRepository,
+                new TargetMapperImpl(), taskScheduler, retention, waitForRollup, meterRegistry);
+    }
+
+    @Test
+    void purgesExpiredResultsInChunks() {
+        Instant before = NOW.minus(Duration.ofDays(30));
+        when(targetEntityRepository.findAll()).thenReturn(List.of());
+        when(resultEntityRepository.findIdsCheckedAtBefore(before, CHUNK))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+
+        resultPurgeJob(new PersistenceProperties.Retention(null, null, null, null, 2, Duration.ZERO), false).run(NOW);
+
+        verify(resultEntityRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(resultEntityRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(resultEntityRepository, times(2)).findIdsCheckedAtBefore(before, CHUNK);
+        assertThat(meterRegistry.get("hlabmonitor.retention.purged").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void appliesTypeAndTargetOverrides() {
+        PersistenceProperties.Retention retention = new PersistenceProperties.Retention(
+                Duration.ofDays(30), Map.of(PING, Duration.ofDays(7)), Map.of("gateway", Duration.ZERO), null, 2, Duration.ZERO);
+        when(targetEntityRepository.findAll()).thenReturn(List.of(
+                new TargetEntity(1L, "router", "10.0.0.1", "PING"),
+                new TargetEntity(2L, "gateway", "10.0.0.254", "PING"),
+                new TargetEntity(3L, "website", "https://example.org", "HTTP")));
+        when(resultEntityRepository.findIdsByTargetIdInCheckedAtBefore(List.of("router"), NOW.minus(Duration.ofDays(7)), CHUNK)).thenReturn(List.of(1L));
+        when(resultEntityRepository.findIdsByTargetIdNotInCheckedAtBefore(List.of("router", "gateway"), NOW.minus(Duration.ofDays(30)), CHUNK)).thenReturn(List.of());
+
+        resultPurgeJob(retention, false).run(NOW);
+
+        verify(resultEntityRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(resultEntityRepository, never()).findIdsByTargetIdInCheckedAtBefore(eq(List.of("gateway")), any(), any());
+        verify(resultEntityRepository, never()).findIdsCheckedAtBefore(any(), any());
+    }
+
+    @Test
+    void keepsResultsThatAreNotRolledUpYet() {
+        Instant rolledUpTo = NOW.minus(Duration.ofDays(40));
+        when(rollupWatermarkEntityRepository.findById("MINUTE")).thenReturn(Optional.of(new RollupWatermarkEntity("MINUTE", rolledUpTo)));
+        when(targetEntityRepository.findAll()).thenReturn(List.of());
+        when(resultEntityRepository.findIdsCheckedAtBefore(rolledUpTo, CHUNK)).thenReturn(List.of());
+
+        resultPurgeJob(new PersistenceProperties.Retention(null, null, null, null, 2, Duration.ZERO), true).run(NOW);
+
+        verify(resultEntityRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void skipsPurgeUntilFirstRollup() {
+        when(rollupWatermarkEntityRepository.findById("MINUTE")).thenReturn(Optional.empty());
+
+        resultPurgeJob(new PersistenceProperties.Retention(null, null, null, null, null, null), true).run(NOW);
+
+        verifyNoInteractions(targetEntityRepository, resultEntityRepository);
+    }
+
+    @Test
+    void keepsResultsForeverWhenMaxAgeIsZero() {
+        when(targetEntityRepository.findAll()).thenReturn(List.of());
+
+        resultPurgeJob(new PersistenceProperties.Retention(Duration.ZERO, null, null, null, null, null), false).run(NOW);
+
+        verifyNoInteractions(resultEntityRepository);
+    }
+
+    @Test
+    void runDoesNotPropagateFailures() {
+        when(targetEntityRepository.findAll()).thenThrow(new IllegalStateException("database down"));
+
+        assertThatNoException().isThrownBy(() -> resultPurgeJob(new PersistenceProperties.Retention(null, null, null, null, null, null), false).run());
+        assertThat(meterRegistry.get("hlabmonitor.retention.run").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void startSchedulesWithIntervalAndStopCancels() {
+        ResultPurgeJob resultPurgeJob = resultPurgeJob(new PersistenceProperties.Retention(null, null, null, null, null, null), false);
+        doReturn(scheduledFuture).when(taskScheduler).scheduleWithFixedDelay(any(Runnable.class), eq(Duration.ofHours(1)));
+
+        resultPurgeJob.start();
+        assertThat(resultPurgeJob.isRunning()).isTrue();
+
+        resultPurgeJob.stop();
+        assertThat(resultPurgeJob.isRunning()).isFalse();
+        verify(scheduledFuture).cancel(false);
+    }
+}
@@ -0,0 +1,219 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.out.PersistencePort;
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
+import be.wiserisk.hlabmonitor.monitor.domain.model.CheckResultsFilter;
+import be.wiserisk.hlabmonitor.monitor.domain.model.PageRequest;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.TargetEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.TargetEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.DatabaseProperties;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// mvn test -Pbenchmark -Dtest=ResultQueryBenchmarkTest [-Dbenchmark.rows=10000000] [-Ddatabase.type=postgresql -Ddatabase.host=... -Ddatabase.username=... -Ddatabase.password=...]
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.liquibase.enabled=true")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ResultQueryBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000_000);
+    private static final int TARGETS = 1_000;
+    private static final int SEED_BATCH_SIZE = 10_000;
+    private static final Duration CHECK_INTERVAL = Duration.ofSeconds(30);
+    private static final int RUNS = 5;
+
+    @Autowired
+    private ResultEntityRepository resultEntityRepository;
+    @Autowired
+    private TargetEntityRepository targetEntityRepository;
+    @Autowired
+    private PersistencePort persistencePort;
+    @Autowired
+    private DatabaseProperties databaseProperties;
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private Instant now;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        now = Instant.now();
+        List<TargetEntity> targets = new ArrayList<>();
+        for (int t = 0; t < TARGETS; t++) {
+            if (!targetEntityRepository.existsByTargetId(targetId(t))) {
+                targets.add(new TargetEntity(null, targetId(t), "10.0." + t / 256 + "." + t % 256, "PING"));
+            }
+        }
+        targetEntityRepository.saveAll(targets);
+
+        long existing = resultEntityRepository.count();
+        if (existing >= ROWS) {
+            return;
+        }
+        long start = System.nanoTime();
+        Instant first = now.minus(CHECK_INTERVAL.multipliedBy(ROWS / TARGETS));
+        List<ResultEntity> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (long i = existing; i < ROWS; i++) {
+            int target = (int) (i % TARGETS);
+            Instant checkedAt = first.plus(CHECK_INTERVAL.multipliedBy(i / TARGETS)).plusMillis(target * 30L);
+            batch.add(new ResultEntity(null, targetId(target), result(i), null, checkedAt));
+            if (batch.size() == SEED_BATCH_SIZE) {
+                resultEntityRepository.saveAll(batch);
+                batch = new ArrayList<>(SEED_BATCH_SIZE);
+            }
+        }
+        resultEntityRepository.saveAll(batch);
+        jdbcTemplate.execute(switch (databaseProperties.type()) {
+            case POSTGRESQL -> "ANALYZE RESULT";
+            case SQLSERVER -> "UPDATE STATISTICS RESULT";
+            default -> "ANALYZE";
+        });
+        System.out.printf("[%s] seeded %d results in %d s%n", databaseProperties.type(), ROWS - existing, (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    @Test
+    void findLatestByTargetIdBetween() {
+        String targetId = targetId(42);
+        Instant from = now.minus(Duration.ofDays(1));
+        measure("findLatestByTargetIdBetween", () -> resultEntityRepository.findLatestByTargetIdBetween(targetId, from, now, Limit.of(1000)).size());
+        explain("findLatestByTargetIdBetween",
+                "SELECT * FROM RESULT WHERE target_id = ? AND checked_at >= ? AND checked_at <= ? ORDER BY checked_at DESC, id DESC",
+                targetId, Timestamp.from(from), Timestamp.from(now));
+    }
+
+    @Test
+    void countByCheckedAtGreaterThanEqual() {
+        Instant since = now.minus(Duration.ofHours(24));
+        measure("countByCheckedAtGreaterThanEqual", () -> resultEntityRepository.countByCheckedAtGreaterThanEqual(since));
+        explain("countByCheckedAtGreaterThanEqual", "SELECT COUNT(*) FROM RESULT WHERE checked_at >= ?", Timestamp.from(since));
+    }
+
+    @Test
+    void countByResultAndCheckedAtGreaterThanEqual() {
+        Instant since = now.minus(Duration.ofHours(24));
+        measure("countByResultAndCheckedAtGreaterThanEqual", () -> resultEntityRepository.countByResultAndCheckedAtGreaterThanEqual("FAILURE", since));
+        explain("countByResultAndCheckedAtGreaterThanEqual", "SELECT COUNT(*) FROM RESULT WHERE result = ? AND checked_at >= ?", "FAILURE", Timestamp.from(since));
+    }
+
+    @Test
+    void getAllResultsFilteredBy() {
+        Instant from = now.minus(Duration.ofHours(6));
+        CheckResultsFilter filter = new CheckResultsFilter(from, now, List.of(new TargetId(targetId(1)), new TargetId(targetId(2))), List.of(MonitoringResult.FAILURE), null);
+        measure("getAllResultsFilteredBy", () -> persistencePort.getAllResultsFilteredBy(filter, new PageRequest(0, 20)).totalElements());
+        explain("getAllResultsFilteredBy",
+                "SELECT * FROM RESULT WHERE checked_at >= ? AND checked_at <= ? AND target_id IN (?, ?) AND result IN (?)",
+                Timestamp.from(from), Timestamp.from(now), targetId(1), targetId(2), "FAILURE");
+    }
+
+    @Test
+    void findBucketRowsBetween() {
+        Instant from = now.minus(Duration.ofHours(1));
+        measure("findBucketRowsBetween", () -> resultEntityRepository.findBucketRowsBetween(from, now).size());
+        explain("findBucketRowsBetween", "SELECT target_id, result, checked_at FROM RESULT WHERE checked_at >= ? AND checked_at < ?", Timestamp.from(from), Timestamp.from(now));
+    }
+
+    @Test
+    void countByMinuteSince() {
+        Instant from = now.minus(Duration.ofHours(1));
+        measure("countByMinuteSince", () -> resultEntityRepository.countByMinuteSince(from).size());
+        explain("countByMinuteSince", "SELECT checked_at, result FROM RESULT WHERE checked_at >= ?", Timestamp.from(from));
+    }
+
+    @Test
+    void findIdsCheckedAtBefore() {
+        Instant before = now.minus(Duration.ofDays(1));
+        measure("findIdsCheckedAtBefore", () -> resultEntityRepository.findIdsCheckedAtBefore(before, Limit.of(1_000)).size());
+        explain("findIdsCheckedAtBefore", "SELECT id FROM RESULT WHERE checked_at < ?", Timestamp.from(before));
+    }
+
+    private void measure(String method, Supplier<Number> query) {
+        Number result = query.get();
+        long[] elapsed = new long[RUNS];
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            result = query.get();
+            elapsed[run] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        System.out.printf("[%s] %s: %s in %.2f ms (median of %d, max %.2f ms)%n",
+                databaseProperties.type(), method, result, elapsed[RUNS / 2] / 1_000_000d, RUNS, elapsed[RUNS - 1] / 1_000_000d);
+        assertThat(result).isNotNull();
+    }
+
+    private void explain(String method, String sql, Object... args) {
+        List<String> plan = switch (databaseProperties.type()) {
+            case SQLITE -> jdbcTemplate.query("EXPLAIN QUERY PLAN " + sql, (rs, i) -> rs.getString("detail"), args);
+            case SQLSERVER -> jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> showPlan(connection, sql, args));
+            default -> jdbcTemplate.query("EXPLAIN " + sql, (rs, i) -> rs.getString(1), args);
+        };
+        System.out.printf("[%s] %s plan:%n", databaseProperties.type(), method);
+        plan.forEach(line -> System.out.println("    " + line));
+    }
+
+    private List<String> showPlan(Connection connection, String sql, Object... args) throws SQLException {
+        List<String> plan = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET SHOWPLAN_TEXT ON");
+        }
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            boolean hasResults = statement.execute();
+            while (hasResults) {
+                try (ResultSet rs = statement.getResultSet()) {
+                    while (rs.next()) {
+                        plan.add(rs.getString(1));
+                    }
+                }
+                hasResults = statement.getMoreResults();
+            }
+        } finally {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SHOWPLAN_TEXT OFF");
+            }
+        }
+        return plan;
+    }
+
+    private static String targetId(int target) {
+        return "query-benchmark-%03d".formatted(target);
+    }
+
+    private static String result(long i) {
+        if (i % 100 == 0) {
+            return "ERROR";
+        }
+        return i % 50 == 1 ? "FAILURE" : "SUCCESS";
+    }
+}
@@ -0,0 +1,171 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
+
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultRollupEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.RollupWatermarkEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultBucketRow;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultRollupEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.RollupCountsRow;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.RollupWatermarkEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.mapper.ResultMapperImpl;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.RollupProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResultRollupJobTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T13:00:30Z");
+
+    @Mock
+    private ResultEntityRepository resultEntityRepository;
+    @Mock
+    private ResultRollupEntityRepository resultRollupEntityRepository;
+    @Mock
+    private RollupWatermarkEntityRepository rollupWatermarkEntityRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private TaskScheduler taskScheduler;
+    @Mock
+    private ScheduledFuture<?> scheduledFuture;
+    @Captor
+    private ArgumentCaptor<Iterable<ResultRollupEntity>> bucketsCaptor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RollupProperties properties = new RollupProperties(null, null, null);
+    private ResultRollupJob resultRollupJob;
+
+    @BeforeEach
+    void setUp() {
+        resultRollupJob = new ResultRollupJob(
+                resultEntityRepository,
+                resultRollupEntityRepository,
+                rollupWatermarkEntityRepository,
+                new ResultMapperImpl(),
+                new TransactionTemplate(transactionManager),
+                taskScheduler,
+                properties,
+                meterRegistry);
+    }
+
+    @Test
+    void rollsUpRawResultsIntoMinuteBuckets() {
+        when(rollupWatermarkEntityRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(resultEntityRepository.findMinCheckedAt()).thenReturn(Instant.parse("2026-01-01T12:55:10Z"));
+        when(resultEntityRepository.findBucketRowsBetween(Instant.parse("2026-01-01T12:55:00Z"), Instant.parse("2026-01-01T12:58:00Z"))).thenReturn(List.of(
+                new ResultBucketRow("a", "SUCCESS", Instant.parse("2026-01-01T12:55:10Z"), 4_000L),
+                new ResultBucketRow("a", "FAILURE", Instant.parse("2026-01-01T12:55:40Z"), 2_000L),
+                new ResultBucketRow("a", "RANDOM", Instant.parse("2026-01-01T12:56:40Z"), null),
+                new ResultBucketRow("b", "SUCCESS", Instant.parse("2026-01-01T12:56:05Z"), 1_500L)));
+
+        resultRollupJob.run(NOW);
+
+        verify(resultRollupEntityRepository).deleteBetween("MINUTE", Instant.parse("2026-01-01T12:55:00Z"), Instant.parse("2026-01-01T12:58:00Z"));
+        verify(resultRollupEntityRepository).saveAll(bucketsCaptor.capture());
+        assertThat(bucketsCaptor.getValue())
+                .extracting("targetId", "bucketStart", "successCount", "failureCount", "unknownCount")
+                .containsExactlyInAnyOrder(
+                        tuple("a", Instant.parse("2026-01-01T12:55:00Z"), 1L, 1L, 0L),
+                        tuple("a", Instant.parse("2026-01-01T12:56:00Z"), 0L, 0L, 1L),
+                        tuple("b", Instant.parse("2026-01-01T12:56:00Z"), 1L, 0L, 0L));
+        assertThat(bucketsCaptor.getValue())
+                .extracting("targetId", "bucketStart", "durationCount", "durationSumMicros", "durationMinMicros", "durationMaxMicros", "durationP95Micros")
+                .containsExactlyInAnyOrder(
+                        tuple("a", Instant.parse("2026-01-01T12:55:00Z"), 2L, 6_000L, 2_000L, 4_000L, 4_000L),
+                        tuple("a", Instant.parse("2026-01-01T12:56:00Z"), null, null, null, null, null),
+                        tuple("b", Instant.parse("2026-01-01T12:56:00Z"), 1L, 1_500L, 1_500L, 1_500L, 1_500L));
+        verify(rollupWatermarkEntityRepository).save(new RollupWatermarkEntity("MINUTE", Instant.parse("2026-01-01T12:58:00Z")));
+        assertThat(meterRegistry.get("hlabmonitor.rollup.buckets").tag("resolution", "minute").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void splitsLongMinuteBacklogInHourWindows() {
+        when(rollupWatermarkEntityRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(resultEntityRepository.findMinCheckedAt()).thenReturn(Instant.parse("2026-01-01T10:30:00Z"));
+
+        resultRollupJob.run(NOW);
+
+        verify(resultEntityRepository).findBucketRowsBetween(Instant.parse("2026-01-01T10:30:00Z"), Instant.parse("2026-01-01T11:30:00Z"));
+        verify(resultEntityRepository).findBucketRowsBetween(Instant.parse("2026-01-01T11:30:00Z"), Instant.parse("2026-01-01T12:30:00Z"));
+        verify(resultEntityRepository).findBucketRowsBetween(Instant.parse("2026-01-01T12:30:00Z"), Instant.parse("2026-01-01T12:58:00Z"));
+        verify(rollupWatermarkEntityRepository, times(3)).save(any(RollupWatermarkEntity.class));
+    }
+
+    @Test
+    void rollsUpMinuteBucketsIntoHours() {
+        when(rollupWatermarkEntityRepository.findById("MINUTE")).thenReturn(Optional.of(new RollupWatermarkEntity("MINUTE", Instant.parse("2026-01-01T12:58:00Z"))));
+        when(rollupWatermarkEntityRepository.findById("HOUR")).thenReturn(Optional.of(new RollupWatermarkEntity("HOUR", Instant.parse("2026-01-01T11:00:00Z"))));
+        when(rollupWatermarkEntityRepository.findById("DAY")).thenReturn(Optional.empty());
+        when(resultRollupEntityRepository.sumByTargetBetween("MINUTE", Instant.parse("2026-01-01T11:00:00Z"), Instant.parse("2026-01-01T12:00:00Z"))).thenReturn(List.of(
+                new RollupCountsRow("a", 118L, 2L, 0L, 0L, 0L, 120L, 600_000L, 1_000L, 90_000L, 12_000L)));
+
+        resultRollupJob.run(NOW);
+
+        verify(resultEntityRepository, never()).findBucketRowsBetween(any(), any());
+        verify(resultRollupEntityRepository).deleteBetween("HOUR", Instant.parse("2026-01-01T11:00:00Z"), Instant.parse("2026-01-01T12:00:00Z"));
+        verify(resultRollupEntityRepository).saveAll(bucketsCaptor.capture());
+        assertThat(bucketsCaptor.getValue())
+                .extracting("targetId", "resolution", "bucketStart", "successCount", "failureCount")
+                .containsExactly(tuple("a", "HOUR", Instant.parse("2026-01-01T11:00:00Z"), 118L, 2L));
+        assertThat(bucketsCaptor.getValue())
+                .extracting("durationCount", "durationSumMicros", "durationMinMicros", "durationMaxMicros", "durationP95Micros")
+                .containsExactly(tuple(120L, 600_000L, 1_000L, 90_000L, 12_000L));
+        verify(rollupWatermarkEntityRepository).save(new RollupWatermarkEntity("HOUR", Instant.parse("2026-01-01T12:00:00Z")));
+        verify(resultRollupEntityRepository).findMinBucketStart("HOUR");
+    }
+
+    @Test
+    void purgesExpiredRollups() {
+        when(rollupWatermarkEntityRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        resultRollupJob.run(NOW);
+
+        verify(resultRollupEntityRepository).deleteOlderThan("MINUTE", NOW.minus(RollupProperties.Retention.DEFAULT_MINUTE));
+        verify(resultRollupEntityRepository).deleteOlderThan("HOUR", NOW.minus(RollupProperties.Retention.DEFAULT_HOUR));
+        verify(resultRollupEntityRepository, never()).deleteOlderThan(eq("DAY"), any());
+    }
+
+    @Test
+    void runDoesNotPropagateFailures() {
+        when(rollupWatermarkEntityRepository.findById(anyString())).thenThrow(new IllegalStateException("database down"));
+
+        assertThatNoException().isThrownBy(() -> resultRollupJob.run());
+        assertThat(meterRegistry.get("hlabmonitor.rollup.run").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void startSchedulesWithIntervalAndStopCancels() {
+        doReturn(scheduledFuture).when(taskScheduler).scheduleWithFixedDelay(any(Runnable.class), eq(Duration.ofMinutes(1)));
+
+        resultRollupJob.start();
+        assertThat(resultRollupJob.isRunning()).isTrue();
+
+        resultRollupJob.stop();
+        assertThat(resultRollupJob.isRunning()).isFalse();
+        verify(scheduledFuture).cancel(false);
+    }
+}
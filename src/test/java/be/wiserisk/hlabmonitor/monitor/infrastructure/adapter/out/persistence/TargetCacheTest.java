@@ -0,0 +1,72 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
+
+import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType;
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TargetCacheTest {
+
+    public static final TargetId TARGET_ID = new TargetId("targetId");
+    public static final Target TARGET = new Target(TARGET_ID, PING, "target", Duration.ofMinutes(1));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TargetCache targetCache = new TargetCache(meterRegistry);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<TargetId, Target> loader = id -> {
+        loads.incrementAndGet();
+        return TARGET;
+    };
+
+    @Test
+    void getLoadsOnceThenServesFromCache() {
+        assertThat(targetCache.get(TARGET_ID, loader)).isEqualTo(TARGET);
+        assertThat(targetCache.get(TARGET_ID, loader)).isEqualTo(TARGET);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void evictForcesReload() {
+        targetCache.get(TARGET_ID, loader);
+
+        targetCache.evict(TARGET_ID);
+        targetCache.get(TARGET_ID, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void typeCountsAreLoadedOnceUntilEvicted() {
+        AtomicInteger typeCountLoads = new AtomicInteger();
+        Supplier<Map<MonitoringType, Long>> typeCountLoader = () -> Map.of(PING, (long) typeCountLoads.incrementAndGet());
+
+        assertThat(targetCache.getTypeCounts(typeCountLoader)).isEqualTo(Map.of(PING, 1L));
+        assertThat(targetCache.getTypeCounts(typeCountLoader)).isEqualTo(Map.of(PING, 1L));
+
+        targetCache.evict(TARGET_ID);
+
+        assertThat(targetCache.getTypeCounts(typeCountLoader)).isEqualTo(Map.of(PING, 2L));
+    }
+
+    @Test
+    void getDoesNotCacheMissingTarget() {
+        assertThat(targetCache.get(TARGET_ID, id -> null)).isNull();
+
+        assertThat(targetCache.get(TARGET_ID, loader)).isEqualTo(TARGET);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+}
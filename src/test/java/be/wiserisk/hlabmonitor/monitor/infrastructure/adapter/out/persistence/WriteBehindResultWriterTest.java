@@ -0,0 +1,208 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence;
+
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.repository.ResultEntityRepository;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.PersistenceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.PersistenceProperties.BackpressurePolicy.DROP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindResultWriterTest {
+
+    @Mock
+    private ResultEntityRepository resultEntityRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private WriteBehindResultWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null && writer.isRunning()) {
+            writer.stop();
+        }
+    }
+
+    private WriteBehindResultWriter createWriter(int queueCapacity, int batchSize, Duration flushInterval,
+                                                 PersistenceProperties.BackpressurePolicy policy) {
+        return createWriter(queueCapacity, batchSize, flushInterval, Duration.ofSeconds(5), policy);
+    }
+
+    private WriteBehindResultWriter createWriter(int queueCapacity, int batchSize, Duration flushInterval, Duration shutdownTimeout,
+                                                 PersistenceProperties.BackpressurePolicy policy) {
+        writer = new WriteBehindResultWriter(resultEntityRepository,
+                new PersistenceProperties.WriteBehind(queueCapacity, batchSize, flushInterval, shutdownTimeout, policy),
+                meterRegistry);
+        return writer;
+    }
+
+    @Test
+    void writeWhenNotStartedPersistsImmediately() {
+        createWriter(10, 5, Duration.ofMinutes(1), null);
+        ResultEntity resultEntity = new ResultEntity();
+
+        writer.write(resultEntity);
+
+        verify(resultEntityRepository, times(1)).saveAll(List.of(resultEntity));
+    }
+
+    @Test
+    void writeFlushesWhenBatchIsFull() {
+        createWriter(10, 2, Duration.ofMinutes(1), null);
+        writer.start();
+        ResultEntity first = new ResultEntity();
+        ResultEntity second = new ResultEntity();
+
+        writer.write(first);
+        writer.write(second);
+
+        verify(resultEntityRepository, timeout(2000).times(1)).saveAll(List.of(first, second));
+    }
+
+    @Test
+    void writeFlushesAfterInterval() {
+        createWriter(10, 50, Duration.ofMillis(50), null);
+        writer.start();
+        ResultEntity resultEntity = new ResultEntity();
+
+        writer.write(resultEntity);
+
+        verify(resultEntityRepository, timeout(2000).times(1)).saveAll(List.of(resultEntity));
+    }
+
+    @Test
+    void stopFlushesPendingResults() {
+        createWriter(10, 50, Duration.ofMinutes(1), null);
+        writer.start();
+        ResultEntity resultEntity = new ResultEntity();
+        writer.write(resultEntity);
+
+        writer.stop();
+
+        assertThat(writer.isRunning()).isFalse();
+        verify(resultEntityRepository, times(1)).saveAll(List.of(resultEntity));
+    }
+
+    @Test
+    void stopWakesFlusherWaitingToFillItsBatch() throws InterruptedException {
+        createWriter(10, 50, Duration.ofMinutes(1), null);
+        writer.start();
+        ResultEntity resultEntity = new ResultEntity();
+        writer.write(resultEntity);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (meterRegistry.get("hlabmonitor.persistence.write.queue.size").gauge().value() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        writer.stop();
+
+        verify(resultEntityRepository, times(1)).saveAll(List.of(resultEntity));
+        assertThat(meterRegistry.get("hlabmonitor.persistence.write.failed").counter().count()).isZero();
+    }
+
+    @Test
+    void writesRacingStopAreAllPersisted() throws InterruptedException {
+        AtomicInteger persisted = new AtomicInteger();
+        when(resultEntityRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            persisted.addAndGet(invocation.<List<?>>getArgument(0).size());
+            return invocation.getArgument(0);
+        });
+        createWriter(10_000, 50, Duration.ofMillis(5), null);
+        writer.start();
+        CountDownLatch writing = new CountDownLatch(4);
+        List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            writers.add(Thread.ofPlatform().start(() -> {
+                writing.countDown();
+                for (int j = 0; j < 1000; j++) {
+                    writer.write(new ResultEntity());
+                }
+            }));
+        }
+
+        assertThat(writing.await(2, TimeUnit.SECONDS)).isTrue();
+        writer.stop();
+        for (Thread thread : writers) {
+            thread.join(5000);
+        }
+
+        assertThat(persisted.get()).isEqualTo(4000);
+    }
+
+    @Test
+    void stopPersistsQueuedResultsAndCountsTheBatchStillFlushingAfterTimeout() throws InterruptedException {
+        ResultEntity slow = new ResultEntity(null, "slow", "SUCCESS", null, null);
+        ResultEntity queued = new ResultEntity(null, "queued", "SUCCESS", null, null);
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(resultEntityRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            if (invocation.<List<?>>getArgument(0).contains(slow)) {
+                flushing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return invocation.getArgument(0);
+        });
+        createWriter(10, 1, Duration.ofMillis(10), Duration.ofMillis(100), null);
+        writer.start();
+
+        writer.write(slow);
+        assertThat(flushing.await(2, TimeUnit.SECONDS)).isTrue();
+        writer.write(queued);
+        writer.stop();
+        release.countDown();
+
+        verify(resultEntityRepository).saveAll(List.of(queued));
+        assertThat(meterRegistry.get("hlabmonitor.persistence.write.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void writeDropsWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(resultEntityRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        createWriter(1, 1, Duration.ofMillis(10), DROP);
+        writer.start();
+
+        writer.write(new ResultEntity());
+        assertThat(flushing.await(2, TimeUnit.SECONDS)).isTrue();
+        writer.write(new ResultEntity());
+        writer.write(new ResultEntity());
+        release.countDown();
+
+        assertThat(meterRegistry.get("hlabmonitor.persistence.write.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void failedBatchIsRetriedOneByOne() {
+        when(resultEntityRepository.saveAll(anyList())).thenThrow(new IllegalStateException("batch failed"));
+        when(resultEntityRepository.save(any(ResultEntity.class)))
+                .thenReturn(new ResultEntity())
+                .thenThrow(new IllegalStateException("row failed"));
+        createWriter(10, 5, Duration.ofMinutes(1), null);
+
+        writer.flush(List.of(new ResultEntity(), new ResultEntity()));
+
+        verify(resultEntityRepository, times(2)).save(any(ResultEntity.class));
+        assertThat(meterRegistry.get("hlabmonitor.persistence.write.failed").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,30 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// Benchmark baseline: RESULT as it was mapped before the pooled sequence, on a table created by ResultInsertBenchmarkTest
+@Entity
+@Table(name = "RESULT_IDENTITY_BENCHMARK")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdentityResultEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "target_id", nullable = false)
+    private String targetId;
+    @Column(name = "result", nullable = false)
+    private String result;
+    @Column(name = "message", nullable = true)
+    private String message;
+    @Column(name = "checked_at", nullable = false)
+    private Instant checkedAt;
+}
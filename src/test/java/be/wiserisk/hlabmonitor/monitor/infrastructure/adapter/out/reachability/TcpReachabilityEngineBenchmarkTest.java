@@ -0,0 +1,67 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.reachability;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// mvn test -Pbenchmark -Dtest=TcpReachabilityEngineBenchmarkTest
+// Needs a file descriptor limit above 2 * PROBES (ulimit -n)
+@Tag("benchmark")
+class TcpReachabilityEngineBenchmarkTest {
+
+    private static final int PROBES = 5_000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    void concurrentLoopbackProbes() throws IOException {
+        try (TcpReachabilityEngine engine = new TcpReachabilityEngine("benchmark-reachability");
+             ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), PROBES);
+            InetSocketAddress address = (InetSocketAddress) server.getLocalAddress();
+            Thread acceptor = Thread.ofPlatform().name("benchmark-acceptor").daemon(true).start(() -> accept(server));
+            int threadsBefore = Thread.activeCount();
+
+            long start = System.nanoTime();
+            List<CompletableFuture<ReachabilityResult>> probes = new ArrayList<>(PROBES);
+            for (int i = 0; i < PROBES; i++) {
+                probes.add(engine.probe(address, TIMEOUT));
+            }
+            int outstanding = engine.outstanding();
+            int threadsDuring = Thread.activeCount();
+            List<ReachabilityResult> results = probes.stream().map(CompletableFuture::join).toList();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            List<Duration> rtts = results.stream().map(ReachabilityResult::rtt).sorted().toList();
+            System.out.printf("%d probes in %d ms, %d outstanding after submission, p50 %.2f ms, p99 %.2f ms, %d extra threads%n",
+                    PROBES, elapsed.toMillis(), outstanding,
+                    rtts.get(PROBES / 2).toNanos() / 1_000_000.0, rtts.get(PROBES * 99 / 100).toNanos() / 1_000_000.0,
+                    threadsDuring - threadsBefore);
+
+            assertThat(results).allMatch(ReachabilityResult::reachable);
+            assertThat(engine.outstanding()).isZero();
+            assertThat(threadsDuring - threadsBefore).isLessThanOrEqualTo(1);
+            acceptor.interrupt();
+        }
+    }
+
+    private static void accept(ServerSocketChannel server) {
+        while (server.isOpen()) {
+            try (SocketChannel ignored = server.accept()) {
+                // Connection accepted and closed right away
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+}
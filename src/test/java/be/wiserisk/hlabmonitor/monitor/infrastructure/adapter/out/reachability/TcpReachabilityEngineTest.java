@@ -0,0 +1,79 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.reachability;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TcpReachabilityEngineTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+
+    private TcpReachabilityEngine engine;
+    private ServerSocket serverSocket;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        engine = new TcpReachabilityEngine("test-reachability");
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        engine.close();
+        serverSocket.close();
+    }
+
+    @Test
+    void listeningPortIsReachable() {
+        ReachabilityResult result = engine.probe(new InetSocketAddress(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort()), TIMEOUT).join();
+
+        assertThat(result.reachable()).isTrue();
+        assertThat(result.rtt()).isPositive().isLessThan(TIMEOUT);
+        assertThat(engine.outstanding()).isZero();
+    }
+
+    @Test
+    void refusedConnectionIsReachable() throws IOException {
+        int closedPort = closedPort();
+
+        assertThat(engine.probe(new InetSocketAddress(InetAddress.getLoopbackAddress(), closedPort), TIMEOUT).join().reachable()).isTrue();
+    }
+
+    @Test
+    void anyAnsweringPortMakesHostReachable() throws IOException {
+        ReachabilityResult result = engine.probe(InetAddress.getLoopbackAddress(), List.of(closedPort(), serverSocket.getLocalPort()), TIMEOUT).join();
+
+        assertThat(result.reachable()).isTrue();
+    }
+
+    @Test
+    void unresolvedAddressIsUnreachable() {
+        ReachabilityResult result = engine.probe(InetSocketAddress.createUnresolved("unknown.invalid", 443), TIMEOUT).join();
+
+        assertThat(result).extracting(ReachabilityResult::reachable, ReachabilityResult::message).containsExactly(false, "Unknown host");
+    }
+
+    @Test
+    void closedEngineRejectsProbes() {
+        engine.close();
+
+        assertThatThrownBy(() -> engine.probe(new InetSocketAddress(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort()), TIMEOUT))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static int closedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+}
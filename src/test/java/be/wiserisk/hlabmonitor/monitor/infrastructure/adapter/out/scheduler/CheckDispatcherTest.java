@@ -0,0 +1,131 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTriggerCallback;
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CheckExecutionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.HTTP;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckDispatcherTest {
+
+    public static final TargetId PING_TARGET_ID = new TargetId("ping-1");
+    public static final Target PING_TARGET = new Target(PING_TARGET_ID, PING, "target", Duration.ofSeconds(30));
+    public static final Instant SCHEDULED_AT = Instant.parse("2026-01-01T10:00:00Z");
+    public static final Target HTTP_TARGET = new Target(new TargetId("http-1"), HTTP, "target", Duration.ofSeconds(30));
+
+    @Mock
+    private CheckTriggerCallback callback;
+    @Mock
+    private TaskExecutor checkExecutor;
+    @Mock
+    private CheckStartRateRecorder checkStartRateRecorder;
+    @Mock
+    private ScheduleLagMonitor scheduleLagMonitor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void dispatchRunsCallbackOnExecutor() {
+        CheckDispatcher checkDispatcher = new CheckDispatcher(new SyncTaskExecutor(), new CheckExecutionProperties(null, null), meterRegistry, checkStartRateRecorder, scheduleLagMonitor);
+
+        checkDispatcher.dispatch(PING_TARGET, callback, SCHEDULED_AT);
+
+        verify(callback).onTrigger(PING_TARGET_ID);
+        verify(checkStartRateRecorder).checkStarted();
+        verify(scheduleLagMonitor).started(PING_TARGET, SCHEDULED_AT);
+        assertThat(meterRegistry.get("hlabmonitor.check.inflight").tag("type", "ping").gauge().value()).isZero();
+        assertThat(meterRegistry.get("hlabmonitor.check.queued").tag("type", "ping").gauge().value()).isZero();
+        assertThat(meterRegistry.get("hlabmonitor.check.dispatched").tag("type", "ping").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("hlabmonitor.check.start.delay").tag("type", "ping").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatchCatchesCallbackException() {
+        doThrow(new RuntimeException("Callback failed")).when(callback).onTrigger(PING_TARGET_ID);
+        CheckDispatcher checkDispatcher = new CheckDispatcher(new SyncTaskExecutor(), new CheckExecutionProperties(null, null), meterRegistry, checkStartRateRecorder, scheduleLagMonitor);
+
+        assertThatCode(() -> checkDispatcher.dispatch(PING_TARGET, callback, SCHEDULED_AT)).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("hlabmonitor.check.inflight").tag("type", "ping").gauge().value()).isZero();
+    }
+
+    @Test
+    void dispatchCountsRejectedExecutions() {
+        doThrow(new TaskRejectedException("full")).when(checkExecutor).execute(any(Runnable.class));
+        CheckDispatcher checkDispatcher = new CheckDispatcher(checkExecutor, new CheckExecutionProperties(null, null), meterRegistry, checkStartRateRecorder, scheduleLagMonitor);
+
+        assertThatCode(() -> checkDispatcher.dispatch(HTTP_TARGET, callback, SCHEDULED_AT)).doesNotThrowAnyException();
+
+        verifyNoInteractions(callback, checkStartRateRecorder, scheduleLagMonitor);
+        assertThat(meterRegistry.get("hlabmonitor.check.rejected").tag("type", "http").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("hlabmonitor.check.rejected").tag("type", "ping").counter().count()).isZero();
+        assertThat(meterRegistry.get("hlabmonitor.check.queued").tag("type", "http").gauge().value()).isZero();
+    }
+
+    @Test
+    void dispatchLimitsConcurrencyPerType() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(4);
+        CheckTriggerCallback blockingCallback = targetId -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            done.countDown();
+        };
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("test-check-");
+        executor.setVirtualThreads(true);
+        CheckDispatcher checkDispatcher = new CheckDispatcher(executor, new CheckExecutionProperties(null, Map.of(PING, 2)), meterRegistry, checkStartRateRecorder, scheduleLagMonitor);
+
+        for (int i = 0; i < 4; i++) {
+            checkDispatcher.dispatch(PING_TARGET, blockingCallback, SCHEDULED_AT);
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(meterRegistry.get("hlabmonitor.check.inflight").tag("type", "ping").gauge().value()).isEqualTo(2.0);
+        assertThat(awaitGauge("hlabmonitor.check.waiting", 2.0)).isEqualTo(2.0);
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    // The two checks over the limit count as waiting only once their thread reaches the limiter
+    private double awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        double value = meterRegistry.get(name).tag("type", "ping").gauge().value();
+        while (value != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            value = meterRegistry.get(name).tag("type", "ping").gauge().value();
+        }
+        return value;
+    }
+}
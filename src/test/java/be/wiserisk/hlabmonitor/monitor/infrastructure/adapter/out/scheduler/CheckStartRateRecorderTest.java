@@ -0,0 +1,62 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckStartRateRecorderTest {
+
+    @Mock
+    private TaskScheduler taskScheduler;
+    @Mock
+    private ScheduledFuture<?> scheduledFuture;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CheckStartRateRecorder checkStartRateRecorder;
+
+    @BeforeEach
+    void setUp() {
+        checkStartRateRecorder = new CheckStartRateRecorder(taskScheduler, meterRegistry);
+    }
+
+    @Test
+    void recordPublishesStartsOfTheLastSecond() {
+        checkStartRateRecorder.checkStarted();
+        checkStartRateRecorder.checkStarted();
+        checkStartRateRecorder.checkStarted();
+
+        checkStartRateRecorder.record();
+        checkStartRateRecorder.record();
+
+        DistributionSummary summary = meterRegistry.get("hlabmonitor.check.started.per.second").summary();
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.totalAmount()).isEqualTo(3.0);
+        assertThat(summary.max()).isEqualTo(3.0);
+    }
+
+    @Test
+    void startSchedulesEverySecondAndStopCancels() {
+        doReturn(scheduledFuture).when(taskScheduler).scheduleAtFixedRate(any(Runnable.class), eq(Duration.ofSeconds(1)));
+
+        checkStartRateRecorder.start();
+        assertThat(checkStartRateRecorder.isRunning()).isTrue();
+
+        checkStartRateRecorder.stop();
+        assertThat(checkStartRateRecorder.isRunning()).isFalse();
+        verify(scheduledFuture).cancel(false);
+    }
+}
@@ -0,0 +1,84 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedTimingWheelTest {
+
+    private final HashedTimingWheel timingWheel = new HashedTimingWheel("test-wheel", Duration.ofMillis(10), 8);
+
+    @AfterEach
+    void tearDown() {
+        timingWheel.close();
+    }
+
+    @Test
+    void shouldFireRepeatedly() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(3);
+
+        timingWheel.scheduleAtFixedRate(fired::countDown, Duration.ZERO, Duration.ofMillis(30));
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldFireAfterMoreThanOneRotation() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        timingWheel.scheduleAtFixedRate(fired::countDown, Duration.ofMillis(250), Duration.ofMinutes(1));
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(240));
+    }
+
+    @Test
+    void shouldStopFiringWhenCancelled() throws InterruptedException {
+        AtomicInteger fired = new AtomicInteger();
+        ScheduledFuture<?> future = timingWheel.scheduleAtFixedRate(fired::incrementAndGet, Duration.ofMillis(100), Duration.ofMillis(20));
+
+        assertThat(future.cancel(false)).isTrue();
+        Thread.sleep(250);
+
+        assertThat(fired.get()).isZero();
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(future.isDone()).isTrue();
+        assertThat(future.cancel(false)).isFalse();
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    @Test
+    void shouldKeepTickingWhenTaskThrows() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(2);
+
+        timingWheel.scheduleAtFixedRate(() -> {
+            fired.countDown();
+            throw new IllegalStateException("task failed");
+        }, Duration.ZERO, Duration.ofMillis(20));
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldRejectInvalidPeriod() {
+        assertThatThrownBy(() -> timingWheel.scheduleAtFixedRate(() -> { }, Duration.ZERO, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectSchedulingWhenClosed() {
+        timingWheel.close();
+
+        assertThatThrownBy(() -> timingWheel.scheduleAtFixedRate(() -> { }, Duration.ZERO, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTriggerCallback;
+import be.wiserisk.hlabmonitor.monitor.application.port.out.MonitoringSchedulerPort;
+import be.wiserisk.hlabmonitor.monitor.application.port.out.ScheduleHandle;
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredMonitoringSchedulerPortTest {
+
+    public static final Target TARGET = new Target(new TargetId("targetId"), PING, "target", Duration.ofSeconds(30));
+
+    @Mock
+    private MonitoringSchedulerPort delegate;
+    @Mock
+    private CheckTriggerCallback callback;
+    @Mock
+    private ScheduleHandle handle;
+    @Mock
+    private ScheduleLagMonitor scheduleLagMonitor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MeteredMonitoringSchedulerPort meteredMonitoringSchedulerPort;
+
+    @BeforeEach
+    void setUp() {
+        meteredMonitoringSchedulerPort = new MeteredMonitoringSchedulerPort(delegate, meterRegistry, scheduleLagMonitor);
+    }
+
+    @Test
+    void scheduleAndUnscheduleUpdateScheduledTargets() {
+        when(delegate.scheduleTarget(TARGET, callback)).thenReturn(handle);
+        when(handle.isActive()).thenReturn(true, false);
+        when(handle.getTargetId()).thenReturn("targetId");
+
+        assertThat(meteredMonitoringSchedulerPort.scheduleTarget(TARGET, callback)).isEqualTo(handle);
+        assertThat(meterRegistry.get("hlabmonitor.scheduler.targets").gauge().value()).isEqualTo(1.0);
+
+        meteredMonitoringSchedulerPort.unschedule(handle);
+        meteredMonitoringSchedulerPort.unschedule(handle);
+
+        verify(delegate, times(2)).unschedule(handle);
+        verify(scheduleLagMonitor).scheduled(TARGET);
+        verify(scheduleLagMonitor).unscheduled("targetId");
+        assertThat(meterRegistry.get("hlabmonitor.scheduler.targets").gauge().value()).isZero();
+        assertThat(meterRegistry.get("hlabmonitor.scheduler.scheduled").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void rescheduleUpdatesLagMonitorOfActiveHandle() {
+        when(handle.isActive()).thenReturn(true, false);
+        when(handle.getTargetId()).thenReturn("targetId");
+
+        meteredMonitoringSchedulerPort.reschedule(handle, Duration.ofMinutes(1));
+        meteredMonitoringSchedulerPort.reschedule(handle, Duration.ofMinutes(2));
+
+        verify(delegate).reschedule(handle, Duration.ofMinutes(1));
+        verify(scheduleLagMonitor).rescheduled("targetId", Duration.ofMinutes(1));
+        verifyNoMoreInteractions(delegate);
+        assertThat(meterRegistry.get("hlabmonitor.scheduler.rearmed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void closeClosesDelegate() throws Exception {
+        TimingWheelSchedulerAdapter timingWheelSchedulerAdapter = mock(TimingWheelSchedulerAdapter.class);
+
+        new MeteredMonitoringSchedulerPort(timingWheelSchedulerAdapter, new SimpleMeterRegistry(), scheduleLagMonitor).close();
+
+        verify(timingWheelSchedulerAdapter).close();
+    }
+}
@@ -0,0 +1,74 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhaseSpreaderTest {
+
+    public static final Duration INTERVAL = Duration.ofMinutes(5);
+
+    private static Target target(String id) {
+        return new Target(new TargetId(id), PING, "host-" + id, INTERVAL);
+    }
+
+    @Test
+    void initialDelayIsDeterministicAndWithinInterval() {
+        PhaseSpreader phaseSpreader = new PhaseSpreader(true, Duration.ZERO);
+
+        Duration first = phaseSpreader.initialDelay(target("ping-1"));
+
+        assertThat(phaseSpreader.initialDelay(target("ping-1"))).isEqualTo(first);
+        assertThat(first).isGreaterThanOrEqualTo(Duration.ZERO).isLessThan(INTERVAL);
+    }
+
+    @Test
+    void initialDelaysAreSpreadOverInterval() {
+        PhaseSpreader phaseSpreader = new PhaseSpreader(true, Duration.ZERO);
+        int[] buckets = new int[10];
+
+        IntStream.range(0, 1000)
+                .mapToObj(i -> phaseSpreader.initialDelay(target("ping-" + i)))
+                .forEach(delay -> buckets[(int) (delay.toMillis() * buckets.length / INTERVAL.toMillis())]++);
+
+        assertThat(Arrays.stream(buckets).boxed().toList()).allSatisfy(count -> assertThat(count).isBetween(50, 150));
+    }
+
+    @Test
+    void targetsOnTheSameEndpointShareTheirInitialDelay() {
+        PhaseSpreader phaseSpreader = new PhaseSpreader(true, Duration.ZERO);
+
+        assertThat(phaseSpreader.initialDelay(new Target(new TargetId("dns-1:ping"), PING, "1.1.1.1", INTERVAL)))
+                .isEqualTo(phaseSpreader.initialDelay(new Target(new TargetId("dns-2:ping"), PING, "1.1.1.1", INTERVAL)));
+    }
+
+    @Test
+    void initialDelayIsZeroWhenDisabledWithoutJitter() {
+        PhaseSpreader phaseSpreader = new PhaseSpreader(false, Duration.ZERO);
+
+        assertThat(phaseSpreader.initialDelay(target("ping-1"))).isZero();
+    }
+
+    @Test
+    void jitterStaysWithinConfiguredBound() {
+        PhaseSpreader phaseSpreader = new PhaseSpreader(false, Duration.ofSeconds(10));
+
+        IntStream.range(0, 100).forEach(i ->
+                assertThat(phaseSpreader.initialDelay(target("ping-1"))).isBetween(Duration.ZERO, Duration.ofSeconds(10)));
+    }
+
+    @Test
+    void jitterNeverExceedsInterval() {
+        PhaseSpreader phaseSpreader = new PhaseSpreader(true, Duration.ofHours(1));
+
+        IntStream.range(0, 100).forEach(i ->
+                assertThat(phaseSpreader.initialDelay(target("ping-" + i))).isLessThan(INTERVAL));
+    }
+}
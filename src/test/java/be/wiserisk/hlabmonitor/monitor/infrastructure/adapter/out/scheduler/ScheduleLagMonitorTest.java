@@ -0,0 +1,127 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleLagMonitorTest {
+
+    public static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+    public static final Target TARGET = new Target(new TargetId("ping-1"), PING, "target", Duration.ofSeconds(10));
+
+    @Mock
+    private Clock clock;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ScheduleLagMonitor scheduleLagMonitor;
+
+    @BeforeEach
+    void setUp() {
+        scheduleLagMonitor = new ScheduleLagMonitor(meterRegistry, 2.0, clock);
+    }
+
+    @Test
+    void startedRecordsLagPerIntervalClass() {
+        when(clock.instant()).thenReturn(NOW);
+
+        scheduleLagMonitor.started(TARGET, NOW.minusMillis(1500));
+        scheduleLagMonitor.started(TARGET, NOW.plusSeconds(1));
+
+        Timer lag = meterRegistry.get("hlabmonitor.scheduler.lag").tag("interval", "10s").timer();
+        assertThat(lag.count()).isEqualTo(2);
+        assertThat(lag.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1500.0);
+    }
+
+    @Test
+    void intervalClass() {
+        assertThat(ScheduleLagMonitor.intervalClass(Duration.ofSeconds(10))).isEqualTo("10s");
+        assertThat(ScheduleLagMonitor.intervalClass(Duration.ofSeconds(30))).isEqualTo("1m");
+        assertThat(ScheduleLagMonitor.intervalClass(Duration.ofMinutes(5))).isEqualTo("5m");
+        assertThat(ScheduleLagMonitor.intervalClass(Duration.ofMinutes(30))).isEqualTo("1h");
+        assertThat(ScheduleLagMonitor.intervalClass(Duration.ofDays(1))).isEqualTo("longer");
+    }
+
+    @Test
+    void targetRunningOnTimeIsNotOverdue() {
+        when(clock.instant()).thenReturn(NOW);
+        scheduleLagMonitor.scheduled(TARGET);
+
+        for (int i = 1; i <= 3; i++) {
+            when(clock.instant()).thenReturn(NOW.plusSeconds(10L * i));
+            scheduleLagMonitor.started(TARGET, NOW.plusSeconds(10L * i));
+        }
+
+        assertThat(scheduleLagMonitor.overdueTargets()).isEmpty();
+        assertThat(meterRegistry.get("hlabmonitor.scheduler.overdue").gauge().value()).isZero();
+    }
+
+    @Test
+    void targetStartingTooLateIsOverdueUntilItCatchesUp() {
+        when(clock.instant()).thenReturn(NOW);
+        scheduleLagMonitor.scheduled(TARGET);
+        when(clock.instant()).thenReturn(NOW.plusSeconds(5));
+        scheduleLagMonitor.started(TARGET, NOW.plusSeconds(5));
+        when(clock.instant()).thenReturn(NOW.plusSeconds(45));
+        scheduleLagMonitor.started(TARGET, NOW.plusSeconds(15));
+
+        assertThat(scheduleLagMonitor.overdueTargets()).containsExactly("ping-1");
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(55));
+        scheduleLagMonitor.started(TARGET, NOW.plusSeconds(55));
+
+        assertThat(scheduleLagMonitor.overdueTargets()).isEmpty();
+    }
+
+    @Test
+    void targetThatStoppedStartingIsOverdue() {
+        when(clock.instant()).thenReturn(NOW);
+        scheduleLagMonitor.scheduled(TARGET);
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(25));
+        assertThat(scheduleLagMonitor.overdueTargets()).isEmpty();
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(31));
+        assertThat(scheduleLagMonitor.overdueTargets()).containsExactly("ping-1");
+    }
+
+    @Test
+    void rescheduledTargetIsCheckedAgainstItsNewInterval() {
+        when(clock.instant()).thenReturn(NOW);
+        scheduleLagMonitor.scheduled(TARGET);
+        when(clock.instant()).thenReturn(NOW.plusSeconds(5));
+        scheduleLagMonitor.started(TARGET, NOW.plusSeconds(5));
+
+        scheduleLagMonitor.rescheduled("ping-1", Duration.ofMinutes(1));
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(45));
+        assertThat(scheduleLagMonitor.overdueTargets()).isEmpty();
+    }
+
+    @Test
+    void unscheduledTargetIsForgotten() {
+        when(clock.instant()).thenReturn(NOW);
+        scheduleLagMonitor.scheduled(TARGET);
+        scheduleLagMonitor.unscheduled("ping-1");
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(60));
+
+        assertThat(scheduleLagMonitor.size()).isZero();
+        assertThat(scheduleLagMonitor.overdueTargets()).isEmpty();
+    }
+}
@@ -4,6 +4,8 @@ import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTriggerCallback
 import be.wiserisk.hlabmonitor.monitor.application.port.out.ScheduleHandle;
 import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
 import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CheckExecutionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,7 @@ import org.springframework.scheduling.support.PeriodicTrigger;
 
 import java.time.Duration;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,12 +53,18 @@ class SchedulerAdapterTest {
     private CheckTriggerCallback callback;
     @Mock
     private ScheduledFuture<?> scheduledFuture;
+    @Mock
+    private CheckStartRateRecorder checkStartRateRecorder;
+    @Mock
+    private ScheduleLagMonitor scheduleLagMonitor;
 
     private SchedulerAdapter schedulerAdapter;
 
     @BeforeEach
     void setUp() {
-        schedulerAdapter = new SchedulerAdapter(scheduler, checkExecutor);
+        CheckDispatcher checkDispatcher = new CheckDispatcher(
+                checkExecutor, new CheckExecutionProperties(null, null), new SimpleMeterRegistry(), checkStartRateRecorder, scheduleLagMonitor);
+        schedulerAdapter = new SchedulerAdapter(scheduler, checkDispatcher, new PhaseSpreader(true, Duration.ZERO));
     }
 
     @Nested
@@ -179,6 +188,44 @@ class SchedulerAdapterTest {
         }
     }
 
+    @Nested
+    class RescheduleTests {
+
+        @Test
+        void shouldReplaceFutureOfActiveHandle() {
+            ScheduledFuture<?> rescheduledFuture = mock(ScheduledFuture.class);
+            doReturn(scheduledFuture, rescheduledFuture)
+                    .when(scheduler)
+                    .schedule(ArgumentMatchers.any(), ArgumentMatchers.<PeriodicTrigger>any());
+            when(scheduledFuture.isCancelled()).thenReturn(false);
+            when(scheduledFuture.isDone()).thenReturn(false);
+            when(scheduledFuture.getDelay(TimeUnit.NANOSECONDS)).thenReturn(Duration.ofSeconds(5).toNanos());
+            ArgumentCaptor<PeriodicTrigger> triggerCaptor = ArgumentCaptor.forClass(PeriodicTrigger.class);
+
+            SpringScheduleHandle handle = (SpringScheduleHandle) schedulerAdapter.scheduleTarget(PING_TARGET, callback);
+            schedulerAdapter.reschedule(handle, Duration.ofMinutes(2));
+
+            verify(scheduledFuture).cancel(false);
+            verify(scheduler, times(2)).schedule(ArgumentMatchers.any(), triggerCaptor.capture());
+            assertThat(triggerCaptor.getAllValues().getLast().getPeriodDuration()).isEqualTo(Duration.ofMinutes(2));
+            assertThat(triggerCaptor.getAllValues().getLast().getInitialDelayDuration()).isEqualTo(Duration.ofSeconds(5));
+            assertThat((Object) handle.getFuture()).isSameAs(rescheduledFuture);
+        }
+
+        @Test
+        void shouldIgnoreCancelledHandle() {
+            doReturn(scheduledFuture)
+                    .when(scheduler)
+                    .schedule(ArgumentMatchers.any(), ArgumentMatchers.<PeriodicTrigger>any());
+            when(scheduledFuture.isCancelled()).thenReturn(true);
+
+            ScheduleHandle handle = schedulerAdapter.scheduleTarget(PING_TARGET, callback);
+            schedulerAdapter.reschedule(handle, Duration.ofMinutes(2));
+
+            verify(scheduler).schedule(ArgumentMatchers.any(), ArgumentMatchers.<PeriodicTrigger>any());
+        }
+    }
+
     @Nested
     class IntegrationScenarios {
         @Test
@@ -0,0 +1,108 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.out.MonitoringSchedulerPort;
+import be.wiserisk.hlabmonitor.monitor.application.port.out.ScheduleHandle;
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CheckExecutionProperties;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.SchedulerProperties;
+import com.sun.management.OperatingSystemMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// mvn test -Pbenchmark -Dtest=SchedulerBenchmarkTest
+@Tag("benchmark")
+class SchedulerBenchmarkTest {
+
+    private static final int TARGETS = 50_000;
+    private static final List<Duration> INTERVALS = List.of(
+            Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(30), Duration.ofMinutes(1), Duration.ofMinutes(5));
+    private static final Duration OBSERVATION = Duration.ofSeconds(30);
+    private static final PhaseSpreader PHASE_SPREADER = new PhaseSpreader(true, Duration.ZERO);
+
+    @Test
+    void threadPoolTaskScheduler() throws InterruptedException {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(20);
+        scheduler.setThreadNamePrefix("benchmark-scheduler-");
+        scheduler.initialize();
+        try {
+            run("thread pool", scheduler, dispatcher -> new SchedulerAdapter(scheduler, dispatcher, PHASE_SPREADER));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void hashedTimingWheel() throws InterruptedException {
+        ThreadPoolTaskScheduler rateScheduler = new ThreadPoolTaskScheduler();
+        rateScheduler.initialize();
+        try (HashedTimingWheel timingWheel = new HashedTimingWheel("benchmark-wheel", Duration.ofMillis(100), 512)) {
+            run("timing wheel", rateScheduler, dispatcher -> new TimingWheelSchedulerAdapter(timingWheel, dispatcher, PHASE_SPREADER));
+        } finally {
+            rateScheduler.shutdown();
+        }
+    }
+
+    private void run(String name, ThreadPoolTaskScheduler rateScheduler,
+                     Function<CheckDispatcher, MonitoringSchedulerPort> factory) throws InterruptedException {
+        LongAdder fired = new LongAdder();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CheckStartRateRecorder checkStartRateRecorder = new CheckStartRateRecorder(rateScheduler, meterRegistry);
+        CheckDispatcher checkDispatcher = new CheckDispatcher(
+                new SyncTaskExecutor(), new CheckExecutionProperties(null, null), meterRegistry, checkStartRateRecorder,
+                new ScheduleLagMonitor(meterRegistry, SchedulerProperties.DEFAULT_OVERDUE_RATIO));
+        MonitoringSchedulerPort schedulerPort = factory.apply(checkDispatcher);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        OperatingSystemMXBean os = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        long cpuBefore = os.getProcessCpuTime();
+        long start = System.nanoTime();
+        checkStartRateRecorder.start();
+
+        List<ScheduleHandle> handles = new ArrayList<>(TARGETS);
+        for (int i = 0; i < TARGETS; i++) {
+            Target target = new Target(new TargetId("target-" + i), PING, "10.0.0." + (i % 254 + 1), INTERVALS.get(i % INTERVALS.size()));
+            handles.add(schedulerPort.scheduleTarget(target, targetId -> fired.increment()));
+        }
+        long scheduleNanos = System.nanoTime() - start;
+
+        System.gc();
+        long heapScheduled = memory.getHeapMemoryUsage().getUsed();
+        Thread.sleep(OBSERVATION.toMillis());
+        long cpuNanos = os.getProcessCpuTime() - cpuBefore;
+
+        long cancelStart = System.nanoTime();
+        handles.forEach(schedulerPort::unschedule);
+        long cancelNanos = System.nanoTime() - cancelStart;
+        checkStartRateRecorder.stop();
+        HistogramSnapshot startedPerSecond = meterRegistry.get("hlabmonitor.check.started.per.second").summary().takeSnapshot();
+
+        System.out.printf("[%s] %d targets: schedule %d ms, cancel %d ms, retained heap %d KiB, cpu %d ms over %d s, %d checks fired%n",
+                name, TARGETS, scheduleNanos / 1_000_000, cancelNanos / 1_000_000,
+                (heapScheduled - heapBefore) / 1024, cpuNanos / 1_000_000, OBSERVATION.toSeconds(), fired.sum());
+        System.out.printf("[%s] checks started per second: mean %.0f, max %.0f%n",
+                name, startedPerSecond.mean(), startedPerSecond.max());
+
+        assertThat(handles).noneMatch(ScheduleHandle::isActive);
+        assertThat(fired.sum()).isGreaterThanOrEqualTo(TARGETS);
+    }
+}
@@ -0,0 +1,50 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.Status;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerHealthIndicatorTest {
+
+    @InjectMocks
+    private SchedulerHealthIndicator schedulerHealthIndicator;
+
+    @Mock
+    private ScheduleLagMonitor scheduleLagMonitor;
+
+    @Test
+    void upWhenNoTargetIsOverdue() {
+        when(scheduleLagMonitor.overdueTargets()).thenReturn(List.of());
+        when(scheduleLagMonitor.size()).thenReturn(3);
+
+        Health health = schedulerHealthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("scheduled", 3).containsEntry("overdue", 0);
+    }
+
+    @Test
+    void overdueListsTheFirstOverdueTargets() {
+        List<String> overdueTargets = IntStream.range(0, 30).mapToObj(i -> "target-" + i).toList();
+        when(scheduleLagMonitor.overdueTargets()).thenReturn(overdueTargets);
+        when(scheduleLagMonitor.size()).thenReturn(40);
+
+        Health health = schedulerHealthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(SchedulerHealthIndicator.OVERDUE);
+        assertThat(health.getDetails())
+                .containsEntry("overdue", 30)
+                .containsEntry("overdueTargets", overdueTargets.subList(0, SchedulerHealthIndicator.MAX_LISTED_TARGETS));
+    }
+}
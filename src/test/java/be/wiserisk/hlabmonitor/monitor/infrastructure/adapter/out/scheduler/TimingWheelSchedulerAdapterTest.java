@@ -0,0 +1,114 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.scheduler;
+
+import be.wiserisk.hlabmonitor.monitor.application.port.out.CheckTriggerCallback;
+import be.wiserisk.hlabmonitor.monitor.application.port.out.ScheduleHandle;
+import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
+import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimingWheelSchedulerAdapterTest {
+
+    public static final Duration INTERVAL = Duration.ofSeconds(30);
+    public static final Duration INITIAL_DELAY = Duration.ofSeconds(7);
+    public static final String PING_TARGET_ID_STRING = "ping-1";
+    public static final Target PING_TARGET = new Target(new TargetId(PING_TARGET_ID_STRING), PING, "target", INTERVAL);
+
+    @Mock
+    private HashedTimingWheel timingWheel;
+    @Mock
+    private CheckDispatcher checkDispatcher;
+    @Mock
+    private PhaseSpreader phaseSpreader;
+    @Mock
+    private CheckTriggerCallback callback;
+    @Mock
+    private ScheduledFuture<?> scheduledFuture;
+
+    private TimingWheelSchedulerAdapter timingWheelSchedulerAdapter;
+
+    @BeforeEach
+    void setUp() {
+        timingWheelSchedulerAdapter = new TimingWheelSchedulerAdapter(timingWheel, checkDispatcher, phaseSpreader);
+    }
+
+    @Test
+    void scheduleTargetDispatchesOnEveryTick() {
+        when(phaseSpreader.initialDelay(PING_TARGET)).thenReturn(INITIAL_DELAY);
+        doReturn(scheduledFuture).when(timingWheel).scheduleAtFixedRate(ArgumentMatchers.<Consumer<Instant>>any(), eq(INITIAL_DELAY), eq(INTERVAL));
+        ArgumentCaptor<Consumer<Instant>> taskCaptor = ArgumentCaptor.captor();
+        Instant scheduledAt = Instant.parse("2026-01-01T10:00:00Z");
+
+        ScheduleHandle handle = timingWheelSchedulerAdapter.scheduleTarget(PING_TARGET, callback);
+
+        verify(timingWheel).scheduleAtFixedRate(taskCaptor.capture(), eq(INITIAL_DELAY), eq(INTERVAL));
+        taskCaptor.getValue().accept(scheduledAt);
+        verify(checkDispatcher).dispatch(PING_TARGET, callback, scheduledAt);
+        assertThat(handle.getTargetId()).isEqualTo(PING_TARGET_ID_STRING);
+        assertThat((Object) handle.getFuture()).isSameAs(scheduledFuture);
+    }
+
+    @Test
+    void rescheduleKeepsNextTickAndAppliesNewInterval() {
+        ScheduledFuture<?> rescheduledFuture = mock(ScheduledFuture.class);
+        Duration interval = Duration.ofMinutes(2);
+        when(phaseSpreader.initialDelay(PING_TARGET)).thenReturn(INITIAL_DELAY);
+        doReturn(scheduledFuture).when(timingWheel).scheduleAtFixedRate(ArgumentMatchers.<Consumer<Instant>>any(), eq(INITIAL_DELAY), eq(INTERVAL));
+        doReturn(rescheduledFuture).when(timingWheel).scheduleAtFixedRate(ArgumentMatchers.<Consumer<Instant>>any(), eq(INITIAL_DELAY), eq(interval));
+        when(scheduledFuture.isCancelled()).thenReturn(false);
+        when(scheduledFuture.isDone()).thenReturn(false);
+        when(scheduledFuture.getDelay(TimeUnit.NANOSECONDS)).thenReturn(INITIAL_DELAY.toNanos());
+        ArgumentCaptor<Consumer<Instant>> taskCaptor = ArgumentCaptor.captor();
+        Instant scheduledAt = Instant.parse("2026-01-01T10:00:00Z");
+
+        ScheduleHandle handle = timingWheelSchedulerAdapter.scheduleTarget(PING_TARGET, callback);
+        timingWheelSchedulerAdapter.reschedule(handle, interval);
+
+        verify(scheduledFuture).cancel(false);
+        verify(timingWheel).scheduleAtFixedRate(taskCaptor.capture(), eq(INITIAL_DELAY), eq(interval));
+        taskCaptor.getValue().accept(scheduledAt);
+        verify(checkDispatcher).dispatch(PING_TARGET.withInterval(interval), callback, scheduledAt);
+        assertThat((Object) handle.getFuture()).isSameAs(rescheduledFuture);
+    }
+
+    @Test
+    void unscheduleCancelsActiveHandle() {
+        when(scheduledFuture.isCancelled()).thenReturn(false);
+        when(scheduledFuture.isDone()).thenReturn(false);
+
+        timingWheelSchedulerAdapter.unschedule(new SpringScheduleHandle(PING_TARGET_ID_STRING, scheduledFuture));
+
+        verify(scheduledFuture).cancel(false);
+    }
+
+    @Test
+    void unscheduleIgnoresNullHandle() {
+        timingWheelSchedulerAdapter.unschedule(null);
+
+        verifyNoInteractions(timingWheel, checkDispatcher, phaseSpreader);
+    }
+
+    @Test
+    void closeStopsTimingWheel() {
+        timingWheelSchedulerAdapter.close();
+
+        verify(timingWheel).close();
+    }
+}
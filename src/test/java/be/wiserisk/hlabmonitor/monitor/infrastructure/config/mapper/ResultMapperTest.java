@@ -1,37 +1,63 @@
 package be.wiserisk.hlabmonitor.monitor.infrastructure.config.mapper;
 
 import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringResult;
+import be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution;
+import be.wiserisk.hlabmonitor.monitor.domain.model.CheckTimings;
+import be.wiserisk.hlabmonitor.monitor.domain.model.RollupLatency;
 import be.wiserisk.hlabmonitor.monitor.domain.model.TargetId;
 import be.wiserisk.hlabmonitor.monitor.domain.model.TargetResult;
 import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultEntity;
+import be.wiserisk.hlabmonitor.monitor.infrastructure.adapter.out.persistence.entity.ResultRollupEntity;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class ResultMapperTest {
 
     public static final Instant NOW = Instant.now();
+    public static final CheckTimings TIMINGS = new CheckTimings(Duration.ofNanos(30_500_400), Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofMillis(3));
     ResultMapper resultMapper = new ResultMapperImpl();
 
     @Test
     void mapTargetResultToResultEntity() {
-        TargetResult targetResult = new TargetResult(new TargetId("targetId"), MonitoringResult.SUCCESS, "message", NOW);
+        TargetResult targetResult = new TargetResult(new TargetId("targetId"), MonitoringResult.SUCCESS, "message", NOW, TIMINGS);
         assertThat(resultMapper.toEntity(targetResult)).isNotNull().hasNoNullFieldsOrPropertiesExcept("id").extracting("targetId", "result", "message", "checkedAt").isEqualTo(List.of("targetId", "SUCCESS", "message", NOW));
     }
 
     @Test
     void mapTargetResultToResultEntityResultNull() {
-        TargetResult targetResult = new TargetResult(new TargetId("targetId"), null, "message", NOW);
+        TargetResult targetResult = new TargetResult(new TargetId("targetId"), null, "message", NOW, TIMINGS);
         assertThat(resultMapper.toEntity(targetResult)).isNotNull().hasNoNullFieldsOrPropertiesExcept("id", "result").extracting("targetId", "message", "checkedAt").isEqualTo(List.of("targetId", "message", NOW));
     }
 
+    @Test
+    void mapTargetResultTimingsToResultEntity() {
+        TargetResult targetResult = new TargetResult(new TargetId("targetId"), MonitoringResult.SUCCESS, "message", NOW, TIMINGS);
+        assertThat(resultMapper.toEntity(targetResult)).extracting("durationMicros", "dnsMicros", "connectMicros", "tlsMicros").isEqualTo(List.of(30_500L, 1_000L, 2_000L, 3_000L));
+    }
+
+    @Test
+    void mapTargetResultWithoutTimingsToResultEntity() {
+        TargetResult targetResult = new TargetResult(new TargetId("targetId"), MonitoringResult.SUCCESS, "message", NOW);
+        assertThat(resultMapper.toEntity(targetResult)).extracting("durationMicros", "dnsMicros", "connectMicros", "tlsMicros").containsOnlyNulls();
+    }
+
+    @Test
+    void mapResultEntityTimingsToTargetResult() {
+        ResultEntity resultEntity = new ResultEntity(1L, "targetId", "SUCCESS", "message", NOW, 30_500L, null, 2_000L, null);
+        assertThat(resultMapper.toDomain(resultEntity).timings()).isEqualTo(new CheckTimings(Duration.ofNanos(30_500_000), null, Duration.ofMillis(2), null));
+    }
+
     @Test
     void mapResultEntityToTargetResult() {
         ResultEntity resultEntity = new ResultEntity(1L, "targetId", "SUCCESS", "message", NOW);
         assertThat(resultMapper.toDomain(resultEntity)).isNotNull().extracting("id", "result", "message", "checkedAt").isEqualTo(List.of(new TargetId("targetId"), MonitoringResult.SUCCESS, "message", NOW));
+        assertThat(resultMapper.toDomain(resultEntity).timings()).isNull();
     }
 
     @Test
@@ -46,4 +72,32 @@ class ResultMapperTest {
         assertThat(resultMapper.toDomain(resultEntity)).isNotNull().extracting("id", "result", "message", "checkedAt").isEqualTo(List.of(new TargetId("targetId"), MonitoringResult.UNKNOWN, "message", NOW));
     }
 
-}
\ No newline at end of file
+    @Test
+    void mapResultRollupEntityToResultRollup() {
+        ResultRollupEntity resultRollupEntity = new ResultRollupEntity("targetId", "HOUR", NOW);
+        resultRollupEntity.setSuccessCount(10L);
+        resultRollupEntity.setFailureCount(2L);
+        resultRollupEntity.setUnknownCount(1L);
+        assertThat(resultMapper.toDomain(resultRollupEntity)).isNotNull().extracting("id", "resolution", "bucketStart", "counts")
+                .isEqualTo(List.of(new TargetId("targetId"), RollupResolution.HOUR, NOW, Map.of(
+                        MonitoringResult.SUCCESS, 10L,
+                        MonitoringResult.FAILURE, 2L,
+                        MonitoringResult.WARNING, 0L,
+                        MonitoringResult.ERROR, 0L,
+                        MonitoringResult.UNKNOWN, 1L)));
+        assertThat(resultMapper.toDomain(resultRollupEntity).latency()).isNull();
+    }
+
+    @Test
+    void mapResultRollupEntityLatency() {
+        ResultRollupEntity resultRollupEntity = new ResultRollupEntity("targetId", "HOUR", NOW);
+        resultRollupEntity.setDurationCount(4L);
+        resultRollupEntity.setDurationSumMicros(10_000L);
+        resultRollupEntity.setDurationMinMicros(1_000L);
+        resultRollupEntity.setDurationMaxMicros(4_000L);
+        resultRollupEntity.setDurationP95Micros(4_000L);
+        assertThat(resultMapper.toDomain(resultRollupEntity).latency()).isEqualTo(new RollupLatency(4L,
+                Duration.ofMillis(1), Duration.ofNanos(2_500_000), Duration.ofMillis(4), Duration.ofMillis(4)));
+    }
+
+}
@@ -0,0 +1,31 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CertificateProbeProperties.DEFAULT_CACHE_MAX_AGE;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CertificateProbeProperties.DEFAULT_REFRESH_BEFORE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CertificateProbePropertiesTest {
+
+    @Test
+    void shouldApplyDefaults() {
+        CertificateProbeProperties properties = new CertificateProbeProperties(null, null, Duration.ofDays(-1));
+
+        assertThat(properties.timeout()).isEqualTo(Common.DEFAULT_TIMEOUT);
+        assertThat(properties.refreshBefore()).isEqualTo(DEFAULT_REFRESH_BEFORE);
+        assertThat(properties.cacheMaxAge()).isEqualTo(DEFAULT_CACHE_MAX_AGE);
+    }
+
+    @Test
+    void zeroCacheMaxAgeIsKept() {
+        CertificateProbeProperties properties = new CertificateProbeProperties(Duration.ofSeconds(3), Duration.ofDays(21), Duration.ZERO);
+
+        assertThat(properties.timeout()).isEqualTo(Duration.ofSeconds(3));
+        assertThat(properties.refreshBefore()).isEqualTo(Duration.ofDays(21));
+        assertThat(properties.cacheMaxAge()).isZero();
+        assertThat(properties.timeoutFor(Duration.ofSeconds(1))).isEqualTo(Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,41 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.HTTP;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CheckExecutionProperties.DEFAULT_COALESCE_WINDOW;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CheckExecutionProperties.DEFAULT_CONCURRENCY;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CheckExecutionProperties.ExecutionMode.POOL;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.CheckExecutionProperties.ExecutionMode.VIRTUAL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CheckExecutionPropertiesTest {
+
+    @Test
+    void shouldApplyDefaults() {
+        CheckExecutionProperties properties = new CheckExecutionProperties(null, null);
+
+        assertThat(properties.mode()).isEqualTo(POOL);
+        assertThat(properties.concurrencyFor(PING)).isEqualTo(DEFAULT_CONCURRENCY);
+        assertThat(properties.coalesceWindow()).isEqualTo(DEFAULT_COALESCE_WINDOW);
+    }
+
+    @Test
+    void shouldAllowDisablingCoalescing() {
+        assertThat(new CheckExecutionProperties(null, null, Duration.ZERO).coalesceWindow()).isZero();
+        assertThat(new CheckExecutionProperties(null, null, Duration.ofSeconds(-1)).coalesceWindow()).isEqualTo(DEFAULT_COALESCE_WINDOW);
+    }
+
+    @Test
+    void shouldUseConfiguredConcurrency() {
+        CheckExecutionProperties properties = new CheckExecutionProperties(VIRTUAL, Map.of(PING, 10, HTTP, 0));
+
+        assertThat(properties.mode()).isEqualTo(VIRTUAL);
+        assertThat(properties.concurrencyFor(PING)).isEqualTo(10);
+        assertThat(properties.concurrencyFor(HTTP)).isEqualTo(DEFAULT_CONCURRENCY);
+    }
+}
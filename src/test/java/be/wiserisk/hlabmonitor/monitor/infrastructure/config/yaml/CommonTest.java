@@ -1,7 +1,10 @@
 package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
 
+import be.wiserisk.hlabmonitor.monitor.domain.model.IntervalBounds;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class CommonTest {
@@ -11,4 +14,18 @@ class CommonTest {
         assertThat(Common.calculateInterval(null, null)).isNotNull().isEqualTo(Common.DEFAULT_DURATION);
     }
 
+    @Test
+    void calculateBoundsEmpty() {
+        assertThat(Common.calculateBounds(Duration.ofMinutes(1), null, "")).isNull();
+    }
+
+    @Test
+    void calculateBoundsIncludeInterval() {
+        Duration interval = Duration.ofMinutes(1);
+
+        assertThat(Common.calculateBounds(interval, "10s", "10m")).isEqualTo(new IntervalBounds(Duration.ofSeconds(10), Duration.ofMinutes(10)));
+        assertThat(Common.calculateBounds(interval, "10s", null)).isEqualTo(new IntervalBounds(Duration.ofSeconds(10), interval));
+        assertThat(Common.calculateBounds(interval, "5m", "30s")).isEqualTo(new IntervalBounds(interval, interval));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.DnsProperties.DEFAULT_CACHE_TTL;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.DnsProperties.DEFAULT_NEGATIVE_CACHE_TTL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DnsPropertiesTest {
+
+    @Test
+    void shouldApplyDefaults() {
+        DnsProperties properties = new DnsProperties(null, Duration.ofSeconds(-1));
+
+        assertThat(properties.cacheTtl()).isEqualTo(DEFAULT_CACHE_TTL);
+        assertThat(properties.negativeCacheTtl()).isEqualTo(DEFAULT_NEGATIVE_CACHE_TTL);
+    }
+
+    @Test
+    void zeroTtlIsKept() {
+        DnsProperties properties = new DnsProperties(Duration.ZERO, Duration.ZERO);
+
+        assertThat(properties.cacheTtl()).isZero();
+        assertThat(properties.negativeCacheTtl()).isZero();
+    }
+}
@@ -0,0 +1,43 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.HttpClientProperties.CheckMethod.GET;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.HttpClientProperties.CheckMethod.HEAD;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.HttpClientProperties.DEFAULT_RESPONSE_TIMEOUT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpClientPropertiesTest {
+
+    @Test
+    void shouldApplyDefaults() {
+        HttpClientProperties properties = new HttpClientProperties(null, Duration.ZERO, null, null);
+
+        assertThat(properties.connectTimeout()).isEqualTo(Common.DEFAULT_TIMEOUT);
+        assertThat(properties.responseTimeout()).isEqualTo(DEFAULT_RESPONSE_TIMEOUT);
+        assertThat(properties.version()).isEqualTo(HttpClient.Version.HTTP_2);
+        assertThat(properties.method()).isEqualTo(HEAD);
+    }
+
+    @Test
+    void shouldKeepConfiguredValues() {
+        HttpClientProperties properties = new HttpClientProperties(Duration.ofSeconds(2), Duration.ofSeconds(20), HttpClient.Version.HTTP_1_1, GET);
+
+        assertThat(properties.connectTimeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(properties.responseTimeout()).isEqualTo(Duration.ofSeconds(20));
+        assertThat(properties.version()).isEqualTo(HttpClient.Version.HTTP_1_1);
+        assertThat(properties.method()).isEqualTo(GET);
+    }
+
+    @Test
+    void responseTimeoutIsBoundedByInterval() {
+        HttpClientProperties properties = new HttpClientProperties(null, Duration.ofSeconds(10), null, null);
+
+        assertThat(properties.responseTimeoutFor(Duration.ofSeconds(3))).isEqualTo(Duration.ofSeconds(3));
+        assertThat(properties.responseTimeoutFor(Duration.ofMinutes(1))).isEqualTo(Duration.ofSeconds(10));
+        assertThat(properties.responseTimeoutFor(null)).isEqualTo(Duration.ofSeconds(10));
+    }
+}
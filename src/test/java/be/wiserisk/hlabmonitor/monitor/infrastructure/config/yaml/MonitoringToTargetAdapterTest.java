@@ -1,6 +1,8 @@
 package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
 
 import be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType;
+import be.wiserisk.hlabmonitor.monitor.domain.model.ExpiryThresholds;
+import be.wiserisk.hlabmonitor.monitor.domain.model.IntervalBounds;
 import be.wiserisk.hlabmonitor.monitor.domain.model.Target;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,7 @@ import java.util.Map;
 
 import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 class MonitoringToTargetAdapterTest {
 
@@ -269,5 +272,36 @@ class MonitoringToTargetAdapterTest {
                     .orElseThrow();
             assertThat(certTarget.interval()).isEqualTo(certInterval);
         }
+
+        @Test
+        void shouldUseCertificateExpiryThresholds() {
+            Certificate cert = new Certificate("1d", "30d", "10d");
+            Map<String, Http> https = new HashMap<>();
+            https.put("https1", new Http("https://secure.com", Duration.ofSeconds(60), true, cert));
+
+            List<Target> result = adapter.extractTargets(new Monitoring(null, https));
+
+            Target certTarget = result.stream()
+                    .filter(t -> t.type() == MonitoringType.CERTIFICATE)
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(certTarget.expiryThresholds()).isEqualTo(new ExpiryThresholds(Duration.ofDays(30), Duration.ofDays(10)));
+        }
+
+        @Test
+        void shouldUseIntervalBounds() {
+            Map<String, Ping> pings = new HashMap<>();
+            pings.put("ping1", new Ping("192.168.1.1", "1m", "10s", "10m"));
+            Map<String, Http> https = new HashMap<>();
+            https.put("http1", new Http("example.com", "1m", false, null, null, "5m"));
+
+            List<Target> result = adapter.extractTargets(new Monitoring(pings, https));
+
+            assertThat(result)
+                    .extracting(Target::type, Target::intervalBounds)
+                    .containsExactlyInAnyOrder(
+                            tuple(PING, new IntervalBounds(Duration.ofSeconds(10), Duration.ofMinutes(10))),
+                            tuple(MonitoringType.HTTP, new IntervalBounds(Duration.ofMinutes(1), Duration.ofMinutes(5))));
+        }
     }
 }
\ No newline at end of file
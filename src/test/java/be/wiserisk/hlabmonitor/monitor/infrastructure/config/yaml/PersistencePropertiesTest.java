@@ -0,0 +1,67 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.HTTP;
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.MonitoringType.PING;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.PersistenceProperties.BackpressurePolicy.BLOCK;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.PersistenceProperties.BackpressurePolicy.DROP;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.PersistenceProperties.WriteBehind.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistencePropertiesTest {
+
+    @Test
+    void shouldApplyDefaultsWhenWriteBehindIsMissing() {
+        PersistenceProperties persistenceProperties = new PersistenceProperties(null, null);
+
+        assertThat(persistenceProperties.writeBehind())
+                .extracting("queueCapacity", "batchSize", "flushInterval", "shutdownTimeout", "backpressure")
+                .containsExactly(DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL, DEFAULT_SHUTDOWN_TIMEOUT, BLOCK);
+    }
+
+    @Test
+    void shouldReplaceInvalidValuesWithDefaults() {
+        PersistenceProperties.WriteBehind writeBehind = new PersistenceProperties.WriteBehind(0, -1, Duration.ZERO, null, null);
+
+        assertThat(writeBehind)
+                .extracting("queueCapacity", "batchSize", "flushInterval")
+                .containsExactly(DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    @Test
+    void shouldKeepConfiguredValues() {
+        PersistenceProperties.WriteBehind writeBehind = new PersistenceProperties.WriteBehind(
+                50, 10, Duration.ofMillis(200), Duration.ofSeconds(3), DROP);
+
+        assertThat(writeBehind)
+                .extracting("queueCapacity", "batchSize", "flushInterval", "shutdownTimeout", "backpressure")
+                .containsExactly(50, 10, Duration.ofMillis(200), Duration.ofSeconds(3), DROP);
+    }
+
+    @Test
+    void shouldApplyRetentionDefaults() {
+        PersistenceProperties.Retention retention = new PersistenceProperties(null, null).retention();
+
+        assertThat(retention)
+                .extracting("maxAge", "types", "targets", "interval", "chunkSize", "pause")
+                .containsExactly(PersistenceProperties.Retention.DEFAULT_MAX_AGE, Map.of(), Map.of(),
+                        PersistenceProperties.Retention.DEFAULT_INTERVAL, PersistenceProperties.Retention.DEFAULT_CHUNK_SIZE, PersistenceProperties.Retention.DEFAULT_PAUSE);
+    }
+
+    @Test
+    void shouldResolveRetentionFromTargetThenTypeThenDefault() {
+        PersistenceProperties.Retention retention = new PersistenceProperties.Retention(
+                Duration.ofDays(30), Map.of(PING, Duration.ofDays(7)), Map.of("gateway", Duration.ofDays(365)), null, null, null);
+
+        assertThat(retention.retentionFor("gateway", PING)).isEqualTo(Duration.ofDays(365));
+        assertThat(retention.retentionFor("router", PING)).isEqualTo(Duration.ofDays(7));
+        assertThat(retention.retentionFor("website", HTTP)).isEqualTo(Duration.ofDays(30));
+        assertThat(retention.isOverridden("gateway", HTTP)).isTrue();
+        assertThat(retention.isOverridden("router", PING)).isTrue();
+        assertThat(retention.isOverridden("website", HTTP)).isFalse();
+    }
+}
@@ -0,0 +1,41 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.ReachabilityProperties.DEFAULT_PORTS;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.ReachabilityProperties.ReachabilityMethod.ICMP;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.ReachabilityProperties.ReachabilityMethod.TCP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReachabilityPropertiesTest {
+
+    @Test
+    void shouldApplyDefaults() {
+        ReachabilityProperties properties = new ReachabilityProperties(null, null, null);
+
+        assertThat(properties.method()).isEqualTo(TCP);
+        assertThat(properties.ports()).isEqualTo(DEFAULT_PORTS);
+        assertThat(properties.timeout()).isEqualTo(Common.DEFAULT_TIMEOUT);
+    }
+
+    @Test
+    void shouldDropInvalidPorts() {
+        ReachabilityProperties properties = new ReachabilityProperties(ICMP, List.of(22, 0, 70000, 22, 8080), Duration.ofSeconds(2));
+
+        assertThat(properties.method()).isEqualTo(ICMP);
+        assertThat(properties.ports()).containsExactly(22, 8080);
+        assertThat(properties.timeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(new ReachabilityProperties(null, List.of(0), null).ports()).isEqualTo(DEFAULT_PORTS);
+    }
+
+    @Test
+    void timeoutIsBoundedByInterval() {
+        ReachabilityProperties properties = new ReachabilityProperties(null, null, Duration.ofSeconds(5));
+
+        assertThat(properties.timeoutFor(Duration.ofSeconds(2))).isEqualTo(Duration.ofSeconds(2));
+        assertThat(properties.timeoutFor(Duration.ofMinutes(1))).isEqualTo(Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,44 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static be.wiserisk.hlabmonitor.monitor.domain.enums.RollupResolution.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RollupPropertiesTest {
+
+    @Test
+    void shouldApplyDefaults() {
+        RollupProperties properties = new RollupProperties(null, null, null);
+
+        assertThat(properties.interval()).isEqualTo(RollupProperties.DEFAULT_INTERVAL);
+        assertThat(properties.lag()).isEqualTo(RollupProperties.DEFAULT_LAG);
+        assertThat(properties.retention().of(MINUTE)).isEqualTo(RollupProperties.Retention.DEFAULT_MINUTE);
+        assertThat(properties.retention().of(HOUR)).isEqualTo(RollupProperties.Retention.DEFAULT_HOUR);
+        assertThat(properties.retention().of(DAY)).isZero();
+    }
+
+    @Test
+    void shouldReplaceInvalidValues() {
+        RollupProperties properties = new RollupProperties(Duration.ZERO, Duration.ofMinutes(-1), new RollupProperties.Retention(Duration.ofDays(-1), Duration.ZERO, Duration.ofDays(-1)));
+
+        assertThat(properties.interval()).isEqualTo(RollupProperties.DEFAULT_INTERVAL);
+        assertThat(properties.lag()).isEqualTo(RollupProperties.DEFAULT_LAG);
+        assertThat(properties.retention().of(MINUTE)).isEqualTo(RollupProperties.Retention.DEFAULT_MINUTE);
+        assertThat(properties.retention().of(HOUR)).isZero();
+        assertThat(properties.retention().of(DAY)).isZero();
+    }
+
+    @Test
+    void shouldUseConfiguredValues() {
+        RollupProperties properties = new RollupProperties(Duration.ofSeconds(30), Duration.ZERO, new RollupProperties.Retention(Duration.ofDays(1), Duration.ofDays(30), Duration.ofDays(3650)));
+
+        assertThat(properties.interval()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(properties.lag()).isZero();
+        assertThat(properties.retention().of(MINUTE)).isEqualTo(Duration.ofDays(1));
+        assertThat(properties.retention().of(HOUR)).isEqualTo(Duration.ofDays(30));
+        assertThat(properties.retention().of(DAY)).isEqualTo(Duration.ofDays(3650));
+    }
+}
@@ -0,0 +1,36 @@
+package be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.SchedulerProperties.*;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.SchedulerProperties.SchedulerType.POOL;
+import static be.wiserisk.hlabmonitor.monitor.infrastructure.config.yaml.SchedulerProperties.SchedulerType.TIMING_WHEEL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchedulerPropertiesTest {
+
+    @Test
+    void shouldApplyDefaults() {
+        SchedulerProperties schedulerProperties = new SchedulerProperties(null, null, null, null, null, null);
+
+        assertThat(schedulerProperties)
+                .extracting("type", "tickDuration", "wheelSize", "phaseSpread", "jitter", "overdueRatio")
+                .containsExactly(POOL, DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE, true, Duration.ZERO, DEFAULT_OVERDUE_RATIO);
+    }
+
+    @Test
+    void shouldKeepConfiguredValues() {
+        SchedulerProperties schedulerProperties = new SchedulerProperties(TIMING_WHEEL, Duration.ofMillis(50), 1024, false, Duration.ofSeconds(5), 3.0);
+
+        assertThat(schedulerProperties)
+                .extracting("type", "tickDuration", "wheelSize", "phaseSpread", "jitter", "overdueRatio")
+                .containsExactly(TIMING_WHEEL, Duration.ofMillis(50), 1024, false, Duration.ofSeconds(5), 3.0);
+    }
+
+    @Test
+    void shouldRejectOverdueRatioNotAboveOne() {
+        assertThat(new SchedulerProperties(null, null, null, null, null, 0.5).overdueRatio()).isEqualTo(DEFAULT_OVERDUE_RATIO);
+    }
+}